@@ -0,0 +1,79 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import uk.gov.hmcts.opal.logging.integration.Application;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+
+@SpringBootTest(classes = Application.class)
+class PdpoSyncCompressionIntegrationTest {
+
+    private static final String PDPO_ENDPOINT = "/log/pdpo";
+
+    @RegisterExtension
+    static final WireMockExtension WIREMOCK = WireMockExtension.newInstance()
+        .options(WireMockConfiguration.wireMockConfig().dynamicPort())
+        .build();
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("logging-service.pdpl.sync.base-url", () -> WIREMOCK.getRuntimeInfo().getHttpBaseUrl());
+        registry.add("logging-service.pdpl.sync.endpoint", () -> PDPO_ENDPOINT);
+        registry.add("logging-service.pdpl.sync.compression.enabled", () -> "true");
+        registry.add("logging-service.pdpl.sync.compression.min-request-size", () -> "1KB");
+    }
+
+    private final LoggingService loggingService;
+
+    PdpoSyncCompressionIntegrationTest(@Autowired LoggingService loggingService) {
+        this.loggingService = loggingService;
+    }
+
+    @Test
+    void shouldPostGzippedBodyThatDecompressesToTheLog() {
+        WIREMOCK.stubFor(post(urlEqualTo(PDPO_ENDPOINT)).willReturn(aResponse().withStatus(201)));
+
+        boolean result = loggingService.personalDataAccessLogSync(detailsWithIndividuals(100));
+
+        assertThat(result).isTrue();
+        // WireMock inflates gzip request bodies before matching them.
+        WIREMOCK.verify(1, postRequestedFor(urlEqualTo(PDPO_ENDPOINT))
+            .withHeader("Content-Encoding", equalTo("gzip"))
+            .withRequestBody(matchingJsonPath("$.business_identifier", equalTo("BUS-123")))
+            .withRequestBody(matchingJsonPath("$.individuals[99].id", equalTo("individual-99"))));
+    }
+
+    private PersonalDataProcessingLogDetails detailsWithIndividuals(int count) {
+        List<ParticipantIdentifier> individuals = IntStream.range(0, count)
+            .mapToObj(index -> ParticipantIdentifier.builder().identifier("individual-" + index).build())
+            .toList();
+
+        return PersonalDataProcessingLogDetails.builder()
+            .createdBy(ParticipantIdentifier.builder().identifier("creator-1").build())
+            .businessIdentifier("BUS-123")
+            .createdAt(OffsetDateTime.parse("2025-01-10T12:34:56.789Z"))
+            .ipAddress("192.0.2.1")
+            .category(PersonalDataProcessingCategory.COLLECTION)
+            .individuals(individuals)
+            .build();
+    }
+}
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import uk.gov.hmcts.opal.logging.integration.Application;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+
+@SpringBootTest(classes = Application.class)
+class PdpoSyncMicroBatchIntegrationTest {
+
+    private static final String BATCH_ENDPOINT = "/log/pdpo/batch";
+
+    @RegisterExtension
+    static final WireMockExtension WIREMOCK = WireMockExtension.newInstance()
+        .options(WireMockConfiguration.wireMockConfig().dynamicPort())
+        .build();
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("logging-service.pdpl.sync.base-url", () -> WIREMOCK.getRuntimeInfo().getHttpBaseUrl());
+        registry.add("logging-service.pdpl.sync.max-attempts", () -> "1");
+        registry.add("logging-service.pdpl.sync.batch.enabled", () -> "true");
+        registry.add("logging-service.pdpl.sync.batch.window", () -> "PT5S");
+        registry.add("logging-service.pdpl.sync.batch.max-batch-size", () -> "3");
+    }
+
+    private final LoggingService loggingService;
+
+    PdpoSyncMicroBatchIntegrationTest(@Autowired LoggingService loggingService) {
+        this.loggingService = loggingService;
+    }
+
+    @Test
+    void shouldCoalesceConcurrentSyncCallsIntoOneBulkRequest() {
+        WIREMOCK.stubFor(post(urlEqualTo(BATCH_ENDPOINT))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("[{\"status\":201},{\"status\":201},{\"status\":201}]")));
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Boolean>> results = IntStream.range(0, 3)
+                .mapToObj(index -> CompletableFuture.supplyAsync(
+                    () -> loggingService.personalDataAccessLogSync(sampleDetails("BUS-" + index)), callers))
+                .toList();
+
+            assertThat(results).extracting(CompletableFuture::join).containsOnly(true);
+        }
+        WIREMOCK.verify(1, postRequestedFor(urlEqualTo(BATCH_ENDPOINT)));
+    }
+
+    private PersonalDataProcessingLogDetails sampleDetails(String businessIdentifier) {
+        return PersonalDataProcessingLogDetails.builder()
+            .businessIdentifier(businessIdentifier)
+            .createdAt(OffsetDateTime.parse("2025-01-10T12:34:56.789Z"))
+            .category(PersonalDataProcessingCategory.COLLECTION)
+            .build();
+    }
+}
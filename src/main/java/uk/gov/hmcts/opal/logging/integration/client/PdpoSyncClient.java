@@ -1,10 +1,13 @@
 package uk.gov.hmcts.opal.logging.integration.client;
 
+import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import uk.gov.hmcts.opal.logging.integration.client.config.PdpoSyncFeignConfig;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoBatchItemResult;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
 
 @FeignClient(
@@ -14,6 +17,18 @@ import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetail
 )
 public interface PdpoSyncClient {
 
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     @PostMapping("${logging-service.pdpl.sync.endpoint:/log/pdpo}")
     ResponseEntity<Void> logPdpo(@RequestBody PersonalDataProcessingLogDetails logDetails);
+
+    /**
+     * Sends the log with an idempotency key, so the logging service can discard a duplicate sent as a hedge.
+     */
+    @PostMapping("${logging-service.pdpl.sync.endpoint:/log/pdpo}")
+    ResponseEntity<Void> logPdpo(@RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+                                 @RequestBody PersonalDataProcessingLogDetails logDetails);
+
+    @PostMapping("${logging-service.pdpl.sync.batch.endpoint:/log/pdpo/batch}")
+    List<PdpoBatchItemResult> logPdpoBatch(@RequestBody List<PersonalDataProcessingLogDetails> logDetails);
 }
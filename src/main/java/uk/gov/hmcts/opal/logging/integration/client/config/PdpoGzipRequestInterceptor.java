@@ -0,0 +1,121 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import org.springframework.http.HttpHeaders;
+import uk.gov.hmcts.opal.logging.integration.client.PdpoSyncClient;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncCompressionProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+
+/**
+ * Gzips {@link PdpoSyncClient} request bodies of at least {@code compression.min-request-size} and sets
+ * {@code Content-Encoding: gzip}. Deflaters and their output buffers are pooled, so a request only
+ * allocates the compressed body itself. Requests for other Feign clients are left untouched.
+ */
+class PdpoGzipRequestInterceptor implements RequestInterceptor {
+
+    static final String GZIP = "gzip";
+
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+    private final ReloadableProperties<PdpoSyncCompressionProperties> tuning;
+    private final BlockingQueue<GzipCompressor> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    PdpoGzipRequestInterceptor(ReloadableProperties<PdpoSyncCompressionProperties> tuning) {
+        this.tuning = tuning;
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        PdpoSyncCompressionProperties properties = tuning.get();
+        byte[] body = template.body();
+        // Feign runs interceptors again on every retry of the same template; the header marks it as done.
+        if (!properties.enabled()
+            || !isPdpoTarget(template)
+            || body == null
+            || body.length < properties.minRequestSize().toBytes()
+            || template.headers().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return;
+        }
+        template.body(compress(body), null);
+        template.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+    }
+
+    byte[] compress(byte[] body) {
+        GzipCompressor compressor = pool.poll();
+        if (compressor == null) {
+            compressor = new GzipCompressor();
+        }
+        try {
+            return compressor.compress(body);
+        } finally {
+            if (!pool.offer(compressor)) {
+                compressor.close();
+            }
+        }
+    }
+
+    private static boolean isPdpoTarget(RequestTemplate template) {
+        return template.feignTarget() != null && template.feignTarget().type() == PdpoSyncClient.class;
+    }
+
+    /**
+     * Writes the gzip member format (RFC 1952) around a raw deflate stream, reusing one deflater and one
+     * growable output buffer.
+     */
+    private static final class GzipCompressor {
+        private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+        private static final int INITIAL_BUFFER = 8 * 1024;
+        private static final int MAX_RETAINED_BUFFER = 256 * 1024;
+        private static final int TRAILER = 8;
+
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final CRC32 crc = new CRC32();
+        private byte[] buffer = new byte[INITIAL_BUFFER];
+
+        byte[] compress(byte[] input) {
+            deflater.reset();
+            crc.reset();
+            crc.update(input);
+            System.arraycopy(HEADER, 0, buffer, 0, HEADER.length);
+            int size = HEADER.length;
+
+            deflater.setInput(input);
+            deflater.finish();
+            while (!deflater.finished()) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                size += deflater.deflate(buffer, size, buffer.length - size);
+            }
+            if (size + TRAILER > buffer.length) {
+                buffer = Arrays.copyOf(buffer, size + TRAILER);
+            }
+            size = writeIntLe(buffer, size, (int) crc.getValue());
+            size = writeIntLe(buffer, size, input.length);
+
+            byte[] compressed = Arrays.copyOf(buffer, size);
+            if (buffer.length > MAX_RETAINED_BUFFER) {
+                buffer = new byte[INITIAL_BUFFER];
+            }
+            return compressed;
+        }
+
+        void close() {
+            deflater.end();
+        }
+
+        private static int writeIntLe(byte[] target, int offset, int value) {
+            target[offset] = (byte) value;
+            target[offset + 1] = (byte) (value >>> 8);
+            target[offset + 2] = (byte) (value >>> 16);
+            target[offset + 3] = (byte) (value >>> 24);
+            return offset + 4;
+        }
+    }
+}
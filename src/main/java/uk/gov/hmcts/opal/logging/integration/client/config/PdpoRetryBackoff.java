@@ -0,0 +1,82 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBackoffProperties;
+
+/**
+ * Computes how long to wait before retrying a synchronous PDPO call. A {@code Retry-After} from the
+ * logging service is honoured; otherwise the delay grows exponentially from {@code retry-delay} with
+ * random jitter, so clients that failed together do not retry together. Both are capped at
+ * {@code backoff.max-delay}.
+ */
+public final class PdpoRetryBackoff {
+
+    static final long DEFAULT_DELAY_MILLIS = 1000L;
+
+    private final long initialDelayMillis;
+    private final PdpoSyncBackoffProperties properties;
+    private final Clock clock;
+
+    public PdpoRetryBackoff(Duration retryDelay, PdpoSyncBackoffProperties properties) {
+        this(retryDelay, properties, Clock.systemUTC());
+    }
+
+    PdpoRetryBackoff(Duration retryDelay, PdpoSyncBackoffProperties properties, Clock clock) {
+        this.initialDelayMillis = retryDelay == null || retryDelay.toMillis() <= 0
+            ? DEFAULT_DELAY_MILLIS
+            : retryDelay.toMillis();
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Delay before the given retry.
+     *
+     * @param retry 1 for the first retry, 2 for the second, and so on.
+     * @param retryAfterEpochMillis instant the server asked the client to wait until, or {@code null}.
+     */
+    public Duration delay(int retry, Long retryAfterEpochMillis) {
+        long maxMillis = properties.maxDelay().toMillis();
+        if (retryAfterEpochMillis != null) {
+            long requested = Math.max(0L, retryAfterEpochMillis - clock.millis());
+            return Duration.ofMillis(Math.min(requested, maxMillis));
+        }
+        double exponential = initialDelayMillis * Math.pow(properties.multiplier(), Math.max(0, retry - 1));
+        long capped = (long) Math.min(exponential, maxMillis);
+        long jitterMillis = (long) (capped * properties.jitter());
+        return Duration.ofMillis(capped - ThreadLocalRandom.current().nextLong(jitterMillis + 1));
+    }
+
+    /**
+     * Parses a {@code Retry-After} header given either as delay seconds or as an HTTP date.
+     *
+     * @return the instant to retry at in epoch milliseconds, or {@code null} if absent or malformed.
+     */
+    public static Long parseRetryAfter(String value) {
+        return parseRetryAfter(value, Clock.systemUTC());
+    }
+
+    static Long parseRetryAfter(String value, Clock clock) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.chars().allMatch(Character::isDigit)) {
+            try {
+                return clock.millis() + Duration.ofSeconds(Long.parseLong(trimmed)).toMillis();
+            } catch (NumberFormatException | ArithmeticException ex) {
+                return null;
+            }
+        }
+        try {
+            return ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
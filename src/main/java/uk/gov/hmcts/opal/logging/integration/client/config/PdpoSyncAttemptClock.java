@@ -0,0 +1,60 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Remembers when the current thread last started a PDPO HTTP attempt. Feign hides its retries from the
+ * caller, so this is how a caller tells the round-trip time of the final attempt apart from the time spent
+ * waiting between attempts.
+ *
+ * <p>It also carries the start of a call made of several Feign requests, such as a hedged call, so that
+ * {@link PdpoSyncRetryer} measures {@code latency.deadline} from there rather than from each request.
+ */
+public final class PdpoSyncAttemptClock {
+
+    private static final ThreadLocal<long[]> LAST_STARTED = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<Long> CALL_STARTED = new ThreadLocal<>();
+
+    private PdpoSyncAttemptClock() {
+    }
+
+    static void attemptStarted(long startedNanos) {
+        LAST_STARTED.get()[0] = startedNanos;
+    }
+
+    /**
+     * Start of the last attempt made on this thread since {@code callStartedNanos}, or
+     * {@code callStartedNanos} if none was made since then.
+     */
+    public static long lastAttemptStarted(long callStartedNanos) {
+        long lastStarted = LAST_STARTED.get()[0];
+        return lastStarted - callStartedNanos > 0 ? lastStarted : callStartedNanos;
+    }
+
+    /**
+     * Makes the PDPO requests of {@code call} on this thread measure their deadline from
+     * {@code callStartedNanos}.
+     */
+    public static <T> T callStartedAt(long callStartedNanos, Supplier<T> call) {
+        Long previous = CALL_STARTED.get();
+        CALL_STARTED.set(callStartedNanos);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                CALL_STARTED.remove();
+            } else {
+                CALL_STARTED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Start of the call the current request belongs to, or {@code nowNanos} outside
+     * {@link #callStartedAt(long, Supplier)}.
+     */
+    static long callStarted(long nowNanos) {
+        Long callStarted = CALL_STARTED.get();
+        return callStarted == null ? nowNanos : callStarted;
+    }
+}
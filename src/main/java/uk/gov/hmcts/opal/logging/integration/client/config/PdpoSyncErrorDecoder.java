@@ -0,0 +1,108 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.ErrorDecoder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncDiagnosticsProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+
+/**
+ * Turns PDPO error responses into exceptions by status code alone. {@code 429} and {@code 5xx} become
+ * retryable and carry the server's {@code Retry-After}; anything else fails straight away.
+ *
+ * <p>Only the first {@code diagnostics.max-logged-body-length} bytes of the body are read. Unless
+ * {@code diagnostics.capture-stack-traces} is set, the exceptions carry no stack trace: Feign's retryer
+ * needs an exception to retry, but a storm of error responses should not pay for stack walking.
+ *
+ * <p>Each non-2xx response therefore still costs one exception allocation. Returning the raw
+ * {@link Response} and classifying it with {@link PdpoSyncStatus} would avoid that, but Feign skips both
+ * the decoder and the retryer for such methods, so retries, {@code Retry-After} and the deadline would
+ * have to be reimplemented around the client.
+ */
+class PdpoSyncErrorDecoder implements ErrorDecoder {
+
+    private final ReloadableProperties<PdpoSyncDiagnosticsProperties> tuning;
+
+    PdpoSyncErrorDecoder(ReloadableProperties<PdpoSyncDiagnosticsProperties> tuning) {
+        this.tuning = tuning;
+    }
+
+    @Override
+    public Exception decode(String methodKey, Response response) {
+        PdpoSyncDiagnosticsProperties properties = tuning.get();
+        int status = response.status();
+        Request request = response.request();
+        if (PdpoSyncStatus.isRetryable(status)) {
+            String message = "Retryable PDPO response status=" + status;
+            Long retryAfter = PdpoRetryBackoff.parseRetryAfter(firstHeader(response, HttpHeaders.RETRY_AFTER));
+            return properties.captureStackTraces()
+                ? new RetryableException(status, message, request.httpMethod(), retryAfter, request)
+                : new StacklessRetryableException(status, message, request.httpMethod(), retryAfter, request);
+        }
+        String message = "Rejected PDPO response status=" + status;
+        byte[] body = readBody(response, properties.maxLoggedBodyLength());
+        return properties.captureStackTraces()
+            ? new RejectedResponseException(status, message, request, body, response.headers())
+            : new StacklessRejectedResponseException(status, message, request, body, response.headers());
+    }
+
+    private static String firstHeader(Response response, String name) {
+        return response.headers().getOrDefault(name, List.of()).stream().findFirst().orElse(null);
+    }
+
+    private static byte[] readBody(Response response, int maxLength) {
+        if (response.body() == null || maxLength == 0) {
+            return new byte[0];
+        }
+        try (InputStream body = response.body().asInputStream()) {
+            return body.readNBytes(maxLength);
+        } catch (IOException ex) {
+            return new byte[0];
+        }
+    }
+
+    static final class StacklessRetryableException extends RetryableException {
+        private static final long serialVersionUID = 1L;
+
+        StacklessRetryableException(int status, String message, Request.HttpMethod httpMethod, Long retryAfter,
+                                    Request request) {
+            super(status, message, httpMethod, retryAfter, request);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    static class RejectedResponseException extends FeignException {
+        private static final long serialVersionUID = 1L;
+
+        RejectedResponseException(int status, String message, Request request, byte[] body,
+                                  Map<String, Collection<String>> headers) {
+            super(status, message, request, body, headers);
+        }
+    }
+
+    static final class StacklessRejectedResponseException extends RejectedResponseException {
+        private static final long serialVersionUID = 1L;
+
+        StacklessRejectedResponseException(int status, String message, Request request, byte[] body,
+                                           Map<String, Collection<String>> headers) {
+            super(status, message, request, body, headers);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package uk.gov.hmcts.opal.logging.integration.client.config;
 
+import feign.Capability;
+import feign.Client;
 import feign.Request;
-import feign.RetryableException;
+import feign.RequestInterceptor;
 import feign.Retryer;
+import feign.codec.Encoder;
 import feign.codec.ErrorDecoder;
-import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Bean;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBackoffProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncCompressionProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncDiagnosticsProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncLatencyProperties;
 import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings;
 
 @Configuration
 public class PdpoSyncFeignConfig {
@@ -22,38 +32,48 @@ public class PdpoSyncFeignConfig {
     }
 
     @Bean
-    public Retryer pdpoSyncRetryer(PdpoSyncProperties properties) {
-        long delayMillis = toMillisOrDefault(properties.retryDelay(), 1000L);
-        return new Retryer.Default(
-            delayMillis,
-            delayMillis,
-            properties.maxAttempts()
-        );
+    public Retryer pdpoSyncRetryer(ReloadableProperties<PdpoSyncProperties> pdpoSyncTuning,
+                                   ReloadableProperties<PdpoSyncLatencyProperties> pdpoSyncLatencyTuning,
+                                   ReloadableProperties<PdpoSyncBackoffProperties> pdpoSyncBackoffTuning,
+                                   PdpoMetrics pdpoMetrics) {
+        return new PdpoSyncRetryer(pdpoSyncTuning, pdpoSyncLatencyTuning, pdpoSyncBackoffTuning, pdpoMetrics);
     }
 
     @Bean
-    public ErrorDecoder pdpoSyncErrorDecoder() {
-        ErrorDecoder defaultDecoder = new ErrorDecoder.Default();
-        return (methodKey, response) -> {
-            int status = response.status();
-            if (status >= 500 || status == 429) {
-                return new RetryableException(
-                    status,
-                    "Retryable PDPO response status=" + status,
-                    response.request().httpMethod(),
-                    (Long) null,
-                    response.request()
-                );
+    public Capability pdpoSyncTuningCapability(ReloadableProperties<PdpoSyncProperties> pdpoSyncTuning,
+                                               ObjectProvider<PdpoSyncHttpEngine> pdpoSyncHttpEngine,
+                                               PdpoMetrics pdpoMetrics) {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                PdpoSyncHttpEngine engine = pdpoSyncHttpEngine.getIfAvailable();
+                return new PdpoTunedClient(client, engine == null ? client : engine.client(), pdpoSyncTuning,
+                    pdpoMetrics);
+            }
+
+            @Override
+            public Encoder enrich(Encoder encoder) {
+                return (object, bodyType, template) -> {
+                    long started = PdpoStageTimings.start();
+                    try {
+                        encoder.encode(object, bodyType, template);
+                    } finally {
+                        PdpoStageTimings.record(PdpoStageTimings.Stage.SERIALISATION, started);
+                    }
+                };
             }
-            return defaultDecoder.decode(methodKey, response);
         };
     }
 
-    private long toMillisOrDefault(Duration duration, long fallbackMillis) {
-        if (duration == null) {
-            return fallbackMillis;
-        }
-        long millis = duration.toMillis();
-        return millis > 0 ? millis : fallbackMillis;
+    @Bean
+    public RequestInterceptor pdpoSyncGzipRequestInterceptor(
+        ReloadableProperties<PdpoSyncCompressionProperties> pdpoSyncCompressionTuning) {
+        return new PdpoGzipRequestInterceptor(pdpoSyncCompressionTuning);
+    }
+
+    @Bean
+    public ErrorDecoder pdpoSyncErrorDecoder(
+        ReloadableProperties<PdpoSyncDiagnosticsProperties> pdpoSyncDiagnosticsTuning) {
+        return new PdpoSyncErrorDecoder(pdpoSyncDiagnosticsTuning);
     }
 }
@@ -0,0 +1,101 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+
+/**
+ * HTTP engine dedicated to {@code PdpoSyncClient} requests, together with the resources it owns.
+ * Once the application is ready the engine opens {@code prewarm-connections} connections to the logging
+ * service in the background, so the first PDPO calls do not pay for TCP and TLS setup.
+ */
+@Slf4j
+public class PdpoSyncHttpEngine implements DisposableBean {
+
+    private final String name;
+    private final Client client;
+    private final AutoCloseable resources;
+    private final int prewarmConnections;
+    private final ReloadableProperties<PdpoSyncProperties> tuning;
+
+    public PdpoSyncHttpEngine(String name,
+                              Client client,
+                              AutoCloseable resources,
+                              int prewarmConnections,
+                              ReloadableProperties<PdpoSyncProperties> tuning) {
+        this.name = name;
+        this.client = client;
+        this.resources = resources;
+        this.prewarmConnections = prewarmConnections;
+        this.tuning = tuning;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Client client() {
+        return client;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (prewarmConnections > 0) {
+            Thread.ofVirtual().name("pdpo-sync-prewarm").start(this::prewarm);
+        }
+    }
+
+    /**
+     * Opens connections to the logging service by sending concurrent {@code HEAD} requests to its base URL.
+     * Any HTTP response counts, because the connection is kept in the pool either way.
+     *
+     * @return number of requests that received a response.
+     */
+    public int prewarm() {
+        PdpoSyncProperties properties = tuning.get();
+        Request.Options options = new Request.Options(properties.connectTimeout(), properties.readTimeout(), false);
+        AtomicInteger warmed = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.allOf(IntStream.range(0, prewarmConnections)
+                .mapToObj(ignored -> CompletableFuture.runAsync(() -> {
+                    if (warm(properties.baseUrl(), options)) {
+                        warmed.incrementAndGet();
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new))
+                .join();
+        }
+        log.info("Pre-warmed {}/{} {} connections to {}", warmed.get(), prewarmConnections, name,
+            properties.baseUrl());
+        return warmed.get();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        resources.close();
+    }
+
+    private boolean warm(String baseUrl, Request.Options options) {
+        Request request = Request.create(Request.HttpMethod.HEAD, baseUrl, Map.of(), null,
+            StandardCharsets.UTF_8, null);
+        try (Response ignored = client.execute(request, options)) {
+            return true;
+        } catch (Exception ex) {
+            log.debug("Unable to pre-warm connection to {}", baseUrl, ex);
+            return false;
+        }
+    }
+}
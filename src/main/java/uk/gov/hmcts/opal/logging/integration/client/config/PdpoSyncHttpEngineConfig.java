@@ -0,0 +1,70 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import java.net.http.HttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncHttpClientProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+
+/**
+ * Builds the HTTP engine selected by {@code logging-service.pdpl.sync.http-client.engine}. The engine is
+ * only used for {@code PdpoSyncClient} requests (see {@link PdpoTunedClient}); other Feign clients in the
+ * host application keep their own engine.
+ */
+@Configuration
+public class PdpoSyncHttpEngineConfig {
+
+    static final String ENGINE_PROPERTY = "logging-service.pdpl.sync.http-client.engine";
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(ApacheHttp5Client.class)
+    @ConditionalOnProperty(name = ENGINE_PROPERTY, havingValue = "pooled")
+    static class Pooled {
+
+        @Bean
+        PdpoSyncHttpEngine pdpoSyncHttpEngine(PdpoSyncHttpClientProperties properties,
+                                              ReloadableProperties<PdpoSyncProperties> pdpoSyncTuning) {
+            PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxConnections())
+                .setMaxConnPerRoute(properties.maxConnectionsPerRoute())
+                .build();
+            TimeValue keepAlive = TimeValue.of(properties.keepAlive());
+            CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictIdleConnections(TimeValue.of(properties.idleEviction()))
+                .evictExpiredConnections()
+                .disableRedirectHandling()
+                .build();
+            return new PdpoSyncHttpEngine("pooled", new ApacheHttp5Client(httpClient), httpClient,
+                properties.prewarmConnections(), pdpoSyncTuning);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = ENGINE_PROPERTY, havingValue = "http2")
+    static class Http2 {
+
+        @Bean
+        PdpoSyncHttpEngine pdpoSyncHttpEngine(PdpoSyncHttpClientProperties properties,
+                                              ReloadableProperties<PdpoSyncProperties> pdpoSyncTuning) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(pdpoSyncTuning.get().connectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+            return new PdpoSyncHttpEngine("http2", new Http2Client(httpClient), httpClient,
+                properties.prewarmConnections(), pdpoSyncTuning);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import feign.RetryableException;
+import feign.Retryer;
+import java.time.Duration;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBackoffProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncLatencyProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings;
+
+/**
+ * Feign retryer for PDPO calls that reads the retry policy from the live sync settings. Feign clones the
+ * retryer for every request, so each request uses the policy current when it started.
+ *
+ * <p>Retries wait as long as the logging service asks through {@code Retry-After}, or back off
+ * exponentially with jitter (see {@link PdpoRetryBackoff}). When {@code latency.deadline} is set, a retry
+ * is only started if the wait before it and a worst-case attempt still fit in what is left of the
+ * deadline. The deadline runs from when Feign starts the request, or from the start of the whole call for
+ * requests made within {@link PdpoSyncAttemptClock#callStartedAt}, such as both attempts of a hedged call.
+ */
+public class PdpoSyncRetryer implements Retryer {
+
+    private final ReloadableProperties<PdpoSyncProperties> tuning;
+    private final ReloadableProperties<PdpoSyncLatencyProperties> latencyTuning;
+    private final ReloadableProperties<PdpoSyncBackoffProperties> backoffTuning;
+    private final PdpoMetrics metrics;
+    private final PdpoSyncProperties properties;
+    private final PdpoSyncLatencyProperties latency;
+    private final PdpoRetryBackoff backoff;
+    private final long startedNanos = PdpoSyncAttemptClock.callStarted(System.nanoTime());
+    private int attempt = 1;
+
+    public PdpoSyncRetryer(ReloadableProperties<PdpoSyncProperties> tuning,
+                           ReloadableProperties<PdpoSyncLatencyProperties> latencyTuning,
+                           ReloadableProperties<PdpoSyncBackoffProperties> backoffTuning,
+                           PdpoMetrics metrics) {
+        this.tuning = tuning;
+        this.latencyTuning = latencyTuning;
+        this.backoffTuning = backoffTuning;
+        this.metrics = metrics;
+        this.properties = tuning.get();
+        this.latency = latencyTuning.get();
+        this.backoff = new PdpoRetryBackoff(properties.retryDelay(), backoffTuning.get());
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (attempt >= properties.maxAttempts()) {
+            throw e;
+        }
+        Duration delay = backoff.delay(attempt, e.retryAfter());
+        Duration worstCaseAttempt = delay.plus(properties.connectTimeout()).plus(properties.readTimeout());
+        if (!latency.allowsAttempt(System.nanoTime() - startedNanos, worstCaseAttempt)) {
+            throw e;
+        }
+        metrics.retried(PdpoMetrics.Path.SYNC, delay);
+        long started = PdpoStageTimings.start();
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } finally {
+            PdpoStageTimings.record(PdpoStageTimings.Stage.RETRY_WAIT, started);
+        }
+        attempt++;
+    }
+
+    @Override
+    public Retryer clone() {
+        return new PdpoSyncRetryer(tuning, latencyTuning, backoffTuning, metrics);
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+/**
+ * Status-code rules shared by the Feign and non-blocking sync publishers, so both classify a response
+ * from the logging service the same way.
+ */
+public final class PdpoSyncStatus {
+
+    /** The only status that means the log was stored. */
+    public static final int STORED = 201;
+
+    private PdpoSyncStatus() {
+    }
+
+    /**
+     * {@code 429} and {@code 5xx} are worth retrying, and so is a negative status, which means no response
+     * was received. No other status changes on a retry.
+     */
+    public static boolean isRetryable(int status) {
+        return status < 0 || status == 429 || status >= 500;
+    }
+}
@@ -0,0 +1,63 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import uk.gov.hmcts.opal.logging.integration.client.PdpoSyncClient;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings;
+
+/**
+ * Sends every {@link PdpoSyncClient} request through the PDPO HTTP engine with the live connect and read
+ * timeouts, recording the duration and body size of each attempt. Requests for other Feign clients are
+ * passed through to their own client and options.
+ */
+class PdpoTunedClient implements Client {
+
+    private final Client delegate;
+    private final Client pdpoClient;
+    private final ReloadableProperties<PdpoSyncProperties> tuning;
+    private final PdpoMetrics metrics;
+
+    PdpoTunedClient(Client delegate, Client pdpoClient, ReloadableProperties<PdpoSyncProperties> tuning,
+                    PdpoMetrics metrics) {
+        this.delegate = delegate;
+        this.pdpoClient = pdpoClient;
+        this.tuning = tuning;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (!isPdpoRequest(request)) {
+            return delegate.execute(request, options);
+        }
+        PdpoSyncProperties properties = tuning.get();
+        Request.Options tuned = new Request.Options(
+            properties.connectTimeout(),
+            properties.readTimeout(),
+            options.isFollowRedirects()
+        );
+        if (request.body() != null) {
+            metrics.payloadSerialised(PdpoMetrics.Path.SYNC, request.body().length);
+        }
+        long started = System.nanoTime();
+        PdpoSyncAttemptClock.attemptStarted(started);
+        long stageStarted = PdpoStageTimings.start();
+        try {
+            return pdpoClient.execute(request, tuned);
+        } finally {
+            metrics.attemptCompleted(PdpoMetrics.Path.SYNC, System.nanoTime() - started);
+            PdpoStageTimings.record(PdpoStageTimings.Stage.SEND, stageStarted);
+        }
+    }
+
+    static boolean isPdpoRequest(Request request) {
+        return request.requestTemplate() != null
+            && request.requestTemplate().feignTarget() != null
+            && request.requestTemplate().feignTarget().type() == PdpoSyncClient.class;
+    }
+}
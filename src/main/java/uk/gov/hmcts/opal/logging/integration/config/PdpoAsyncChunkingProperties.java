@@ -0,0 +1,17 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for splitting PDPO logs whose individuals are supplied incrementally into several queue
+ * messages. Values are injected from {@code logging-service.pdpl.async.chunking.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.async.chunking")
+public record PdpoAsyncChunkingProperties(
+    @DefaultValue("5000") @Min(1) int maxIndividuals
+) {
+}
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for routing PDPO queue sends across several Service Bus namespaces.
+ * The primary namespace is {@code logging-service.pdpl.async.connection-string}; secondaries are tried in
+ * the order given. Values are injected from {@code logging-service.pdpl.async.failover.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.async.failover")
+public record PdpoAsyncFailoverProperties(
+    @DefaultValue List<String> secondaryConnectionStrings,
+    @DefaultValue("3") @Min(1) int failureThreshold,
+    @DefaultValue("PT30S") Duration cooldown,
+    @DefaultValue("PT15S") Duration probeInterval,
+    @DefaultValue("2.0") @DecimalMin("1.0") double latencyTolerance
+) {
+}
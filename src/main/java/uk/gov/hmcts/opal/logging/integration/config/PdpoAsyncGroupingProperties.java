@@ -0,0 +1,19 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for grouping the individuals of a PDPO log by identifier type for the queue message.
+ * Values are injected from {@code logging-service.pdpl.async.grouping.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.async.grouping")
+public record PdpoAsyncGroupingProperties(
+    @DefaultValue("20000") @Min(1) int parallelThreshold
+) {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 20_000;
+}
@@ -1,10 +1,13 @@
 package uk.gov.hmcts.opal.logging.integration.config;
 
+import jakarta.jms.BytesMessage;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import jakarta.jms.Session;
 import jakarta.jms.TextMessage;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.qpid.jms.JmsConnectionFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
@@ -16,6 +19,18 @@ import org.springframework.jms.support.converter.MessageConversionException;
 import org.springframework.jms.support.converter.MessageConverter;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoFailoverConnectionFactory;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoLogMessage;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoLogMessagePayload;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoLogMessageReader;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoLogMessageWriter;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespace;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespaceSelector;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoSupervisedConnectionFactory;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoTimedJmsTemplate;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoWireFormat;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings;
 
 /**
  * Wires the JMS infrastructure for enqueuing PDPO log messages onto Azure Service Bus.
@@ -24,10 +39,33 @@ import tools.jackson.databind.ObjectMapper;
 @Configuration
 public class PdpoAsyncJmsConfig {
 
+    @Bean
+    public PdpoNamespaceSelector pdpoNamespaceSelector(PdpoAsyncProperties properties,
+                                                       PdpoAsyncFailoverProperties failoverProperties,
+                                                       PdpoAsyncReconnectProperties reconnectProperties) {
+        List<String> connectionStrings = new ArrayList<>();
+        connectionStrings.add(properties.connectionString());
+        connectionStrings.addAll(failoverProperties.secondaryConnectionStrings());
+
+        List<PdpoNamespace> namespaces = connectionStrings.stream()
+            .map(connectionString -> namespace(connectionString, properties, reconnectProperties))
+            .toList();
+        return new PdpoNamespaceSelector(namespaces, failoverProperties, properties.queueName());
+    }
+
     @Bean("pdpoJmsConnectionFactory")
-    public ConnectionFactory pdpoJmsConnectionFactory(PdpoAsyncProperties properties) {
+    public ConnectionFactory pdpoJmsConnectionFactory(PdpoNamespaceSelector pdpoNamespaceSelector) {
+        if (!pdpoNamespaceSelector.isFailoverEnabled()) {
+            return pdpoNamespaceSelector.namespaces().get(0).connectionFactory();
+        }
+        return new PdpoFailoverConnectionFactory(pdpoNamespaceSelector);
+    }
+
+    private PdpoNamespace namespace(String connectionString,
+                                    PdpoAsyncProperties properties,
+                                    PdpoAsyncReconnectProperties reconnectProperties) {
         ServiceBusConnectionStringParser.ConnectionDetails details =
-            ServiceBusConnectionStringParser.parse(properties.connectionString());
+            ServiceBusConnectionStringParser.parse(connectionString);
 
         String remoteUri = "%s://%s?jms.sendTimeout=%d&amqp.idleTimeout=120000"
             .formatted(properties.protocol(), details.fullyQualifiedNamespace(), properties.sendTimeout().toMillis());
@@ -36,18 +74,35 @@ public class PdpoAsyncJmsConfig {
         qpidFactory.setUsername(details.sharedAccessKeyName());
         qpidFactory.setPassword(details.sharedAccessKey());
 
-        CachingConnectionFactory cachingFactory = new CachingConnectionFactory(qpidFactory);
+        CachingConnectionFactory cachingFactory = reconnectProperties.enabled()
+            ? new PdpoSupervisedConnectionFactory(qpidFactory, reconnectProperties, details.fullyQualifiedNamespace(),
+                properties.queueName())
+            : new CachingConnectionFactory(qpidFactory);
         cachingFactory.setSessionCacheSize(5);
         // Service Bus can forcibly detach an idle producer link. Do not reuse cached producers after that.
         cachingFactory.setCacheProducers(false);
         cachingFactory.setReconnectOnException(true);
 
-        return cachingFactory;
+        return new PdpoNamespace(details.fullyQualifiedNamespace(), cachingFactory);
+    }
+
+    @Bean
+    public PdpoLogMessageWriter pdpoLogMessageWriter(ObjectMapper objectMapper) {
+        return new PdpoLogMessageWriter(objectMapper);
+    }
+
+    @Bean
+    public PdpoLogMessageReader pdpoLogMessageReader(ObjectMapper objectMapper) {
+        return new PdpoLogMessageReader(objectMapper);
     }
 
     @Bean
-    public MessageConverter pdpoMessageConverter(ObjectMapper objectMapper) {
-        return new PdpoJacksonMessageConverter(objectMapper);
+    public MessageConverter pdpoMessageConverter(ObjectMapper objectMapper,
+                                                 PdpoLogMessageWriter pdpoLogMessageWriter,
+                                                 PdpoAsyncSerializationProperties serializationProperties,
+                                                 PdpoMetrics pdpoMetrics) {
+        return new PdpoJacksonMessageConverter(objectMapper, pdpoLogMessageWriter, serializationProperties,
+            pdpoMetrics);
     }
 
     @Bean("pdpoJmsTemplate")
@@ -56,7 +111,7 @@ public class PdpoAsyncJmsConfig {
         @Qualifier("pdpoMessageConverter") MessageConverter pdpoMessageConverter,
         PdpoAsyncProperties properties
     ) {
-        JmsTemplate jmsTemplate = new JmsTemplate(pdpoJmsConnectionFactory);
+        JmsTemplate jmsTemplate = new PdpoTimedJmsTemplate(pdpoJmsConnectionFactory);
         jmsTemplate.setDefaultDestinationName(properties.queueName());
         jmsTemplate.setMessageConverter(pdpoMessageConverter);
         jmsTemplate.setDeliveryPersistent(true);
@@ -64,29 +119,102 @@ public class PdpoAsyncJmsConfig {
         return jmsTemplate;
     }
 
+    /**
+     * Size of the text once encoded as UTF-8 for the wire, counted without encoding it. Unpaired surrogates
+     * count as the one-byte replacement character the encoder writes for them.
+     */
+    static int utf8Length(String text) {
+        int length = text.length();
+        int bytes = length;
+        for (int index = 0; index < length; index++) {
+            char current = text.charAt(index);
+            if (current < 0x80) {
+                continue;
+            }
+            if (current < 0x800) {
+                bytes += 1;
+            } else if (Character.isHighSurrogate(current) && index + 1 < length
+                && Character.isLowSurrogate(text.charAt(index + 1))) {
+                bytes += 2;
+                index++;
+            } else if (!Character.isSurrogate(current)) {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+
     private static final class PdpoJacksonMessageConverter implements MessageConverter {
         private final ObjectMapper objectMapper;
+        private final PdpoLogMessageWriter logMessageWriter;
+        private final PdpoWireFormat format;
+        private final boolean compactUuids;
+        private final PdpoMetrics metrics;
 
-        private PdpoJacksonMessageConverter(ObjectMapper objectMapper) {
+        private PdpoJacksonMessageConverter(ObjectMapper objectMapper,
+                                            PdpoLogMessageWriter logMessageWriter,
+                                            PdpoAsyncSerializationProperties serializationProperties,
+                                            PdpoMetrics metrics) {
             this.objectMapper = objectMapper;
+            this.metrics = metrics;
+            this.logMessageWriter = logMessageWriter;
+            this.format = serializationProperties.format();
+            this.compactUuids = serializationProperties.compactUuids();
+            if (format.isBinary()) {
+                // Fail at startup rather than on the first send when the dataformat module is missing.
+                format.binaryMapper();
+            }
         }
 
         @Override
         public Message toMessage(Object object, Session session) throws JMSException, MessageConversionException {
+            long started = PdpoStageTimings.start();
             try {
-                TextMessage message = session.createTextMessage(objectMapper.writeValueAsString(object));
-                message.setStringProperty("_pdpoType", object.getClass().getName());
+                if (format.isBinary()) {
+                    return toBytesMessage(object, session);
+                }
+                String text;
+                String pdpoType;
+                if (object instanceof PdpoLogMessagePayload payload) {
+                    text = logMessageWriter.writeAsString(payload);
+                    pdpoType = PdpoLogMessage.class.getName();
+                } else {
+                    text = objectMapper.writeValueAsString(object);
+                    pdpoType = object.getClass().getName();
+                }
+                metrics.payloadSerialised(PdpoMetrics.Path.ASYNC, utf8Length(text));
+                TextMessage message = session.createTextMessage(text);
+                message.setStringProperty("_pdpoType", pdpoType);
                 return message;
             } catch (JacksonException ex) {
                 throw new MessageConversionException("Unable to serialise PDPO JMS payload", ex);
+            } finally {
+                PdpoStageTimings.record(PdpoStageTimings.Stage.SERIALISATION, started);
             }
         }
 
+        private Message toBytesMessage(Object object, Session session) throws JMSException {
+            byte[] body = logMessageWriter.writeAsBytes(object, format, compactUuids);
+            metrics.payloadSerialised(PdpoMetrics.Path.ASYNC, body.length);
+            BytesMessage message = session.createBytesMessage();
+            message.writeBytes(body);
+            message.setStringProperty("_pdpoType", object instanceof PdpoLogMessagePayload
+                ? PdpoLogMessage.class.getName()
+                : object.getClass().getName());
+            message.setStringProperty(PdpoWireFormat.CONTENT_TYPE_PROPERTY, format.contentType());
+            return message;
+        }
+
         @Override
         public Object fromMessage(Message message) throws JMSException, MessageConversionException {
             if (message instanceof TextMessage textMessage) {
                 return textMessage.getText();
             }
+            if (message instanceof BytesMessage bytesMessage) {
+                byte[] body = new byte[(int) bytesMessage.getBodyLength()];
+                bytesMessage.readBytes(body);
+                return body;
+            }
             throw new MessageConversionException("Unsupported PDPO JMS message type: " + message.getClass().getName());
         }
     }
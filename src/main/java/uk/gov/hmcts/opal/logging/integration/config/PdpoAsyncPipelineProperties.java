@@ -0,0 +1,20 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for pipelined (JMS 2.0 asynchronous) sends on the PDPO queue path.
+ * Values are injected from {@code logging-service.pdpl.async.pipeline.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.async.pipeline")
+public record PdpoAsyncPipelineProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("256") @Min(1) int maxInFlight,
+    @DefaultValue("PT5S") Duration acquireTimeout
+) {
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for re-establishing the AMQP connection in the background after it drops.
+ * Values are injected from {@code logging-service.pdpl.async.reconnect.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.async.reconnect")
+public record PdpoAsyncReconnectProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("PT0.5S") Duration initialBackoff,
+    @DefaultValue("PT30S") Duration maxBackoff,
+    @DefaultValue("PT30S") Duration probeInterval
+) {
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoWireFormat;
+
+/**
+ * Configuration for how PDPO queue messages are serialised.
+ * Values are injected from {@code logging-service.pdpl.async.serialization.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.async.serialization")
+public record PdpoAsyncSerializationProperties(
+    @DefaultValue("false") boolean streaming,
+    @DefaultValue("JSON") PdpoWireFormat format,
+    @DefaultValue("false") boolean compactUuids
+) {
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+
+/**
+ * Configuration for writing PDPO logs of selected categories to both the queue and the sync endpoint.
+ * Values are injected from {@code logging-service.pdpl.dual-write.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.dual-write")
+public record PdpoDualWriteProperties(
+    @DefaultValue Set<PersonalDataProcessingCategory> categories,
+    @DefaultValue("BOTH_REQUIRED") Policy policy
+) {
+
+    public boolean appliesTo(PersonalDataProcessingCategory category) {
+        return category != null && categories.contains(category);
+    }
+
+    /**
+     * Decides when a dual write counts as successful.
+     */
+    public enum Policy {
+        /** Succeeds as soon as either path succeeds; the other path still completes in the background. */
+        FIRST_SUCCESS,
+        /** Succeeds only when both the queue and the sync endpoint accepted the log. */
+        BOTH_REQUIRED
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for the PDPO health indicator.
+ * Values are injected from {@code logging-service.pdpl.health.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.health")
+public record PdpoHealthProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("3") @Min(1) int failureThreshold,
+    @DefaultValue("PT1M") Duration probeInterval
+) {
+}
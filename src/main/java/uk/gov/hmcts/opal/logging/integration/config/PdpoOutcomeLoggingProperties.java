@@ -0,0 +1,20 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for how PDPO publish outcomes are logged.
+ * Values are injected from {@code logging-service.pdpl.logging.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.logging")
+public record PdpoOutcomeLoggingProperties(
+    @DefaultValue("false") boolean aggregateSuccesses,
+    @DefaultValue("PT1M") Duration summaryInterval,
+    @DefaultValue("50") @Min(0) int maxFailureLogsPerInterval
+) {
+}
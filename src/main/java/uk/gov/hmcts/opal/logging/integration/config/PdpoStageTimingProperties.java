@@ -0,0 +1,19 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for timing the stages of sampled PDPO publishes.
+ * Values are injected from {@code logging-service.pdpl.metrics.stages.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.metrics.stages")
+public record PdpoStageTimingProperties(
+    @DefaultValue("0.01") @DecimalMin("0.0") @DecimalMax("1.0") double sampleRate,
+    @DefaultValue("false") boolean logBreakdown
+) {
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for the delay between synchronous PDPO attempts. The first retry waits
+ * {@code logging-service.pdpl.sync.retry-delay}; later retries grow by {@code multiplier} up to
+ * {@code max-delay}. Values are injected from {@code logging-service.pdpl.sync.backoff.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.sync.backoff")
+public record PdpoSyncBackoffProperties(
+    @DefaultValue("2.0") @DecimalMin("1.0") double multiplier,
+    @DefaultValue("PT60S") Duration maxDelay,
+    @DefaultValue("0.5") @DecimalMin("0.0") @DecimalMax("1.0") double jitter
+) {
+}
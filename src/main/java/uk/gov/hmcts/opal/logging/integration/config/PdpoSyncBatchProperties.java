@@ -0,0 +1,21 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for coalescing concurrent synchronous PDPO calls into bulk requests.
+ * Values are injected from {@code logging-service.pdpl.sync.batch.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.sync.batch")
+public record PdpoSyncBatchProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("/log/pdpo/batch") String endpoint,
+    @DefaultValue("PT0.005S") Duration window,
+    @DefaultValue("50") @Min(1) int maxBatchSize
+) {
+}
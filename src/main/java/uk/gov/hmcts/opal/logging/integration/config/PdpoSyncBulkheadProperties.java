@@ -0,0 +1,20 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for the bulkhead bounding how many caller threads can be inside a synchronous PDPO call.
+ * Values are injected from {@code logging-service.pdpl.sync.bulkhead.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.sync.bulkhead")
+public record PdpoSyncBulkheadProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("25") @Min(1) int maxConcurrentCalls,
+    @DefaultValue("PT0S") Duration maxWait
+) {
+}
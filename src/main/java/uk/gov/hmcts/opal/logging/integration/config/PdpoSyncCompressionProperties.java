@@ -0,0 +1,18 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for gzip compression of synchronous PDPO request bodies.
+ * Values are injected from {@code logging-service.pdpl.sync.compression.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.sync.compression")
+public record PdpoSyncCompressionProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("2KB") DataSize minRequestSize
+) {
+}
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for the adaptive limit on concurrent synchronous PDPO calls.
+ * Values are injected from {@code logging-service.pdpl.sync.concurrency.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.sync.concurrency")
+public record PdpoSyncConcurrencyProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("20") @Min(1) int initialLimit,
+    @DefaultValue("1") @Min(1) int minLimit,
+    @DefaultValue("200") @Min(1) int maxLimit,
+    @DefaultValue("PT0S") Duration maxWait,
+    @DefaultValue("0.9") @DecimalMin("0.1") @DecimalMax("1.0") double backoffRatio,
+    @DefaultValue("2.0") @DecimalMin("1.0") double rttTolerance
+) {
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for what is captured when a synchronous PDPO call fails.
+ * Values are injected from {@code logging-service.pdpl.sync.diagnostics.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.sync.diagnostics")
+public record PdpoSyncDiagnosticsProperties(
+    @DefaultValue("false") boolean captureStackTraces,
+    @DefaultValue("256") @Min(0) int maxLoggedBodyLength
+) {
+}
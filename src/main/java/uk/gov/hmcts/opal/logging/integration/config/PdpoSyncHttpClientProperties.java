@@ -0,0 +1,35 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for the HTTP engine used by the synchronous PDPO client.
+ * Values are injected from {@code logging-service.pdpl.sync.http-client.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.sync.http-client")
+public record PdpoSyncHttpClientProperties(
+    @DefaultValue("DEFAULT") Engine engine,
+    @DefaultValue("50") @Min(1) int maxConnections,
+    @DefaultValue("20") @Min(1) int maxConnectionsPerRoute,
+    @DefaultValue("PT30S") Duration keepAlive,
+    @DefaultValue("PT60S") Duration idleEviction,
+    @DefaultValue("0") @Min(0) int prewarmConnections
+) {
+
+    /**
+     * HTTP engine behind {@code PdpoSyncClient}.
+     */
+    public enum Engine {
+        /** Feign's default {@code HttpURLConnection} client. */
+        DEFAULT,
+        /** Apache HttpClient 5 with a dedicated connection pool; requires {@code feign-hc5} on the classpath. */
+        POOLED,
+        /** JDK {@code HttpClient} negotiating HTTP/2, which multiplexes calls over one connection. */
+        HTTP2
+    }
+}
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration bounding the latency of a synchronous PDPO call.
+ * Values are injected from {@code logging-service.pdpl.sync.latency.*}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "logging-service.pdpl.sync.latency")
+public record PdpoSyncLatencyProperties(
+    @DefaultValue("PT0S") Duration deadline,
+    @DefaultValue("false") boolean hedgeEnabled,
+    @DefaultValue("PT0.5S") Duration hedgeDelay
+) {
+
+    public boolean hasDeadline() {
+        return deadline != null && deadline.isPositive();
+    }
+
+    /**
+     * Whether another attempt may start, given the time already spent on the call and the worst-case
+     * duration of that attempt including the wait before it.
+     */
+    public boolean allowsAttempt(long elapsedNanos, Duration worstCaseAttempt) {
+        return !hasDeadline() || elapsedNanos + worstCaseAttempt.toNanos() <= deadline.toNanos();
+    }
+}
@@ -0,0 +1,67 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exposes the PDPO settings that can be tuned at runtime. Publishers depend on these holders rather than
+ * on the records directly, so a refresh applied by {@link PdpoTuningRefresher} reaches them without a
+ * restart. Each holder lists the settings that may change; connection settings (connection strings,
+ * queue name, base URL, endpoints) are left out, keep their startup value and require a restart.
+ */
+@Configuration
+public class PdpoTuningConfig {
+
+    @Bean
+    public ReloadableProperties<PdpoAsyncProperties> pdpoAsyncTuning(PdpoAsyncProperties properties) {
+        return ReloadableProperties.of(properties, "max-retries", "retry-delay");
+    }
+
+    @Bean
+    public ReloadableProperties<PdpoAsyncPipelineProperties> pdpoAsyncPipelineTuning(
+        PdpoAsyncPipelineProperties properties) {
+        return ReloadableProperties.of(properties, "enabled", "max-in-flight", "acquire-timeout");
+    }
+
+    @Bean
+    public ReloadableProperties<PdpoSyncBackoffProperties> pdpoSyncBackoffTuning(
+        PdpoSyncBackoffProperties properties) {
+        return ReloadableProperties.of(properties, "multiplier", "max-delay", "jitter");
+    }
+
+    @Bean
+    public ReloadableProperties<PdpoSyncBatchProperties> pdpoSyncBatchTuning(PdpoSyncBatchProperties properties) {
+        return ReloadableProperties.of(properties, "enabled", "window", "max-batch-size");
+    }
+
+    @Bean
+    public ReloadableProperties<PdpoSyncCompressionProperties> pdpoSyncCompressionTuning(
+        PdpoSyncCompressionProperties properties) {
+        return ReloadableProperties.of(properties, "enabled", "min-request-size");
+    }
+
+    @Bean
+    public ReloadableProperties<PdpoSyncConcurrencyProperties> pdpoSyncConcurrencyTuning(
+        PdpoSyncConcurrencyProperties properties) {
+        return ReloadableProperties.of(properties, "enabled", "initial-limit", "min-limit", "max-limit",
+            "max-wait", "backoff-ratio", "rtt-tolerance");
+    }
+
+    @Bean
+    public ReloadableProperties<PdpoSyncDiagnosticsProperties> pdpoSyncDiagnosticsTuning(
+        PdpoSyncDiagnosticsProperties properties) {
+        return ReloadableProperties.of(properties, "capture-stack-traces", "max-logged-body-length");
+    }
+
+    @Bean
+    public ReloadableProperties<PdpoSyncLatencyProperties> pdpoSyncLatencyTuning(
+        PdpoSyncLatencyProperties properties) {
+        return ReloadableProperties.of(properties, "deadline", "hedge-enabled", "hedge-delay");
+    }
+
+    @Bean
+    public ReloadableProperties<PdpoSyncProperties> pdpoSyncTuning(PdpoSyncProperties properties) {
+        return ReloadableProperties.of(properties, "max-attempts", "retry-delay", "connect-timeout",
+            "read-timeout");
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint for reading and overriding the live PDPO tuning. Available at
+ * {@code /actuator/pdpotuning} once exposed through {@code management.endpoints.web.exposure.include}.
+ * Only the reloadable settings are listed or accepted, so connection strings never leave the process.
+ */
+@Component
+@Endpoint(id = "pdpotuning")
+public class PdpoTuningEndpoint {
+
+    private final List<ReloadableProperties<?>> tunables;
+    private final PdpoTuningRefresher refresher;
+
+    public PdpoTuningEndpoint(List<ReloadableProperties<?>> tunables, PdpoTuningRefresher refresher) {
+        this.tunables = tunables;
+        this.refresher = refresher;
+    }
+
+    @ReadOperation
+    public Map<String, Object> tuning() {
+        Map<String, Object> tuning = new LinkedHashMap<>();
+        tunables.forEach(tunable -> tuning.putAll(tunable.reloadableValues()));
+        return tuning;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(String property, String value) {
+        try {
+            refresher.override(property, value);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidEndpointRequestException(ex.getMessage(), "Invalid PDPO tuning");
+        }
+        return tuning();
+    }
+}
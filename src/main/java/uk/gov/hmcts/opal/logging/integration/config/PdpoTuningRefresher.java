@@ -0,0 +1,130 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebinds the reloadable PDPO settings when the environment changes, either through a Spring Cloud
+ * environment refresh or through an override written via {@link PdpoTuningEndpoint}. A candidate that
+ * fails binding or bean validation is rejected and the live settings are left untouched.
+ */
+@Slf4j
+@Component
+public class PdpoTuningRefresher {
+
+    static final String OVERRIDES_PROPERTY_SOURCE = "pdpoTuningOverrides";
+
+    private final ConfigurableEnvironment environment;
+    private final List<ReloadableProperties<?>> tunables;
+    private final ObjectProvider<Validator> validator;
+    private final Map<String, Object> overrides = new ConcurrentHashMap<>();
+
+    public PdpoTuningRefresher(ConfigurableEnvironment environment,
+                               List<ReloadableProperties<?>> tunables,
+                               ObjectProvider<Validator> validator) {
+        this.environment = environment;
+        this.tunables = tunables;
+        this.validator = validator;
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        refresh();
+    }
+
+    /**
+     * Rebinds every reloadable settings record from the current environment.
+     *
+     * @return prefixes whose settings changed.
+     */
+    public synchronized List<String> refresh() {
+        Binder binder = Binder.get(environment);
+        return tunables.stream()
+            .filter(tunable -> {
+                try {
+                    return apply(tunable, binder);
+                } catch (RuntimeException ex) {
+                    log.warn("Ignoring invalid PDPO tuning for prefix={}: {}", tunable.prefix(), ex.getMessage());
+                    return false;
+                }
+            })
+            .map(ReloadableProperties::prefix)
+            .toList();
+    }
+
+    /**
+     * Overrides a single PDPO setting at runtime and applies it to the live publishers. Only the settings
+     * each holder lists as reloadable are accepted; connection settings are not.
+     *
+     * @throws IllegalArgumentException if the property is not reloadable or the value is invalid.
+     */
+    public synchronized void override(String property, String value) {
+        List<ReloadableProperties<?>> affected = tunables.stream()
+            .filter(tunable -> tunable.matches(property))
+            .toList();
+        if (affected.isEmpty()) {
+            throw new IllegalArgumentException("Property is not a reloadable PDPO setting: " + property);
+        }
+
+        Object previous = overrides.put(property, value);
+        overridesPropertySource();
+        Binder binder = Binder.get(environment);
+        try {
+            for (ReloadableProperties<?> tunable : affected) {
+                apply(tunable, binder);
+            }
+        } catch (RuntimeException ex) {
+            if (previous == null) {
+                overrides.remove(property);
+            } else {
+                overrides.put(property, previous);
+            }
+            Binder restored = Binder.get(environment);
+            affected.forEach(tunable -> apply(tunable, restored));
+            throw new IllegalArgumentException("Invalid value for " + property + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    private <T> boolean apply(ReloadableProperties<T> tunable, Binder binder) {
+        ReloadableProperties.Rebound<T> rebound = tunable.bind(binder);
+        if (!rebound.ignoredKeys().isEmpty()) {
+            log.warn("Ignoring changes to PDPO settings that need a restart: {}", rebound.ignoredKeys());
+        }
+        T candidate = rebound.value();
+        Validator activeValidator = validator.getIfAvailable();
+        if (activeValidator != null) {
+            Set<ConstraintViolation<T>> violations = activeValidator.validate(candidate);
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .collect(Collectors.joining(", ")));
+            }
+        }
+        List<String> changed = tunable.update(candidate);
+        if (!changed.isEmpty()) {
+            log.info("Applied PDPO tuning, changed={}", changed);
+        }
+        return !changed.isEmpty();
+    }
+
+    private void overridesPropertySource() {
+        MutablePropertySources propertySources = environment.getPropertySources();
+        if (!propertySources.contains(OVERRIDES_PROPERTY_SOURCE)) {
+            propertySources.addFirst(new MapPropertySource(OVERRIDES_PROPERTY_SOURCE, overrides));
+        }
+    }
+}
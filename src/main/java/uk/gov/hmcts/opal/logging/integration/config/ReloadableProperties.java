@@ -0,0 +1,159 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.annotation.AnnotationUtils;
+
+/**
+ * Holds the live value of an immutable {@code @ConfigurationProperties} record so it can be replaced at
+ * runtime. Publishers read {@link #get()} once per call, which gives each call a consistent snapshot of
+ * its settings while a refresh swaps the whole record atomically.
+ *
+ * <p>Only the record components named when the holder is created can change. Every other component, such
+ * as a connection string or queue name, keeps the value bound at startup and is never exposed by
+ * {@link #reloadableValues()}.
+ *
+ * @param <T> properties record type.
+ */
+public final class ReloadableProperties<T> {
+
+    private final Class<T> type;
+    private final String prefix;
+    private final Set<String> reloadableKeys;
+    private final AtomicReference<T> current;
+
+    private ReloadableProperties(Class<T> type, String prefix, Set<String> reloadableKeys, T initial) {
+        this.type = type;
+        this.prefix = prefix;
+        this.reloadableKeys = reloadableKeys;
+        this.current = new AtomicReference<>(initial);
+    }
+
+    /**
+     * Wraps the properties bound at startup. The prefix used for rebinding is taken from the type's
+     * {@link ConfigurationProperties} annotation.
+     *
+     * @param reloadableKeys kebab-case names, relative to the prefix, of the settings that may change at
+     *     runtime. Without any the holder never changes.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ReloadableProperties<T> of(T initial, String... reloadableKeys) {
+        Class<T> type = (Class<T>) initial.getClass();
+        ConfigurationProperties annotation = AnnotationUtils.findAnnotation(type, ConfigurationProperties.class);
+        if (annotation == null || !type.isRecord()) {
+            throw new IllegalArgumentException(type.getName() + " is not a @ConfigurationProperties record");
+        }
+        Set<String> keys = Set.of(reloadableKeys);
+        List<String> known = new ArrayList<>();
+        for (RecordComponent component : type.getRecordComponents()) {
+            known.add(key(component));
+        }
+        if (!known.containsAll(keys)) {
+            throw new IllegalArgumentException("Unknown settings " + keys + " for " + type.getName());
+        }
+        String prefix = annotation.prefix().isEmpty() ? annotation.value() : annotation.prefix();
+        return new ReloadableProperties<>(type, prefix, keys, initial);
+    }
+
+    public T get() {
+        return current.get();
+    }
+
+    public String prefix() {
+        return prefix;
+    }
+
+    /**
+     * Live values of the settings that can change at runtime, keyed by full property name.
+     */
+    public Map<String, Object> reloadableValues() {
+        T live = get();
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (RecordComponent component : type.getRecordComponents()) {
+            if (reloadableKeys.contains(key(component))) {
+                values.put(prefix + "." + key(component), value(component, live));
+            }
+        }
+        return values;
+    }
+
+    boolean matches(String propertyName) {
+        return propertyName.startsWith(prefix + ".")
+            && reloadableKeys.contains(propertyName.substring(prefix.length() + 1));
+    }
+
+    /**
+     * Binds a candidate from the environment. Settings that cannot change at runtime keep their live value;
+     * the names of those that differ in the environment are returned so the caller can report them.
+     */
+    Rebound<T> bind(Binder binder) {
+        T bound = binder.bindOrCreate(prefix, Bindable.of(type));
+        T live = get();
+        RecordComponent[] components = type.getRecordComponents();
+        Object[] arguments = new Object[components.length];
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        List<String> ignored = new ArrayList<>();
+        for (int index = 0; index < components.length; index++) {
+            RecordComponent component = components[index];
+            parameterTypes[index] = component.getType();
+            Object boundValue = value(component, bound);
+            if (reloadableKeys.contains(key(component))) {
+                arguments[index] = boundValue;
+            } else {
+                arguments[index] = value(component, live);
+                if (!Objects.equals(boundValue, arguments[index])) {
+                    ignored.add(prefix + "." + key(component));
+                }
+            }
+        }
+        try {
+            return new Rebound<>(type.getDeclaredConstructor(parameterTypes).newInstance(arguments), ignored);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Unable to create " + type.getName(), ex);
+        }
+    }
+
+    /**
+     * Swaps in a new value.
+     *
+     * @return full names of the settings whose value changed.
+     */
+    List<String> update(T value) {
+        T previous = current.getAndSet(value);
+        List<String> changed = new ArrayList<>();
+        for (RecordComponent component : type.getRecordComponents()) {
+            if (!Objects.equals(value(component, previous), value(component, value))) {
+                changed.add(prefix + "." + key(component));
+            }
+        }
+        return changed;
+    }
+
+    private static String key(RecordComponent component) {
+        return component.getName().replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase(Locale.ROOT);
+    }
+
+    private static Object value(RecordComponent component, Object properties) {
+        try {
+            return component.getAccessor().invoke(properties);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Unable to read " + component.getName(), ex);
+        }
+    }
+
+    /**
+     * A bound candidate and the settings whose new value was ignored because they need a restart.
+     */
+    record Rebound<T>(T value, List<String> ignoredKeys) {
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.opal.logging.integration.dto;
+
+/**
+ * Outcome of one entry in a PDPO batch request. The bulk endpoint returns one result per submitted log, in
+ * the order the logs were sent.
+ *
+ * @param status HTTP status the entry would have received from the single-log endpoint.
+ * @param error optional reason the entry was rejected.
+ */
+public record PdpoBatchItemResult(int status, String error) {
+
+    public boolean isCreated() {
+        return status == 201;
+    }
+}
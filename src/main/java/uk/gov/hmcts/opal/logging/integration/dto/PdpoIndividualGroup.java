@@ -0,0 +1,24 @@
+package uk.gov.hmcts.opal.logging.integration.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Identifiers of the individuals of one identifier type in a {@link PdpoLogRecord}.
+ *
+ * <p>The identifier list is wrapped rather than copied, so the caller must not change it afterwards. As on
+ * the DTO, an identifier may be {@code null}; it is sent as {@code null}.
+ */
+public record PdpoIndividualGroup(IdentifierType type, List<String> identifiers) {
+
+    public PdpoIndividualGroup {
+        Objects.requireNonNull(type, "type");
+        identifiers = Collections.unmodifiableList(Objects.requireNonNull(identifiers, "identifiers"));
+    }
+
+    public static PdpoIndividualGroup of(IdentifierType type, String... identifiers) {
+        return new PdpoIndividualGroup(type, Arrays.asList(identifiers));
+    }
+}
@@ -0,0 +1,128 @@
+package uk.gov.hmcts.opal.logging.integration.dto;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable PDPO log for high-volume callers. Unlike {@link PersonalDataProcessingLogDetails} it holds
+ * individuals already grouped by identifier type, the shape the queue message uses. Queue publishing maps
+ * it to the message without regrouping or copying the identifiers.
+ *
+ * <p>The creation time is kept as epoch milliseconds plus an offset, so neither constructor allocates a
+ * date-time; {@link #createdAt()} builds one on demand. Precision below a millisecond is dropped, as it
+ * is on the wire.
+ *
+ * @param createdAtEpochMillis creation time in milliseconds since the epoch; ignored without an offset.
+ * @param createdAtOffset offset the creation time is sent with, or {@code null} for no creation time.
+ * @param individuals individuals grouped by identifier type, in the order they are sent.
+ */
+public record PdpoLogRecord(
+    PdpoParticipant createdBy,
+    String businessIdentifier,
+    long createdAtEpochMillis,
+    ZoneOffset createdAtOffset,
+    String ipAddress,
+    PersonalDataProcessingCategory category,
+    PdpoParticipant recipient,
+    List<PdpoIndividualGroup> individuals
+) {
+
+    public PdpoLogRecord {
+        individuals = individuals == null ? List.of() : List.copyOf(individuals);
+    }
+
+    /**
+     * Creates a record whose creation time is given in milliseconds since the epoch and sent with a UTC
+     * offset.
+     */
+    public PdpoLogRecord(PdpoParticipant createdBy, String businessIdentifier, long createdAtEpochMillis,
+                         String ipAddress, PersonalDataProcessingCategory category, PdpoParticipant recipient,
+                         List<PdpoIndividualGroup> individuals) {
+        this(createdBy, businessIdentifier, createdAtEpochMillis, ZoneOffset.UTC, ipAddress, category, recipient,
+            individuals);
+    }
+
+    /**
+     * Creates a record whose creation time is sent with its own offset; {@code createdAt} may be
+     * {@code null}, as on the DTO.
+     */
+    public PdpoLogRecord(PdpoParticipant createdBy, String businessIdentifier, OffsetDateTime createdAt,
+                         String ipAddress, PersonalDataProcessingCategory category, PdpoParticipant recipient,
+                         List<PdpoIndividualGroup> individuals) {
+        this(createdBy, businessIdentifier, createdAt == null ? 0L : epochMillis(createdAt),
+            createdAt == null ? null : createdAt.getOffset(), ipAddress, category, recipient, individuals);
+    }
+
+    /**
+     * Creates a record from the mutable DTO, grouping its individuals by identifier type in order of first
+     * appearance. The creation time is kept as is, including its offset. Every individual must have an
+     * identifier type.
+     */
+    public static PdpoLogRecord from(PersonalDataProcessingLogDetails details) {
+        Map<IdentifierType, List<String>> grouped = new LinkedHashMap<>();
+        if (details.getIndividuals() != null) {
+            for (ParticipantIdentifier individual : details.getIndividuals()) {
+                if (individual != null) {
+                    grouped.computeIfAbsent(individual.getType(), ignored -> new ArrayList<>())
+                        .add(individual.getIdentifier());
+                }
+            }
+        }
+        List<PdpoIndividualGroup> individuals = new ArrayList<>(grouped.size());
+        grouped.forEach((type, identifiers) -> individuals.add(new PdpoIndividualGroup(type, identifiers)));
+        return new PdpoLogRecord(
+            PdpoParticipant.from(details.getCreatedBy()),
+            details.getBusinessIdentifier(),
+            details.getCreatedAt(),
+            details.getIpAddress(),
+            details.getCategory(),
+            PdpoParticipant.from(details.getRecipient()),
+            individuals);
+    }
+
+    /**
+     * Expands the record into the DTO accepted by the synchronous endpoint.
+     */
+    public PersonalDataProcessingLogDetails toLogDetails() {
+        List<ParticipantIdentifier> expanded = new ArrayList<>(individualCount());
+        for (PdpoIndividualGroup group : individuals) {
+            for (String identifier : group.identifiers()) {
+                expanded.add(new ParticipantIdentifier(identifier, group.type()));
+            }
+        }
+        return new PersonalDataProcessingLogDetails(
+            createdBy == null ? null : createdBy.toParticipantIdentifier(),
+            businessIdentifier,
+            createdAt(),
+            ipAddress,
+            category,
+            recipient == null ? null : recipient.toParticipantIdentifier(),
+            expanded);
+    }
+
+    /**
+     * Creation time with its offset, or {@code null} if the record has none.
+     */
+    public OffsetDateTime createdAt() {
+        return createdAtOffset == null
+            ? null
+            : Instant.ofEpochMilli(createdAtEpochMillis).atOffset(createdAtOffset);
+    }
+
+    public int individualCount() {
+        int count = 0;
+        for (PdpoIndividualGroup group : individuals) {
+            count += group.identifiers().size();
+        }
+        return count;
+    }
+
+    private static long epochMillis(OffsetDateTime createdAt) {
+        return createdAt.toEpochSecond() * 1000 + createdAt.getNano() / 1_000_000;
+    }
+}
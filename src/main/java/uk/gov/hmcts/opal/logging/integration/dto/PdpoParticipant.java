@@ -0,0 +1,22 @@
+package uk.gov.hmcts.opal.logging.integration.dto;
+
+/**
+ * Immutable counterpart of {@link ParticipantIdentifier} used by {@link PdpoLogRecord}.
+ */
+public record PdpoParticipant(String identifier, IdentifierType type) {
+
+    public static PdpoParticipant from(ParticipantIdentifier participant) {
+        return participant == null ? null : new PdpoParticipant(participant.getIdentifier(), participant.getType());
+    }
+
+    public ParticipantIdentifier toParticipantIdentifier() {
+        return new ParticipantIdentifier(identifier, type);
+    }
+
+    /**
+     * Identifier type name as sent to the logging service, or {@code null} when there is no type.
+     */
+    public String typeName() {
+        return type == null ? null : type.getType();
+    }
+}
@@ -2,7 +2,6 @@ package uk.gov.hmcts.opal.logging.integration.dto;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
-import java.util.Arrays;
 
 /**
  * Enumerates the set of categories supported by PDPO logging.
@@ -29,9 +28,14 @@ public enum PersonalDataProcessingCategory {
 
     @JsonCreator
     public static PersonalDataProcessingCategory fromJsonValue(String value) {
-        return Arrays.stream(values())
-            .filter(v -> v.jsonValue.equals(value))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException("Unknown PDPO category: " + value));
+        return switch (value) {
+            case "Collection" -> COLLECTION;
+            case "Alteration" -> ALTERATION;
+            case "Consultation" -> CONSULTATION;
+            case "Disclosure" -> DISCLOSURE;
+            case "Combination" -> COMBINATION;
+            case "Erasure" -> ERASURE;
+            case null, default -> throw new IllegalArgumentException("Unknown PDPO category: " + value);
+        };
     }
 }
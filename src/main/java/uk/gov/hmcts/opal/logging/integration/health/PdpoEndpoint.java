@@ -0,0 +1,138 @@
+package uk.gov.hmcts.opal.logging.integration.health;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncPipelineProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBatchProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBulkheadProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespace;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespaceSelector;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoPipelinedSender;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoSupervisedConnectionFactory;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+import uk.gov.hmcts.opal.logging.integration.service.PdpoAdaptiveConcurrencyLimiter;
+import uk.gov.hmcts.opal.logging.integration.service.PdpoSyncBulkhead;
+import uk.gov.hmcts.opal.logging.integration.service.PdpoSyncMicroBatcher;
+
+/**
+ * Read-only actuator endpoint showing the live state of both PDPO publishers: outcome and retry counts,
+ * recent latency percentiles, Service Bus connections and the depth of every buffer and limit. Available
+ * at {@code /actuator/pdpo} once exposed through {@code management.endpoints.web.exposure.include}. Only
+ * in-memory state is read.
+ */
+@Component
+@Endpoint(id = "pdpo")
+public class PdpoEndpoint {
+
+    private final PdpoMetrics metrics;
+    private final PdpoNamespaceSelector namespaceSelector;
+    private final PdpoPipelinedSender pipelinedSender;
+    private final ReloadableProperties<PdpoAsyncPipelineProperties> pipelineTuning;
+    private final PdpoSyncBulkhead bulkhead;
+    private final PdpoSyncBulkheadProperties bulkheadProperties;
+    private final PdpoAdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final PdpoSyncMicroBatcher microBatcher;
+    private final ReloadableProperties<PdpoSyncBatchProperties> batchTuning;
+
+    public PdpoEndpoint(PdpoMetrics metrics,
+                        PdpoNamespaceSelector namespaceSelector,
+                        PdpoPipelinedSender pipelinedSender,
+                        ReloadableProperties<PdpoAsyncPipelineProperties> pipelineTuning,
+                        PdpoSyncBulkhead bulkhead,
+                        PdpoSyncBulkheadProperties bulkheadProperties,
+                        PdpoAdaptiveConcurrencyLimiter concurrencyLimiter,
+                        PdpoSyncMicroBatcher microBatcher,
+                        ReloadableProperties<PdpoSyncBatchProperties> batchTuning) {
+        this.metrics = metrics;
+        this.namespaceSelector = namespaceSelector;
+        this.pipelinedSender = pipelinedSender;
+        this.pipelineTuning = pipelineTuning;
+        this.bulkhead = bulkhead;
+        this.bulkheadProperties = bulkheadProperties;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.microBatcher = microBatcher;
+        this.batchTuning = batchTuning;
+    }
+
+    @ReadOperation
+    public Map<String, Object> state() {
+        Map<String, Object> async = outcomes(PdpoMetrics.Path.ASYNC);
+        Map<String, Object> pipeline = new LinkedHashMap<>();
+        pipeline.put("enabled", pipelinedSender.isEnabled());
+        pipeline.put("inFlight", pipelinedSender.inFlight());
+        pipeline.put("maxInFlight", pipelineTuning.get().maxInFlight());
+        async.put("pipeline", pipeline);
+        List<Map<String, Object>> namespaces = new ArrayList<>();
+        for (PdpoNamespace namespace : namespaceSelector.namespaces()) {
+            namespaces.add(namespace(namespace));
+        }
+        async.put("namespaces", namespaces);
+
+        Map<String, Object> sync = outcomes(PdpoMetrics.Path.SYNC);
+        Map<String, Object> bulkheadState = new LinkedHashMap<>();
+        bulkheadState.put("enabled", bulkhead.isEnabled());
+        bulkheadState.put("inUse", bulkhead.inUse());
+        bulkheadState.put("maxConcurrentCalls", bulkheadProperties.maxConcurrentCalls());
+        sync.put("bulkhead", bulkheadState);
+        Map<String, Object> concurrency = new LinkedHashMap<>();
+        concurrency.put("enabled", concurrencyLimiter.isEnabled());
+        concurrency.put("inFlight", concurrencyLimiter.inFlight());
+        concurrency.put("limit", concurrencyLimiter.limit());
+        sync.put("concurrency", concurrency);
+        Map<String, Object> batch = new LinkedHashMap<>();
+        batch.put("enabled", microBatcher.isEnabled());
+        batch.put("pending", microBatcher.pending());
+        batch.put("maxBatchSize", batchTuning.get().maxBatchSize());
+        sync.put("batch", batch);
+
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("async", async);
+        state.put("sync", sync);
+        return state;
+    }
+
+    private Map<String, Object> outcomes(PdpoMetrics.Path path) {
+        PdpoMetrics.Observation observation = metrics.observation(path);
+        Map<String, Object> outcomes = new LinkedHashMap<>();
+        outcomes.put("attempts", metrics.attempts(path));
+        outcomes.put("successes", metrics.successes(path));
+        outcomes.put("failures", metrics.failures(path));
+        outcomes.put("retries", metrics.retries(path));
+        outcomes.put("consecutiveFailures", observation.consecutiveFailures());
+        if (observation.lastSuccess() != null) {
+            outcomes.put("lastSuccess", observation.lastSuccess().toString());
+        }
+        if (observation.lastFailure() != null) {
+            outcomes.put("lastFailure", observation.lastFailure().toString());
+        }
+        outcomes.put("latencyMillis", metrics.latencyPercentiles(path));
+        return outcomes;
+    }
+
+    private static Map<String, Object> namespace(PdpoNamespace namespace) {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("name", namespace.name());
+        state.put("available", namespace.isAvailable());
+        state.put("consecutiveFailures", namespace.consecutiveFailures());
+        if (!Double.isNaN(namespace.latencyMillis())) {
+            state.put("latencyMillis", namespace.latencyMillis());
+        }
+        if (!Double.isNaN(namespace.probeLatencyMillis())) {
+            state.put("probeLatencyMillis", namespace.probeLatencyMillis());
+        }
+        if (namespace.connectionFactory() instanceof PdpoSupervisedConnectionFactory supervised) {
+            state.put("reconnecting", supervised.isReconnecting());
+        }
+        if (namespace.connectionFactory() instanceof CachingConnectionFactory caching) {
+            state.put("sessionCacheSize", caching.getSessionCacheSize());
+        }
+        return state;
+    }
+}
@@ -0,0 +1,169 @@
+package uk.gov.hmcts.opal.logging.integration.health;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoHealthProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespace;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespaceSelector;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+
+/**
+ * Reports the health of the queue and sync paths from the outcomes the publishers already observed, so a
+ * health request only reads cached state and never waits on the network.
+ *
+ * <p>Only paths the host has published through count. A path is down after
+ * {@code health.failure-threshold} consecutive failures, and the queue path is also down while every
+ * Service Bus namespace is in its failure cooldown. When a used path has seen no outcome for
+ * {@code health.probe-interval}, a background thread probes it: the queue path by attaching a sender link,
+ * the sync path by opening a TCP connection to the logging service. Probes never run more than once per
+ * interval, never while traffic is flowing, and never for a path that has not been used.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "logging-service.pdpl.health.enabled", havingValue = "true")
+public class PdpoHealthIndicator implements HealthIndicator, DisposableBean {
+
+    private final PdpoMetrics metrics;
+    private final PdpoHealthProperties properties;
+    private final PdpoNamespaceSelector namespaceSelector;
+    private final ReloadableProperties<PdpoSyncProperties> syncTuning;
+    private final ScheduledExecutorService prober;
+
+    public PdpoHealthIndicator(PdpoMetrics metrics,
+                               PdpoHealthProperties properties,
+                               PdpoNamespaceSelector namespaceSelector,
+                               ReloadableProperties<PdpoSyncProperties> syncTuning) {
+        this.metrics = metrics;
+        this.properties = properties;
+        this.namespaceSelector = namespaceSelector;
+        this.syncTuning = syncTuning;
+        this.prober = startProber();
+    }
+
+    @Override
+    public Health health() {
+        PdpoMetrics.Observation async = metrics.observation(PdpoMetrics.Path.ASYNC);
+        PdpoMetrics.Observation sync = metrics.observation(PdpoMetrics.Path.SYNC);
+        boolean asyncUsed = isUsed(PdpoMetrics.Path.ASYNC);
+        boolean syncUsed = isUsed(PdpoMetrics.Path.SYNC);
+        boolean asyncDown = asyncUsed && (isFailing(async) || noNamespaceAvailable());
+        boolean syncDown = syncUsed && isFailing(sync);
+
+        Map<String, Object> asyncDetails = details(async, asyncUsed, asyncDown);
+        Map<String, Object> namespaces = new LinkedHashMap<>();
+        for (PdpoNamespace namespace : namespaceSelector.namespaces()) {
+            namespaces.put(namespace.name(), namespace.isAvailable() ? "available" : "cooling down");
+        }
+        asyncDetails.put("namespaces", namespaces);
+
+        return (asyncDown || syncDown ? Health.down() : Health.up())
+            .withDetail("async", asyncDetails)
+            .withDetail("sync", details(sync, syncUsed, syncDown))
+            .build();
+    }
+
+    @Override
+    public void destroy() {
+        if (prober != null) {
+            prober.shutdownNow();
+        }
+    }
+
+    /**
+     * Probes each used path that has been quiet for a full probe interval.
+     */
+    void probeIdlePaths() {
+        Duration interval = properties.probeInterval();
+        if (isUsed(PdpoMetrics.Path.ASYNC) && isIdle(metrics.observation(PdpoMetrics.Path.ASYNC), interval)) {
+            namespaceSelector.probe();
+            boolean reachable = namespaceSelector.namespaces().stream()
+                .anyMatch(namespace -> namespace.consecutiveFailures() == 0);
+            metrics.probed(PdpoMetrics.Path.ASYNC, reachable);
+        }
+        if (isUsed(PdpoMetrics.Path.SYNC) && isIdle(metrics.observation(PdpoMetrics.Path.SYNC), interval)) {
+            metrics.probed(PdpoMetrics.Path.SYNC, isSyncEndpointReachable());
+        }
+    }
+
+    private boolean isSyncEndpointReachable() {
+        PdpoSyncProperties sync = syncTuning.get();
+        try (Socket socket = new Socket()) {
+            URI uri = URI.create(sync.baseUrl());
+            int defaultPort = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+            int port = uri.getPort() >= 0 ? uri.getPort() : defaultPort;
+            socket.connect(new InetSocketAddress(uri.getHost(), port), (int) sync.connectTimeout().toMillis());
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            log.debug("Probe of PDPO sync endpoint {} failed", sync.baseUrl(), ex);
+            return false;
+        }
+    }
+
+    private boolean isUsed(PdpoMetrics.Path path) {
+        return metrics.attempts(path) > 0;
+    }
+
+    private boolean isFailing(PdpoMetrics.Observation observation) {
+        return observation.consecutiveFailures() >= properties.failureThreshold();
+    }
+
+    private boolean noNamespaceAvailable() {
+        return namespaceSelector.namespaces().stream().noneMatch(PdpoNamespace::isAvailable);
+    }
+
+    private static boolean isIdle(PdpoMetrics.Observation observation, Duration interval) {
+        Instant lastOutcome = observation.lastOutcome();
+        return lastOutcome == null || lastOutcome.plus(interval).isBefore(Instant.now());
+    }
+
+    private static Map<String, Object> details(PdpoMetrics.Observation observation, boolean used, boolean down) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        String status = !used || observation.lastOutcome() == null ? "UNKNOWN" : "UP";
+        details.put("status", down ? "DOWN" : status);
+        if (observation.lastSuccess() != null) {
+            details.put("lastSuccess", observation.lastSuccess().toString());
+        }
+        if (observation.lastFailure() != null) {
+            details.put("lastFailure", observation.lastFailure().toString());
+        }
+        details.put("consecutiveFailures", observation.consecutiveFailures());
+        return details;
+    }
+
+    private ScheduledExecutorService startProber() {
+        long intervalMillis = properties.probeInterval().toMillis();
+        if (intervalMillis <= 0) {
+            return null;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("pdpo-health-probe").factory());
+        executor.scheduleWithFixedDelay(this::probeSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private void probeSafely() {
+        try {
+            probeIdlePaths();
+        } catch (RuntimeException ex) {
+            // An exception would cancel the schedule; the next interval probes again.
+            log.debug("PDPO health probe failed", ex);
+        }
+    }
+}
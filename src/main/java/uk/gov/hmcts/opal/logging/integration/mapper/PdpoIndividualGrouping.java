@@ -0,0 +1,139 @@
+package uk.gov.hmcts.opal.logging.integration.mapper;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncGroupingProperties;
+import uk.gov.hmcts.opal.logging.integration.dto.IdentifierType;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+
+/**
+ * Groups individuals by identifier type name, keeping types in order of first appearance and identifiers
+ * in list order. Lists of at least {@code parallelThreshold} individuals are split across the common
+ * fork-join pool and the partial groupings are merged left to right, which gives the same result as a
+ * sequential pass. {@link IdentifierType#getType()} is called once per distinct type instance in each part.
+ * Used by {@link PdpoQueueLogDetailsMapper} to map the individuals of a log.
+ */
+@Component
+public class PdpoIndividualGrouping {
+
+    private static final int MIN_PART_SIZE = 4096;
+
+    private final int parallelThreshold;
+
+    public PdpoIndividualGrouping(PdpoAsyncGroupingProperties groupingProperties) {
+        this.parallelThreshold = groupingProperties.parallelThreshold();
+    }
+
+    /**
+     * Grouping with the default parallel threshold, for mappers created outside a Spring context.
+     */
+    public static PdpoIndividualGrouping withDefaultThreshold() {
+        return new PdpoIndividualGrouping(
+            new PdpoAsyncGroupingProperties(PdpoAsyncGroupingProperties.DEFAULT_PARALLEL_THRESHOLD));
+    }
+
+    public Map<String, List<String>> mapIndividuals(List<ParticipantIdentifier> individuals) {
+        if (individuals == null || individuals.isEmpty()) {
+            return Map.of();
+        }
+        return group(individuals, parallelThreshold);
+    }
+
+    static Map<String, List<String>> group(List<ParticipantIdentifier> individuals, int parallelThreshold) {
+        int size = individuals.size();
+        if (size < parallelThreshold || !(individuals instanceof RandomAccess)) {
+            return groupSequentially(individuals, 0, size);
+        }
+        int partSize = Math.max(MIN_PART_SIZE, size / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        return merge(ForkJoinPool.commonPool().invoke(new GroupingTask(individuals, 0, size, partSize)));
+    }
+
+    static Map<String, List<String>> groupSequentially(List<ParticipantIdentifier> all, int from, int to) {
+        List<ParticipantIdentifier> individuals = all.subList(from, to);
+        Map<String, List<String>> grouped = new LinkedHashMap<>();
+        Map<IdentifierType, List<String>> groupsByType = new IdentityHashMap<>();
+        IdentifierType lastType = null;
+        List<String> lastGroup = null;
+        for (ParticipantIdentifier individual : individuals) {
+            if (individual == null) {
+                continue;
+            }
+            IdentifierType type = individual.getType();
+            if (lastGroup == null || type != lastType) {
+                lastType = type;
+                lastGroup = groupsByType.get(type);
+                if (lastGroup == null) {
+                    lastGroup = grouped.computeIfAbsent(type == null ? null : type.getType(),
+                        ignored -> new ArrayList<>());
+                    groupsByType.put(type, lastGroup);
+                }
+            }
+            lastGroup.add(individual.getIdentifier());
+        }
+        return grouped;
+    }
+
+    /**
+     * Concatenates the groups of each part, in part order. Each merged list is allocated once, sized from
+     * the counts of its type across all parts, so no list grows while the parts are copied in.
+     */
+    static Map<String, List<String>> merge(List<Map<String, List<String>>> parts) {
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (Map<String, List<String>> part : parts) {
+            for (Map.Entry<String, List<String>> group : part.entrySet()) {
+                sizes.merge(group.getKey(), group.getValue().size(), Integer::sum);
+            }
+        }
+        Map<String, List<String>> merged = LinkedHashMap.newLinkedHashMap(sizes.size());
+        sizes.forEach((type, size) -> merged.put(type, new ArrayList<>(size)));
+        for (Map<String, List<String>> part : parts) {
+            for (Map.Entry<String, List<String>> group : part.entrySet()) {
+                merged.get(group.getKey()).addAll(group.getValue());
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Groups each part of the range on its own and returns the partial groupings in list order.
+     */
+    private static final class GroupingTask extends RecursiveTask<List<Map<String, List<String>>>> {
+        private final transient List<ParticipantIdentifier> individuals;
+        private final int from;
+        private final int to;
+        private final int partSize;
+
+        private GroupingTask(List<ParticipantIdentifier> individuals, int from, int to, int partSize) {
+            this.individuals = individuals;
+            this.from = from;
+            this.to = to;
+            this.partSize = partSize;
+        }
+
+        @Override
+        protected List<Map<String, List<String>>> compute() {
+            if (to - from <= partSize) {
+                List<Map<String, List<String>>> parts = new ArrayList<>();
+                parts.add(groupSequentially(individuals, from, to));
+                return parts;
+            }
+            int middle = (from + to) >>> 1;
+            GroupingTask first = new GroupingTask(individuals, from, middle, partSize);
+            first.fork();
+            List<Map<String, List<String>>> second = new GroupingTask(individuals, middle, to, partSize).compute();
+            List<Map<String, List<String>>> parts = first.join();
+            parts.addAll(second);
+            return parts;
+        }
+    }
+}
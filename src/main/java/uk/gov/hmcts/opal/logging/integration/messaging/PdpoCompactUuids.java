@@ -0,0 +1,84 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.util.JsonGeneratorDelegate;
+
+/**
+ * Encodes UUID-shaped strings in binary PDPO messages as their 16 raw bytes. Only the canonical lower-case
+ * form is compacted, so decoding always gives back the original string.
+ */
+final class PdpoCompactUuids {
+
+    private static final int UUID_LENGTH = 36;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private PdpoCompactUuids() {
+    }
+
+    /**
+     * Wraps a generator so every UUID-shaped string it is given is written as binary instead.
+     */
+    static JsonGenerator compacting(JsonGenerator generator) {
+        return new JsonGeneratorDelegate(generator, false) {
+            @Override
+            public JsonGenerator writeString(String text) throws JacksonException {
+                byte[] uuid = encode(text);
+                return uuid == null ? super.writeString(text) : super.writeBinary(uuid);
+            }
+        };
+    }
+
+    /**
+     * Returns the 16 bytes of a canonical lower-case UUID string, or {@code null} for any other string.
+     */
+    static byte[] encode(String text) {
+        if (text == null || text.length() != UUID_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[16];
+        int index = 0;
+        for (int position = 0; position < UUID_LENGTH; position++) {
+            char character = text.charAt(position);
+            if (position == 8 || position == 13 || position == 18 || position == 23) {
+                if (character != '-') {
+                    return null;
+                }
+                continue;
+            }
+            int nibble = nibble(character);
+            if (nibble < 0) {
+                return null;
+            }
+            bytes[index / 2] |= (byte) (index % 2 == 0 ? nibble << 4 : nibble);
+            index++;
+        }
+        return bytes;
+    }
+
+    static String decode(byte[] bytes) {
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("Compact UUID must be 16 bytes but was " + bytes.length);
+        }
+        char[] text = new char[UUID_LENGTH];
+        int position = 0;
+        for (int index = 0; index < 16; index++) {
+            if (index == 4 || index == 6 || index == 8 || index == 10) {
+                text[position++] = '-';
+            }
+            text[position++] = HEX[(bytes[index] >> 4) & 0xF];
+            text[position++] = HEX[bytes[index] & 0xF];
+        }
+        return new String(text);
+    }
+
+    private static int nibble(char character) {
+        if (character >= '0' && character <= '9') {
+            return character - '0';
+        }
+        if (character >= 'a' && character <= 'f') {
+            return character - 'a' + 10;
+        }
+        return -1;
+    }
+}
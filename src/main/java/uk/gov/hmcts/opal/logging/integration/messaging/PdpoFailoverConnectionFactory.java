@@ -0,0 +1,49 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+
+/**
+ * Connection factory that hands out connections from whichever Service Bus namespace the
+ * {@link PdpoNamespaceSelector} currently prefers.
+ */
+public class PdpoFailoverConnectionFactory implements ConnectionFactory {
+
+    private final PdpoNamespaceSelector selector;
+
+    public PdpoFailoverConnectionFactory(PdpoNamespaceSelector selector) {
+        this.selector = selector;
+    }
+
+    @Override
+    public Connection createConnection() throws JMSException {
+        return selector.select().connectionFactory().createConnection();
+    }
+
+    @Override
+    public Connection createConnection(String userName, String password) throws JMSException {
+        return selector.select().connectionFactory().createConnection(userName, password);
+    }
+
+    @Override
+    public JMSContext createContext() {
+        return selector.select().connectionFactory().createContext();
+    }
+
+    @Override
+    public JMSContext createContext(String userName, String password) {
+        return selector.select().connectionFactory().createContext(userName, password);
+    }
+
+    @Override
+    public JMSContext createContext(String userName, String password, int sessionMode) {
+        return selector.select().connectionFactory().createContext(userName, password, sessionMode);
+    }
+
+    @Override
+    public JMSContext createContext(int sessionMode) {
+        return selector.select().connectionFactory().createContext(sessionMode);
+    }
+}
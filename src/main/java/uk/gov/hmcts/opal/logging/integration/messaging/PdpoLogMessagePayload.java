@@ -0,0 +1,10 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+
+/**
+ * A PDPO log handed to the message converter as-is, to be written as a {@link PdpoLogMessage} by
+ * {@link PdpoLogMessageWriter} without building the intermediate queue objects.
+ */
+public record PdpoLogMessagePayload(String logType, PersonalDataProcessingLogDetails details) {
+}
@@ -0,0 +1,245 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.TextMessage;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.springframework.jms.support.converter.MessageConversionException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+import uk.gov.hmcts.opal.logging.integration.dto.IdentifierType;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+
+/**
+ * Decodes PDPO queue messages into {@link PdpoLogMessage} for consumers of the queue. The body is read
+ * with a streaming parser straight into the records, and unknown fields are skipped. Binary bodies are
+ * recognised by their {@link PdpoWireFormat} content type. Messages can be
+ * filtered on their {@link PdpoMessageHeaders} first, in which case rejected messages are never parsed.
+ *
+ * <p>Identifier types are decoded as {@link DecodedIdentifierType}, because the classes the producer used
+ * are not known to the consumer.
+ */
+public class PdpoLogMessageReader {
+
+    private final ObjectMapper objectMapper;
+
+    public PdpoLogMessageReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public PdpoMessageHeaders readHeaders(Message message) throws JMSException {
+        return PdpoMessageHeaders.from(message);
+    }
+
+    /**
+     * Decodes the message when its headers match the filter.
+     *
+     * @return the decoded message, or empty when the filter rejected the headers. The body of a rejected
+     *     message is not read.
+     */
+    public Optional<PdpoLogMessage> readIf(Message message, Predicate<PdpoMessageHeaders> filter)
+        throws JMSException {
+        if (!filter.test(readHeaders(message))) {
+            return Optional.empty();
+        }
+        return Optional.of(read(message));
+    }
+
+    public PdpoLogMessage read(Message message) throws JMSException {
+        String pdpoType = message.getStringProperty("_pdpoType");
+        if (pdpoType != null && !PdpoLogMessage.class.getName().equals(pdpoType)) {
+            throw new MessageConversionException("Unsupported PDPO payload type: " + pdpoType);
+        }
+        PdpoWireFormat format =
+            PdpoWireFormat.fromContentType(message.getStringProperty(PdpoWireFormat.CONTENT_TYPE_PROPERTY));
+        if (format.isBinary() && message instanceof BytesMessage bytesMessage) {
+            byte[] body = new byte[(int) bytesMessage.getBodyLength()];
+            bytesMessage.readBytes(body);
+            return read(body, format);
+        }
+        if (!format.isBinary() && message instanceof TextMessage textMessage) {
+            return read(textMessage.getText());
+        }
+        throw new MessageConversionException("Unsupported PDPO JMS message type " + message.getClass().getName()
+            + " for content type " + format.contentType());
+    }
+
+    public PdpoQueueLogDetails readDetails(Message message) throws JMSException {
+        return read(message).details();
+    }
+
+    public PdpoLogMessage read(String json) {
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return read(parser);
+        } catch (JacksonException | IllegalArgumentException | DateTimeParseException ex) {
+            throw new MessageConversionException("Unable to decode PDPO JMS payload", ex);
+        }
+    }
+
+    /**
+     * Decodes a binary message body. Compact UUIDs are turned back into their string form.
+     */
+    public PdpoLogMessage read(byte[] body, PdpoWireFormat format) {
+        try (JsonParser parser = format.binaryMapper().createParser(body)) {
+            return read(parser);
+        } catch (JacksonException | IllegalArgumentException | DateTimeParseException ex) {
+            throw new MessageConversionException("Unable to decode PDPO JMS payload", ex);
+        }
+    }
+
+    private static PdpoLogMessage read(JsonParser parser) {
+        PdpoLogMessage logMessage = readLogMessage(parser, parser.nextToken());
+        if (parser.nextToken() != null) {
+            throw new MessageConversionException("Unexpected content after PDPO message");
+        }
+        return logMessage;
+    }
+
+    private static PdpoLogMessage readLogMessage(JsonParser parser, JsonToken token) {
+        expect(token, JsonToken.START_OBJECT, "message");
+        String logType = null;
+        PdpoQueueLogDetails details = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case "log_type" -> logType = readString(parser, value, name);
+                case "details" -> details = value == JsonToken.VALUE_NULL ? null : readDetails(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        return new PdpoLogMessage(logType, details);
+    }
+
+    private static PdpoQueueLogDetails readDetails(JsonParser parser, JsonToken token) {
+        expect(token, JsonToken.START_OBJECT, "details");
+        ParticipantIdentifier createdBy = null;
+        String businessIdentifier = null;
+        OffsetDateTime createdAt = null;
+        String ipAddress = null;
+        PersonalDataProcessingCategory category = null;
+        ParticipantIdentifier recipient = null;
+        Map<String, List<String>> individuals = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case "created_by" -> createdBy = readParticipant(parser, value);
+                case "business_identifier" -> businessIdentifier = readString(parser, value, name);
+                case "created_at" -> {
+                    String text = readString(parser, value, name);
+                    createdAt = text == null ? null : OffsetDateTime.parse(text);
+                }
+                case "ip_address" -> ipAddress = readString(parser, value, name);
+                case "category" -> {
+                    String text = readString(parser, value, name);
+                    category = text == null ? null : PersonalDataProcessingCategory.fromJsonValue(text);
+                }
+                case "recipient" -> recipient = readParticipant(parser, value);
+                case "individuals" -> individuals = readIndividuals(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        return new PdpoQueueLogDetails(createdBy, businessIdentifier, createdAt, ipAddress, category, recipient,
+            individuals);
+    }
+
+    private static ParticipantIdentifier readParticipant(JsonParser parser, JsonToken token) {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(token, JsonToken.START_OBJECT, "participant");
+        ParticipantIdentifier participant = new ParticipantIdentifier();
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case "id" -> participant.setIdentifier(readString(parser, value, name));
+                case "type" -> participant.setType(readIdentifierType(parser, value));
+                default -> parser.skipChildren();
+            }
+        }
+        return participant;
+    }
+
+    /**
+     * Reads an identifier type written either as a plain string or as an object with a {@code type} field.
+     */
+    private static IdentifierType readIdentifierType(JsonParser parser, JsonToken token) {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_STRING || token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return new DecodedIdentifierType(readString(parser, token, "identifier type"));
+        }
+        expect(token, JsonToken.START_OBJECT, "identifier type");
+        String type = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("type".equals(name)) {
+                type = readString(parser, value, name);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return type == null ? null : new DecodedIdentifierType(type);
+    }
+
+    private static Map<String, List<String>> readIndividuals(JsonParser parser, JsonToken token) {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(token, JsonToken.START_OBJECT, "individuals");
+        Map<String, List<String>> individuals = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String type = parser.currentName();
+            expect(parser.nextToken(), JsonToken.START_ARRAY, "individuals of type " + type);
+            List<String> identifiers = new ArrayList<>();
+            JsonToken value;
+            while ((value = parser.nextToken()) != JsonToken.END_ARRAY) {
+                identifiers.add(readString(parser, value, "individual"));
+            }
+            individuals.put(type, identifiers);
+        }
+        return individuals;
+    }
+
+    private static String readString(JsonParser parser, JsonToken token, String name) {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return PdpoCompactUuids.decode(parser.getBinaryValue());
+        }
+        expect(token, JsonToken.VALUE_STRING, name);
+        return parser.getString();
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected, String name) {
+        if (actual != expected) {
+            throw new MessageConversionException("Expected " + expected + " for PDPO " + name + " but found " + actual);
+        }
+    }
+
+    /**
+     * Identifier type decoded from a queue message.
+     */
+    public record DecodedIdentifierType(String type) implements IdentifierType {
+        @Override
+        public String getType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import uk.gov.hmcts.opal.logging.integration.dto.IdentifierType;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+
+/**
+ * Writes the {@link PdpoLogMessage} JSON for a {@link PersonalDataProcessingLogDetails} straight to a
+ * streaming generator. The document matches what the object mapper writes for the mapped
+ * {@link PdpoQueueLogDetails}, without building that record or the grouped individuals map. Field names
+ * and category values are encoded once, and {@code created_at} uses a shared formatter.
+ *
+ * <p>Like the mapper's {@code @JsonFormat} pattern, {@code created_at} is shifted to the mapper's time zone
+ * when one is set explicitly (for example {@code spring.jackson.time-zone}) and
+ * {@link DateTimeFeature#WRITE_DATES_WITH_CONTEXT_TIME_ZONE} is enabled; otherwise it keeps its own offset.
+ *
+ * <p>Identifier types are still written through the object mapper, because callers supply their own
+ * {@link IdentifierType} implementations.
+ */
+public class PdpoLogMessageWriter {
+
+    private static final DateTimeFormatter CREATED_AT_FORMAT =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+    /** Beyond this many distinct identifier types, individuals are grouped in a map rather than rescanned. */
+    private static final int MAX_SCANNED_TYPES = 8;
+
+    private static final SerializableString LOG_TYPE = new SerializedString("log_type");
+    private static final SerializableString DETAILS = new SerializedString("details");
+    private static final SerializableString CREATED_BY = new SerializedString("created_by");
+    private static final SerializableString BUSINESS_IDENTIFIER = new SerializedString("business_identifier");
+    private static final SerializableString CREATED_AT = new SerializedString("created_at");
+    private static final SerializableString IP_ADDRESS = new SerializedString("ip_address");
+    private static final SerializableString CATEGORY = new SerializedString("category");
+    private static final SerializableString RECIPIENT = new SerializedString("recipient");
+    private static final SerializableString INDIVIDUALS = new SerializedString("individuals");
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TYPE = new SerializedString("type");
+    private static final Map<PersonalDataProcessingCategory, SerializableString> CATEGORIES = categories();
+
+    private final ObjectMapper objectMapper;
+    private final boolean writeNulls;
+    private final DateTimeFormatter createdAtFormat;
+
+    public PdpoLogMessageWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        JsonInclude.Include inclusion = objectMapper.serializationConfig().getDefaultPropertyInclusion()
+            .getValueInclusion();
+        this.writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        this.createdAtFormat = createdAtFormat(objectMapper.serializationConfig());
+    }
+
+    private static DateTimeFormatter createdAtFormat(SerializationConfig config) {
+        return config.hasExplicitTimeZone() && config.isEnabled(DateTimeFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE)
+            ? CREATED_AT_FORMAT.withZone(config.getTimeZone().toZoneId())
+            : CREATED_AT_FORMAT;
+    }
+
+    public String writeAsString(PdpoLogMessagePayload payload) throws JacksonException {
+        StringWriter json = new StringWriter(256);
+        try (JsonGenerator generator = objectMapper.createGenerator(json)) {
+            write(generator, payload);
+        }
+        return json.toString();
+    }
+
+    /**
+     * Encodes a queue payload in a binary format. A {@link PdpoLogMessagePayload} is written by this writer
+     * and anything else by the format's object mapper.
+     *
+     * @param compactUuids write UUID-shaped strings as 16 raw bytes.
+     */
+    public byte[] writeAsBytes(Object payload, PdpoWireFormat format, boolean compactUuids) throws JacksonException {
+        ObjectMapper binaryMapper = format.binaryMapper();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (JsonGenerator generator = binaryMapper.createGenerator(bytes)) {
+            JsonGenerator target = compactUuids ? PdpoCompactUuids.compacting(generator) : generator;
+            if (payload instanceof PdpoLogMessagePayload logMessagePayload) {
+                write(target, logMessagePayload);
+            } else {
+                binaryMapper.writeValue(target, payload);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    public void write(JsonGenerator generator, PdpoLogMessagePayload payload) throws JacksonException {
+        generator.writeStartObject();
+        writeString(generator, LOG_TYPE, payload.logType());
+        if (payload.details() == null) {
+            writeNull(generator, DETAILS);
+        } else {
+            generator.writeName(DETAILS);
+            writeDetails(generator, payload.details());
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeDetails(JsonGenerator generator, PersonalDataProcessingLogDetails details) {
+        generator.writeStartObject();
+        writeParticipant(generator, CREATED_BY, details.getCreatedBy());
+        writeString(generator, BUSINESS_IDENTIFIER, details.getBusinessIdentifier());
+        writeCreatedAt(generator, details.getCreatedAt());
+        writeString(generator, IP_ADDRESS, details.getIpAddress());
+        if (details.getCategory() == null) {
+            writeNull(generator, CATEGORY);
+        } else {
+            generator.writeName(CATEGORY);
+            generator.writeString(CATEGORIES.get(details.getCategory()));
+        }
+        writeParticipant(generator, RECIPIENT, details.getRecipient());
+        generator.writeName(INDIVIDUALS);
+        writeIndividuals(generator, details.getIndividuals());
+        generator.writeEndObject();
+    }
+
+    private void writeCreatedAt(JsonGenerator generator, OffsetDateTime createdAt) {
+        if (createdAt == null) {
+            writeNull(generator, CREATED_AT);
+        } else {
+            generator.writeName(CREATED_AT);
+            generator.writeString(createdAtFormat.format(createdAt));
+        }
+    }
+
+    private void writeParticipant(JsonGenerator generator, SerializableString name, ParticipantIdentifier participant) {
+        if (participant == null) {
+            writeNull(generator, name);
+            return;
+        }
+        generator.writeName(name);
+        generator.writeStartObject();
+        writeString(generator, ID, participant.getIdentifier());
+        if (participant.getType() == null) {
+            writeNull(generator, TYPE);
+        } else {
+            generator.writeName(TYPE);
+            generator.writePOJO(participant.getType());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes individuals grouped by identifier type, in order of each type's first appearance, as the
+     * mapper's {@code LinkedHashMap} grouping does.
+     */
+    private void writeIndividuals(JsonGenerator generator, List<ParticipantIdentifier> individuals) {
+        generator.writeStartObject();
+        if (individuals != null && !individuals.isEmpty()) {
+            List<String> types = distinctTypes(individuals);
+            if (types == null) {
+                writeGrouped(generator, individuals);
+            } else {
+                for (String type : types) {
+                    writeTypeName(generator, type);
+                    generator.writeStartArray();
+                    for (ParticipantIdentifier individual : individuals) {
+                        if (individual != null && Objects.equals(type, typeOf(individual))) {
+                            generator.writeString(individual.getIdentifier());
+                        }
+                    }
+                    generator.writeEndArray();
+                }
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeGrouped(JsonGenerator generator, List<ParticipantIdentifier> individuals) {
+        Map<String, List<String>> grouped = new LinkedHashMap<>();
+        for (ParticipantIdentifier individual : individuals) {
+            if (individual != null) {
+                grouped.computeIfAbsent(typeOf(individual), ignored -> new ArrayList<>())
+                    .add(individual.getIdentifier());
+            }
+        }
+        for (Map.Entry<String, List<String>> group : grouped.entrySet()) {
+            writeTypeName(generator, group.getKey());
+            generator.writeStartArray();
+            for (String identifier : group.getValue()) {
+                generator.writeString(identifier);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Distinct identifier types in order of first appearance, or {@code null} when there are too many to
+     * rescan the list for each.
+     */
+    private static List<String> distinctTypes(List<ParticipantIdentifier> individuals) {
+        List<String> types = new ArrayList<>(2);
+        for (ParticipantIdentifier individual : individuals) {
+            if (individual == null) {
+                continue;
+            }
+            String type = typeOf(individual);
+            if (!types.contains(type)) {
+                if (types.size() == MAX_SCANNED_TYPES) {
+                    return null;
+                }
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    private static String typeOf(ParticipantIdentifier individual) {
+        IdentifierType type = individual.getType();
+        return type == null ? null : type.getType();
+    }
+
+    private static void writeTypeName(JsonGenerator generator, String type) {
+        if (type == null) {
+            throw DatabindException.from(generator, "Null key for a Map not allowed in JSON");
+        }
+        generator.writeName(type);
+    }
+
+    private void writeString(JsonGenerator generator, SerializableString name, String value) {
+        if (value == null) {
+            writeNull(generator, name);
+        } else {
+            generator.writeName(name);
+            generator.writeString(value);
+        }
+    }
+
+    private void writeNull(JsonGenerator generator, SerializableString name) {
+        if (writeNulls) {
+            generator.writeName(name);
+            generator.writeNull();
+        }
+    }
+
+    private static Map<PersonalDataProcessingCategory, SerializableString> categories() {
+        Map<PersonalDataProcessingCategory, SerializableString> categories =
+            new EnumMap<>(PersonalDataProcessingCategory.class);
+        for (PersonalDataProcessingCategory category : PersonalDataProcessingCategory.values()) {
+            categories.put(category, new SerializedString(category.getJsonValue()));
+        }
+        return categories;
+    }
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+
+/**
+ * JMS properties set on every PDPO queue message. They can be read without touching the message body.
+ *
+ * @param pdpoType class name of the serialised payload, from {@code _pdpoType}.
+ * @param logType configured log type, from {@code logType}.
+ * @param createdByType identifier type of the creator, from {@code createdByType}, or {@code null} when the
+ *     log had no creator type.
+ * @param contentType content type of a binary body, or {@code null} for JSON.
+ */
+public record PdpoMessageHeaders(String pdpoType, String logType, String createdByType, String contentType) {
+
+    public static PdpoMessageHeaders from(Message message) throws JMSException {
+        return new PdpoMessageHeaders(
+            message.getStringProperty("_pdpoType"),
+            message.getStringProperty("logType"),
+            message.getStringProperty("createdByType"),
+            message.getStringProperty(PdpoWireFormat.CONTENT_TYPE_PROPERTY));
+    }
+}
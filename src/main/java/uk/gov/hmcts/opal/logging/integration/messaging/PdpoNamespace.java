@@ -0,0 +1,99 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import jakarta.jms.ConnectionFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One Service Bus namespace PDPO messages can be routed to, together with its observed health.
+ */
+public final class PdpoNamespace {
+
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final String name;
+    private final ConnectionFactory connectionFactory;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile boolean unhealthy;
+    private volatile long unhealthyUntilNanos;
+    private volatile double latencyMillis = Double.NaN;
+    private volatile double probeLatencyMillis = Double.NaN;
+
+    public PdpoNamespace(String name, ConnectionFactory connectionFactory) {
+        this.name = name;
+        this.connectionFactory = connectionFactory;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public ConnectionFactory connectionFactory() {
+        return connectionFactory;
+    }
+
+    /**
+     * Exponentially weighted send latency in milliseconds, or {@code NaN} before the first sample.
+     */
+    public double latencyMillis() {
+        return latencyMillis;
+    }
+
+    /**
+     * Exponentially weighted latency of the background probe's link attach in milliseconds, or {@code NaN}
+     * before the first successful probe. Kept apart from {@link #latencyMillis()}, since an attach and a
+     * send are different round trips.
+     */
+    public double probeLatencyMillis() {
+        return probeLatencyMillis;
+    }
+
+    public int consecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    /**
+     * Whether sends are currently routed to this namespace, that is it is not within a failure cooldown.
+     */
+    public boolean isAvailable() {
+        return isHealthy(System.nanoTime());
+    }
+
+    boolean isHealthy(long nowNanos) {
+        // After the cooldown the namespace is tried again; the next outcome decides whether it stays in use.
+        return !unhealthy || nowNanos - unhealthyUntilNanos >= 0;
+    }
+
+    void recordSuccess(long elapsedNanos) {
+        latencyMillis = smooth(latencyMillis, elapsedNanos);
+        recovered();
+    }
+
+    void recordProbeSuccess(long elapsedNanos) {
+        probeLatencyMillis = smooth(probeLatencyMillis, elapsedNanos);
+        recovered();
+    }
+
+    private void recovered() {
+        consecutiveFailures.set(0);
+        unhealthy = false;
+    }
+
+    private static double smooth(double previous, long elapsedNanos) {
+        double sample = elapsedNanos / 1_000_000d;
+        return Double.isNaN(previous) ? sample : previous + LATENCY_SMOOTHING * (sample - previous);
+    }
+
+    boolean recordFailure(int failureThreshold, long cooldownNanos) {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            unhealthyUntilNanos = System.nanoTime() + cooldownNanos;
+            unhealthy = true;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,187 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import jakarta.jms.Connection;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jms.support.JmsUtils;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncFailoverProperties;
+
+/**
+ * Chooses the Service Bus namespace PDPO messages are sent to.
+ *
+ * <p>Namespaces are preferred in configuration order. A namespace is skipped for
+ * {@code failover.cooldown} after {@code failover.failure-threshold} consecutive failures, and a healthy
+ * namespace is bypassed when another healthy one is faster by more than {@code failover.latency-tolerance}.
+ * Send outcomes and a background probe feed the statistics, so the primary is used again as soon as it
+ * recovers.
+ *
+ * <p>Probe and send latencies are smoothed separately and never compared with each other. Two namespaces
+ * are compared on probe latency, which the probe samples for all of them alike, and on send latency only
+ * when probing is off.
+ */
+@Slf4j
+public class PdpoNamespaceSelector implements DisposableBean {
+
+    private final List<PdpoNamespace> namespaces;
+    private final PdpoAsyncFailoverProperties properties;
+    private final String queueName;
+    private final ThreadLocal<PdpoNamespace> lastSelected = new ThreadLocal<>();
+    private final ScheduledExecutorService prober;
+
+    public PdpoNamespaceSelector(List<PdpoNamespace> namespaces,
+                                 PdpoAsyncFailoverProperties properties,
+                                 String queueName) {
+        if (namespaces.isEmpty()) {
+            throw new IllegalArgumentException("At least one Service Bus namespace is required");
+        }
+        this.namespaces = List.copyOf(namespaces);
+        this.properties = properties;
+        this.queueName = queueName;
+        this.prober = startProber();
+    }
+
+    public List<PdpoNamespace> namespaces() {
+        return namespaces;
+    }
+
+    public boolean isFailoverEnabled() {
+        return namespaces.size() > 1;
+    }
+
+    /**
+     * Returns the namespace the next send should use and remembers it for the calling thread, so the
+     * outcome can be attributed with {@link #recordOutcomeOfLastSelection(boolean, long)}.
+     */
+    public PdpoNamespace select() {
+        PdpoNamespace selected = preferred();
+        lastSelected.set(selected);
+        return selected;
+    }
+
+    /**
+     * Returns the namespace sends should currently use, without remembering the choice.
+     */
+    public PdpoNamespace preferred() {
+        long now = System.nanoTime();
+        PdpoNamespace firstHealthy = null;
+        PdpoNamespace preferred = null;
+        double largestSlowdown = properties.latencyTolerance();
+        for (PdpoNamespace namespace : namespaces) {
+            if (!namespace.isHealthy(now)) {
+                continue;
+            }
+            if (firstHealthy == null) {
+                firstHealthy = namespace;
+                preferred = namespace;
+                continue;
+            }
+            double slowdown = slowdown(firstHealthy, namespace);
+            if (slowdown > largestSlowdown) {
+                largestSlowdown = slowdown;
+                preferred = namespace;
+            }
+        }
+        return preferred == null ? namespaces.get(0) : preferred;
+    }
+
+    /**
+     * How many times slower {@code namespace} is than {@code other}, on the probe latency if both have one
+     * and otherwise on the send latency, or {@code NaN} if they have no latency in common.
+     */
+    private static double slowdown(PdpoNamespace namespace, PdpoNamespace other) {
+        if (!Double.isNaN(namespace.probeLatencyMillis()) && !Double.isNaN(other.probeLatencyMillis())) {
+            return namespace.probeLatencyMillis() / other.probeLatencyMillis();
+        }
+        return namespace.latencyMillis() / other.latencyMillis();
+    }
+
+    public void recordOutcome(PdpoNamespace namespace, boolean success, long elapsedNanos) {
+        if (success) {
+            namespace.recordSuccess(elapsedNanos);
+        } else {
+            recordFailure(namespace);
+        }
+    }
+
+    private void recordFailure(PdpoNamespace namespace) {
+        if (namespace.recordFailure(properties.failureThreshold(), properties.cooldown().toNanos())
+            && isFailoverEnabled()) {
+            log.warn("Service Bus namespace {} marked unhealthy after {} consecutive failures",
+                namespace.name(), namespace.consecutiveFailures());
+        }
+    }
+
+    /**
+     * Records the outcome of a send against the namespace last handed out to the calling thread by
+     * {@link #select()}. Does nothing when no namespace was selected on this thread.
+     */
+    public void recordOutcomeOfLastSelection(boolean success, long elapsedNanos) {
+        PdpoNamespace namespace = lastSelected.get();
+        if (namespace != null) {
+            lastSelected.remove();
+            recordOutcome(namespace, success, elapsedNanos);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (prober != null) {
+            prober.shutdownNow();
+        }
+        for (PdpoNamespace namespace : namespaces) {
+            if (namespace.connectionFactory() instanceof DisposableBean disposable) {
+                try {
+                    disposable.destroy();
+                } catch (Exception ex) {
+                    log.debug("Unable to close connection factory for namespace {}", namespace.name(), ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Attaches a sender link on every namespace and records the outcome, as the background probe does. The
+     * attach time goes to {@link PdpoNamespace#probeLatencyMillis()}, not to the send latency. Blocks for the
+     * broker round trips, so it must not run on a request thread.
+     */
+    public void probe() {
+        for (PdpoNamespace namespace : namespaces) {
+            long started = System.nanoTime();
+            Connection connection = null;
+            Session session = null;
+            MessageProducer producer = null;
+            try {
+                connection = namespace.connectionFactory().createConnection();
+                session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+                // Attaching a sender link is a full broker round-trip, which is what sends pay for.
+                producer = session.createProducer(session.createQueue(queueName));
+                namespace.recordProbeSuccess(System.nanoTime() - started);
+            } catch (JMSException | RuntimeException ex) {
+                log.debug("Probe of Service Bus namespace {} failed", namespace.name(), ex);
+                recordFailure(namespace);
+            } finally {
+                JmsUtils.closeMessageProducer(producer);
+                JmsUtils.closeSession(session);
+                JmsUtils.closeConnection(connection);
+            }
+        }
+    }
+
+    private ScheduledExecutorService startProber() {
+        long intervalMillis = properties.probeInterval().toMillis();
+        if (!isFailoverEnabled() || intervalMillis <= 0) {
+            return null;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("pdpo-namespace-probe").factory());
+        executor.scheduleWithFixedDelay(this::probe, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+}
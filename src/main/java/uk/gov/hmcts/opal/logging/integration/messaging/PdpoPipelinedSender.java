@@ -0,0 +1,219 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Connection;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jms.UncategorizedJmsException;
+import org.springframework.jms.core.MessagePostProcessor;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncPipelineProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings.Stage;
+
+/**
+ * Sends PDPO messages over one long-lived JMS session using JMS 2.0 asynchronous sends, so several
+ * messages can be in flight on the same AMQP link. Each broker acknowledgement completes the future
+ * returned for that message. The number of unacknowledged sends is capped by
+ * {@code logging-service.pdpl.async.pipeline.max-in-flight}, which can be changed at runtime. When several
+ * Service Bus namespaces are configured the producer follows the namespace preferred by the
+ * {@link PdpoNamespaceSelector}.
+ */
+@Slf4j
+@Component
+public class PdpoPipelinedSender implements DisposableBean {
+
+    private final MessageConverter messageConverter;
+    private final ReloadableProperties<PdpoAsyncProperties> asyncTuning;
+    private final ReloadableProperties<PdpoAsyncPipelineProperties> tuning;
+    private final PdpoNamespaceSelector namespaceSelector;
+    private final ResizableSemaphore inFlight;
+    private final ReentrantLock sendLock = new ReentrantLock();
+
+    private Connection connection;
+    private Session session;
+    private MessageProducer producer;
+    private PdpoNamespace producerNamespace;
+    private volatile boolean resetRequested;
+
+    public PdpoPipelinedSender(@Qualifier("pdpoMessageConverter") MessageConverter messageConverter,
+                               ReloadableProperties<PdpoAsyncProperties> asyncTuning,
+                               ReloadableProperties<PdpoAsyncPipelineProperties> tuning,
+                               PdpoNamespaceSelector namespaceSelector) {
+        this.messageConverter = messageConverter;
+        this.asyncTuning = asyncTuning;
+        this.tuning = tuning;
+        this.namespaceSelector = namespaceSelector;
+        this.inFlight = new ResizableSemaphore(tuning.get().maxInFlight());
+    }
+
+    public boolean isEnabled() {
+        return tuning.get().enabled();
+    }
+
+    /**
+     * Number of sends that have been handed to the broker but not yet acknowledged.
+     */
+    public int inFlight() {
+        return inFlight.inUse();
+    }
+
+    /**
+     * Converts and sends the payload without waiting for the broker disposition.
+     *
+     * @param payload object passed to the PDPO message converter.
+     * @param postProcessor hook used to set JMS properties on the converted message.
+     * @return future completed when the broker accepts the message, or exceptionally with a
+     *     {@link org.springframework.jms.JmsException} when the send fails.
+     */
+    public CompletableFuture<Void> send(Object payload, MessagePostProcessor postProcessor) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        PdpoAsyncPipelineProperties properties = tuning.get();
+        inFlight.resize(properties.maxInFlight());
+        if (!acquirePermit(properties)) {
+            result.completeExceptionally(new UncategorizedJmsException(
+                "PDPO pipeline in-flight window of " + properties.maxInFlight() + " is full"));
+            return result;
+        }
+
+        sendLock.lock();
+        try {
+            MessageProducer activeProducer = activeProducer();
+            Message message = postProcessor.postProcessMessage(messageConverter.toMessage(payload, session));
+            activeProducer.send(message, DeliveryMode.PERSISTENT, Message.DEFAULT_PRIORITY,
+                Message.DEFAULT_TIME_TO_LIVE, new PermitReleasingListener(result, producerNamespace));
+        } catch (JMSException ex) {
+            inFlight.release();
+            reset();
+            result.completeExceptionally(JmsUtils.convertJmsAccessException(ex));
+        } catch (RuntimeException ex) {
+            inFlight.release();
+            reset();
+            result.completeExceptionally(ex);
+        } finally {
+            sendLock.unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        sendLock.lock();
+        try {
+            reset();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    private boolean acquirePermit(PdpoAsyncPipelineProperties properties) {
+        try {
+            return inFlight.tryAcquire(properties.acquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private MessageProducer activeProducer() throws JMSException {
+        PdpoNamespace preferred = namespaceSelector.preferred();
+        if (resetRequested || producerNamespace != preferred) {
+            reset();
+        }
+        if (producer == null) {
+            producerNamespace = preferred;
+            long started = PdpoStageTimings.start();
+            connection = preferred.connectionFactory().createConnection();
+            PdpoStageTimings.record(Stage.CONNECTION, started);
+            started = PdpoStageTimings.start();
+            session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            PdpoStageTimings.record(Stage.SESSION, started);
+            started = PdpoStageTimings.start();
+            producer = session.createProducer(session.createQueue(asyncTuning.get().queueName()));
+            PdpoStageTimings.record(Stage.PRODUCER, started);
+        }
+        return producer;
+    }
+
+    private void reset() {
+        resetRequested = false;
+        JmsUtils.closeMessageProducer(producer);
+        JmsUtils.closeSession(session);
+        JmsUtils.closeConnection(connection);
+        producer = null;
+        session = null;
+        connection = null;
+        producerNamespace = null;
+    }
+
+    private final class PermitReleasingListener implements CompletionListener {
+        private final CompletableFuture<Void> result;
+        private final PdpoNamespace namespace;
+        private final long startedNanos = System.nanoTime();
+
+        private PermitReleasingListener(CompletableFuture<Void> result, PdpoNamespace namespace) {
+            this.result = result;
+            this.namespace = namespace;
+        }
+
+        @Override
+        public void onCompletion(Message message) {
+            inFlight.release();
+            namespaceSelector.recordOutcome(namespace, true, System.nanoTime() - startedNanos);
+            result.complete(null);
+        }
+
+        @Override
+        public void onException(Message message, Exception exception) {
+            inFlight.release();
+            namespaceSelector.recordOutcome(namespace, false, System.nanoTime() - startedNanos);
+            // The session must not be closed from a completion callback, so defer it to the next send.
+            resetRequested = true;
+            log.debug("Pipelined PDPO send failed; producer will be recreated", exception);
+            result.completeExceptionally(exception instanceof JMSException jmsException
+                ? JmsUtils.convertJmsAccessException(jmsException)
+                : exception);
+        }
+    }
+
+    /**
+     * Semaphore whose number of permits follows the configured in-flight window. Shrinking the window
+     * lets in-flight sends finish and only blocks new ones until the usage drops below the new limit.
+     */
+    static final class ResizableSemaphore extends Semaphore {
+        private int limit;
+
+        ResizableSemaphore(int limit) {
+            super(limit);
+            this.limit = limit;
+        }
+
+        synchronized void resize(int newLimit) {
+            int delta = newLimit - limit;
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                reducePermits(-delta);
+            }
+            limit = newLimit;
+        }
+
+        synchronized int inUse() {
+            return limit - availablePermits();
+        }
+    }
+}
@@ -3,9 +3,14 @@ package uk.gov.hmcts.opal.logging.integration.messaging;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoIndividualGroup;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoLogRecord;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoParticipant;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
 
 /**
@@ -28,4 +33,32 @@ public record PdpoQueueLogDetails(
     ParticipantIdentifier recipient,
     @JsonProperty("individuals")
     Map<String, List<String>> individuals) {
+
+    /**
+     * Maps an immutable log record to the queue payload. Identifier lists are shared with the record rather
+     * than copied, unless several groups use the same identifier type name.
+     */
+    public static PdpoQueueLogDetails from(PdpoLogRecord logRecord) {
+        Map<String, List<String>> individuals = new LinkedHashMap<>();
+        for (PdpoIndividualGroup group : logRecord.individuals()) {
+            individuals.merge(group.type().getType(), group.identifiers(), (existing, more) -> {
+                List<String> merged = new ArrayList<>(existing.size() + more.size());
+                merged.addAll(existing);
+                merged.addAll(more);
+                return merged;
+            });
+        }
+        return new PdpoQueueLogDetails(
+            participant(logRecord.createdBy()),
+            logRecord.businessIdentifier(),
+            logRecord.createdAt(),
+            logRecord.ipAddress(),
+            logRecord.category(),
+            participant(logRecord.recipient()),
+            individuals);
+    }
+
+    private static ParticipantIdentifier participant(PdpoParticipant participant) {
+        return participant == null ? null : participant.toParticipantIdentifier();
+    }
 }
@@ -0,0 +1,171 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.support.JmsUtils;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncReconnectProperties;
+
+/**
+ * Caching connection factory that re-establishes a dropped AMQP connection on a background thread instead
+ * of on the next caller's send.
+ *
+ * <p>When the broker connection fails, or an idle probe finds it unusable, the shared connection is reset
+ * and a supervisor opens a replacement with exponential backoff. The replacement is handshaken outside the
+ * factory's connection lock and then installed as the shared connection. A request thread that needs the
+ * connection while a handshake is in progress waits for it and takes the replacement rather than opening a
+ * second connection; between failed attempts it connects on its own, as without supervision.
+ */
+@Slf4j
+public class PdpoSupervisedConnectionFactory extends CachingConnectionFactory {
+
+    private final PdpoAsyncReconnectProperties properties;
+    private final String name;
+    private final String queueName;
+    private final ScheduledExecutorService supervisor;
+    private final AtomicReference<Connection> standby = new AtomicReference<>();
+    private final AtomicBoolean reconnecting = new AtomicBoolean();
+    /** Released when the current reconnect attempt has opened the standby connection or failed. */
+    private volatile CountDownLatch handshake = new CountDownLatch(0);
+    private volatile boolean destroyed;
+
+    /**
+     * @param queueName queue the idle probe attaches a sender link to.
+     */
+    public PdpoSupervisedConnectionFactory(ConnectionFactory targetConnectionFactory,
+                                           PdpoAsyncReconnectProperties properties,
+                                           String name,
+                                           String queueName) {
+        super(targetConnectionFactory);
+        this.properties = properties;
+        this.name = name;
+        this.queueName = queueName;
+        setReconnectOnException(true);
+        this.supervisor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("pdpo-reconnect-" + name).factory());
+        long probeMillis = properties.probeInterval().toMillis();
+        if (probeMillis > 0) {
+            supervisor.scheduleWithFixedDelay(this::probe, probeMillis, probeMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void onException(JMSException ex) {
+        boolean supervise = !destroyed && reconnecting.compareAndSet(false, true);
+        if (supervise) {
+            // Set before the shared connection is reset, so no caller misses the handshake it should wait for.
+            handshake = new CountDownLatch(1);
+        }
+        super.onException(ex);
+        if (supervise) {
+            log.warn("AMQP connection to {} dropped; reconnecting in the background", name);
+            supervisor.execute(() -> reconnect(0));
+        }
+    }
+
+    @Override
+    protected Connection doCreateConnection() throws JMSException {
+        Connection warmed = standby.getAndSet(null);
+        if (warmed == null && reconnecting.get()) {
+            awaitHandshake();
+            warmed = standby.getAndSet(null);
+        }
+        return warmed != null ? warmed : super.doCreateConnection();
+    }
+
+    @Override
+    public void destroy() {
+        destroyed = true;
+        supervisor.shutdownNow();
+        handshake.countDown();
+        JmsUtils.closeConnection(standby.getAndSet(null));
+        super.destroy();
+    }
+
+    /**
+     * Whether the connection dropped and a replacement is being opened in the background.
+     */
+    public boolean isReconnecting() {
+        return reconnecting.get();
+    }
+
+    void probe() {
+        if (destroyed || reconnecting.get()) {
+            return;
+        }
+        Session session = null;
+        MessageProducer producer = null;
+        try {
+            // getConnection() is the target connection rather than the caching proxy, so the session is new.
+            // Attaching a sender link on it must reach the broker, which a connection that died while idle
+            // cannot do.
+            session = getConnection().createSession(false, Session.AUTO_ACKNOWLEDGE);
+            producer = session.createProducer(session.createQueue(queueName));
+        } catch (JMSException ex) {
+            log.debug("Idle probe of AMQP connection to {} failed", name, ex);
+            onException(ex);
+        } catch (RuntimeException ex) {
+            log.debug("Idle probe of AMQP connection to {} failed", name, ex);
+            onException(new JMSException(ex.getMessage()));
+        } finally {
+            JmsUtils.closeMessageProducer(producer);
+            JmsUtils.closeSession(session);
+        }
+    }
+
+    private void awaitHandshake() throws JMSException {
+        try {
+            handshake.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            JMSException interrupted = new JMSException("Interrupted while reconnecting to " + name);
+            interrupted.initCause(ex);
+            throw interrupted;
+        }
+    }
+
+    private void reconnect(int attempt) {
+        CountDownLatch attemptDone = attempt == 0 ? handshake : new CountDownLatch(1);
+        handshake = attemptDone;
+        if (destroyed) {
+            attemptDone.countDown();
+            return;
+        }
+        try {
+            try {
+                standby.set(super.doCreateConnection());
+            } finally {
+                // Released before getConnection(), whose lock a waiting caller may hold.
+                attemptDone.countDown();
+            }
+            // Installs the standby connection unless a caller already took it.
+            getConnection();
+            JmsUtils.closeConnection(standby.getAndSet(null));
+            reconnecting.set(false);
+            log.info("Re-established AMQP connection to {} after {} failed attempts", name, attempt);
+        } catch (JMSException | RuntimeException ex) {
+            JmsUtils.closeConnection(standby.getAndSet(null));
+            long delayMillis = backoffMillis(attempt);
+            log.warn("Unable to reconnect to {} (attempt {}); retrying in {} ms", name, attempt + 1, delayMillis, ex);
+            if (!destroyed) {
+                supervisor.schedule(() -> reconnect(attempt + 1), delayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        long initial = Math.max(1L, properties.initialBackoff().toMillis());
+        long max = Math.max(initial, properties.maxBackoff().toMillis());
+        return Math.min(max, initial << Math.min(attempt, 20));
+    }
+}
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import org.springframework.jms.core.JmsTemplate;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings.Stage;
+
+/**
+ * {@link JmsTemplate} that records connection, session and producer checkout and the broker round trip
+ * into the current {@link PdpoStageTimings} sample. Sends that are not sampled only pay a thread-local read
+ * per stage.
+ */
+public class PdpoTimedJmsTemplate extends JmsTemplate {
+
+    public PdpoTimedJmsTemplate(ConnectionFactory connectionFactory) {
+        super(connectionFactory);
+    }
+
+    @Override
+    protected Connection createConnection() throws JMSException {
+        long started = PdpoStageTimings.start();
+        try {
+            return super.createConnection();
+        } finally {
+            PdpoStageTimings.record(Stage.CONNECTION, started);
+        }
+    }
+
+    @Override
+    protected Session createSession(Connection connection) throws JMSException {
+        long started = PdpoStageTimings.start();
+        try {
+            return super.createSession(connection);
+        } finally {
+            PdpoStageTimings.record(Stage.SESSION, started);
+        }
+    }
+
+    @Override
+    protected MessageProducer createProducer(Session session, Destination destination) throws JMSException {
+        long started = PdpoStageTimings.start();
+        try {
+            return super.createProducer(session, destination);
+        } finally {
+            PdpoStageTimings.record(Stage.PRODUCER, started);
+        }
+    }
+
+    @Override
+    protected void doSend(MessageProducer producer, Message message) throws JMSException {
+        long started = PdpoStageTimings.start();
+        try {
+            super.doSend(producer, message);
+        } finally {
+            PdpoStageTimings.record(Stage.SEND, started);
+        }
+    }
+}
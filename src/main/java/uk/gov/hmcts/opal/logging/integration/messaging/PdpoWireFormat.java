@@ -0,0 +1,78 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import java.util.Locale;
+import org.springframework.jms.support.converter.MessageConversionException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Encodings a PDPO queue message body can use. JSON messages are sent as text without a content type,
+ * as they always have been. Binary formats are sent as bytes with their content type in the
+ * {@value #CONTENT_TYPE_PROPERTY} message property, and need the matching Jackson dataformat module on the
+ * classpath.
+ */
+public enum PdpoWireFormat {
+    JSON("application/json"),
+    CBOR("application/cbor"),
+    SMILE("application/x-jackson-smile");
+
+    public static final String CONTENT_TYPE_PROPERTY = "contentType";
+
+    private final String contentType;
+
+    PdpoWireFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public boolean isBinary() {
+        return this != JSON;
+    }
+
+    /**
+     * Resolves the format from the {@value #CONTENT_TYPE_PROPERTY} message property. A missing content type
+     * means JSON.
+     */
+    public static PdpoWireFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return JSON;
+        }
+        return switch (contentType) {
+            case "application/json" -> JSON;
+            case "application/cbor" -> CBOR;
+            case "application/x-jackson-smile" -> SMILE;
+            default -> throw new MessageConversionException("Unsupported PDPO content type: " + contentType);
+        };
+    }
+
+    /**
+     * Mapper used to read and write binary message bodies.
+     *
+     * @throws IllegalStateException when the dataformat module for this format is not on the classpath.
+     */
+    public ObjectMapper binaryMapper() {
+        try {
+            return switch (this) {
+                case CBOR -> CborMapperHolder.MAPPER;
+                case SMILE -> SmileMapperHolder.MAPPER;
+                case JSON -> throw new IllegalStateException("JSON is not a binary PDPO format");
+            };
+        } catch (NoClassDefFoundError ex) {
+            throw new IllegalStateException("PDPO " + name() + " format requires tools.jackson.dataformat:"
+                + "jackson-dataformat-" + name().toLowerCase(Locale.ROOT) + " on the classpath", ex);
+        }
+    }
+
+    // Held in their own classes so the optional dataformat modules are only loaded when a format is used.
+    private static final class CborMapperHolder {
+        private static final ObjectMapper MAPPER = new CBORMapper();
+    }
+
+    private static final class SmileMapperHolder {
+        private static final ObjectMapper MAPPER = new SmileMapper();
+    }
+}
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.opal.logging.integration.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coarse latency histogram with striped buckets, so recording never contends between threads. Bucket
+ * bounds follow a 1-2-5 series from one millisecond to one minute; percentiles are reported as the upper
+ * bound of the bucket they fall in.
+ */
+final class PdpoLatencyHistogram {
+
+    static final long[] BOUNDS_MILLIS = {
+        1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000, 20_000, 60_000
+    };
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MILLIS.length + 1];
+
+    PdpoLatencyHistogram() {
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            buckets[bucket] = new LongAdder();
+        }
+    }
+
+    void record(long elapsedNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        int bucket = 0;
+        while (bucket < BOUNDS_MILLIS.length && millis >= BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+    }
+
+    /**
+     * Returns the bucket counts recorded since the previous call and starts a new interval. A value recorded
+     * while the counts are being read may be missed, which only skews the percentiles.
+     */
+    long[] drain() {
+        long[] counts = new long[buckets.length];
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            counts[bucket] = buckets[bucket].sumThenReset();
+        }
+        return counts;
+    }
+
+    /**
+     * Upper bound in milliseconds of the bucket holding the given percentile, {@code Long.MAX_VALUE} when it
+     * falls beyond the largest bound, or {@code -1} when nothing was recorded.
+     */
+    static long percentileBound(long[] counts, double percentile) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return bucket < BOUNDS_MILLIS.length ? BOUNDS_MILLIS[bucket] : Long.MAX_VALUE;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,312 @@
+package uk.gov.hmcts.opal.logging.integration.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+
+/**
+ * Micrometer meters shared by the queue and HTTP publishers.
+ *
+ * <p>Outcome counters are {@link LongAdder}s indexed by path and category and only summed when the
+ * registry is scraped, so recording an outcome never contends with other publishing threads. Latency
+ * timers publish the 50th, 95th and 99th percentiles. Without a {@link MeterRegistry} in the context the
+ * meters are registered in an empty composite registry and recording does nothing.
+ *
+ * <p>The time of the latest success and failure on each path and the number of consecutive failures are
+ * also kept, so health can be reported from passively observed outcomes.
+ */
+@Component
+public class PdpoMetrics {
+
+    public static final String ATTEMPTS = "pdpo.publish.attempts";
+    public static final String SUCCESSES = "pdpo.publish.successes";
+    public static final String FAILURES = "pdpo.publish.failures";
+    public static final String LATENCY = "pdpo.publish.latency";
+    public static final String ATTEMPT_LATENCY = "pdpo.publish.attempt.latency";
+    public static final String RETRIES = "pdpo.publish.retries";
+    public static final String RETRY_DELAY = "pdpo.publish.retry.delay";
+    public static final String PAYLOAD_SIZE = "pdpo.payload.size";
+    public static final String INDIVIDUALS = "pdpo.payload.individuals";
+
+    private static final String UNKNOWN_CATEGORY = "unknown";
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final PersonalDataProcessingCategory[] CATEGORIES = PersonalDataProcessingCategory.values();
+
+    /**
+     * The publisher a meter belongs to; used as the {@code path} tag.
+     */
+    public enum Path {
+        ASYNC,
+        SYNC;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final LongAdder[][] attempts;
+    private final LongAdder[][] successes;
+    private final LongAdder[][] failures;
+    private final LongAdder[] retries;
+    private final Timer[] latency;
+    private final Timer[] attemptLatency;
+    private final Timer[] retryDelay;
+    private final DistributionSummary[] payloadSize;
+    private final DistributionSummary[] individuals;
+    private final PathObservation[] observations;
+    private final PdpoLatencyHistogram[] intervalLatency;
+
+    @Autowired
+    public PdpoMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(CompositeMeterRegistry::new));
+    }
+
+    public PdpoMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.attempts = outcomeCounters(ATTEMPTS, "PDPO logs handed to a publisher");
+        this.successes = outcomeCounters(SUCCESSES, "PDPO logs accepted by the queue or logging service");
+        this.failures = outcomeCounters(FAILURES, "PDPO logs that could not be sent");
+        this.retries = new LongAdder[Path.values().length];
+        this.latency = new Timer[Path.values().length];
+        this.attemptLatency = new Timer[Path.values().length];
+        this.retryDelay = new Timer[Path.values().length];
+        this.payloadSize = new DistributionSummary[Path.values().length];
+        this.individuals = new DistributionSummary[Path.values().length];
+        this.observations = new PathObservation[Path.values().length];
+        this.intervalLatency = new PdpoLatencyHistogram[Path.values().length];
+        for (Path path : Path.values()) {
+            int index = path.ordinal();
+            observations[index] = new PathObservation();
+            intervalLatency[index] = new PdpoLatencyHistogram();
+            retries[index] = new LongAdder();
+            FunctionCounter.builder(RETRIES, retries[index], LongAdder::sum)
+                .description("Send attempts made after the first one")
+                .tag("path", path.tag())
+                .register(registry);
+            latency[index] = timer(LATENCY, "Time from handing a PDPO log to a publisher to its outcome", path);
+            attemptLatency[index] = timer(ATTEMPT_LATENCY, "Duration of a single PDPO send attempt", path);
+            retryDelay[index] = Timer.builder(RETRY_DELAY)
+                .description("Time spent waiting between PDPO send attempts")
+                .tag("path", path.tag())
+                .register(registry);
+            payloadSize[index] = DistributionSummary.builder(PAYLOAD_SIZE)
+                .description("Serialised PDPO payload size")
+                .baseUnit("bytes")
+                .tag("path", path.tag())
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+            individuals[index] = DistributionSummary.builder(INDIVIDUALS)
+                .description("Individuals per PDPO log")
+                .tag("path", path.tag())
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+        }
+    }
+
+    /**
+     * Metrics that are not exported anywhere, for publishers created outside a Spring context.
+     */
+    public static PdpoMetrics noop() {
+        return new PdpoMetrics(new CompositeMeterRegistry());
+    }
+
+    public MeterRegistry registry() {
+        return registry;
+    }
+
+    public void attempted(Path path, PersonalDataProcessingCategory category, int individualCount) {
+        attempts[path.ordinal()][slot(category)].increment();
+        individuals[path.ordinal()].record(individualCount);
+    }
+
+    public void succeeded(Path path, PersonalDataProcessingCategory category, long startedNanos) {
+        successes[path.ordinal()][slot(category)].increment();
+        recordLatency(path, System.nanoTime() - startedNanos);
+        observations[path.ordinal()].success();
+    }
+
+    public void failed(Path path, PersonalDataProcessingCategory category, long startedNanos) {
+        failures[path.ordinal()][slot(category)].increment();
+        recordLatency(path, System.nanoTime() - startedNanos);
+        observations[path.ordinal()].failure();
+    }
+
+    /**
+     * Records the outcome of a health probe, which counts towards the observed outcomes of the path but
+     * not towards the publish meters.
+     */
+    public void probed(Path path, boolean success) {
+        if (success) {
+            observations[path.ordinal()].success();
+        } else {
+            observations[path.ordinal()].failure();
+        }
+    }
+
+    public void attemptCompleted(Path path, long elapsedNanos) {
+        attemptLatency[path.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void retried(Path path, Duration delay) {
+        retries[path.ordinal()].increment();
+        retryDelay[path.ordinal()].record(delay);
+    }
+
+    public void payloadSerialised(Path path, int bytes) {
+        payloadSize[path.ordinal()].record(bytes);
+    }
+
+    public Observation observation(Path path) {
+        return observations[path.ordinal()].snapshot();
+    }
+
+    public long attempts(Path path) {
+        return sum(attempts[path.ordinal()]);
+    }
+
+    public long successes(Path path) {
+        return sum(successes[path.ordinal()]);
+    }
+
+    public long failures(Path path) {
+        return sum(failures[path.ordinal()]);
+    }
+
+    public long retries(Path path) {
+        return retries[path.ordinal()].sum();
+    }
+
+    /**
+     * Failures of one category, or of logs without a category when {@code category} is {@code null}.
+     */
+    public long failures(Path path, PersonalDataProcessingCategory category) {
+        return failures[path.ordinal()][slot(category)].sum();
+    }
+
+    /**
+     * End-to-end latencies recorded since the previous call, for the periodic outcome summary.
+     */
+    long[] drainIntervalLatency(Path path) {
+        return intervalLatency[path.ordinal()].drain();
+    }
+
+    /**
+     * Recent end-to-end latency percentiles in milliseconds, keyed {@code p50}, {@code p95} and
+     * {@code p99}. Empty when the meters are not exported.
+     */
+    public Map<String, Double> latencyPercentiles(Path path) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile value : latency[path.ordinal()].takeSnapshot().percentileValues()) {
+            percentiles.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+        }
+        return percentiles;
+    }
+
+    private void recordLatency(Path path, long elapsedNanos) {
+        latency[path.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+        intervalLatency[path.ordinal()].record(elapsedNanos);
+    }
+
+    private static long sum(LongAdder[] counters) {
+        long total = 0;
+        for (LongAdder counter : counters) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    private LongAdder[][] outcomeCounters(String name, String description) {
+        LongAdder[][] counters = new LongAdder[Path.values().length][CATEGORIES.length + 1];
+        for (Path path : Path.values()) {
+            for (int slot = 0; slot <= CATEGORIES.length; slot++) {
+                LongAdder counter = new LongAdder();
+                counters[path.ordinal()][slot] = counter;
+                FunctionCounter.builder(name, counter, LongAdder::sum)
+                    .description(description)
+                    .tag("path", path.tag())
+                    .tag("category", slot < CATEGORIES.length
+                        ? CATEGORIES[slot].name().toLowerCase(Locale.ROOT)
+                        : UNKNOWN_CATEGORY)
+                    .register(registry);
+            }
+        }
+        return counters;
+    }
+
+    private Timer timer(String name, String description, Path path) {
+        return Timer.builder(name)
+            .description(description)
+            .tag("path", path.tag())
+            .publishPercentiles(PERCENTILES)
+            .register(registry);
+    }
+
+    private static int slot(PersonalDataProcessingCategory category) {
+        return category == null ? CATEGORIES.length : category.ordinal();
+    }
+
+    /**
+     * Latest observed outcomes of one path.
+     *
+     * @param lastSuccess time of the latest success, or {@code null} if there was none.
+     * @param lastFailure time of the latest failure, or {@code null} if there was none.
+     * @param consecutiveFailures failures since the latest success.
+     */
+    public record Observation(Instant lastSuccess, Instant lastFailure, int consecutiveFailures) {
+
+        /**
+         * Time of the latest outcome, or {@code null} if nothing was observed yet.
+         */
+        public Instant lastOutcome() {
+            if (lastSuccess == null || (lastFailure != null && lastFailure.isAfter(lastSuccess))) {
+                return lastFailure;
+            }
+            return lastSuccess;
+        }
+    }
+
+    private static final class PathObservation {
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile long lastSuccessMillis;
+        private volatile long lastFailureMillis;
+
+        void success() {
+            // Reads first so that a steady stream of successes does not keep writing shared fields.
+            long now = System.currentTimeMillis();
+            if (lastSuccessMillis != now) {
+                lastSuccessMillis = now;
+            }
+            if (consecutiveFailures.get() != 0) {
+                consecutiveFailures.set(0);
+            }
+        }
+
+        void failure() {
+            lastFailureMillis = System.currentTimeMillis();
+            consecutiveFailures.incrementAndGet();
+        }
+
+        Observation snapshot() {
+            long success = lastSuccessMillis;
+            long failure = lastFailureMillis;
+            return new Observation(success == 0 ? null : Instant.ofEpochMilli(success),
+                failure == 0 ? null : Instant.ofEpochMilli(failure), consecutiveFailures.get());
+        }
+    }
+}
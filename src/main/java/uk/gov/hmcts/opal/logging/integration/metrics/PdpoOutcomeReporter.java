@@ -0,0 +1,170 @@
+package uk.gov.hmcts.opal.logging.integration.metrics;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoOutcomeLoggingProperties;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+
+/**
+ * Decides which publish outcomes are logged individually.
+ *
+ * <p>By default every success is logged at INFO. With {@code logging.aggregate-successes} the publishers
+ * skip those lines and this reporter logs one summary per path every {@code logging.summary-interval}
+ * instead: counts, latency percentiles and failures by category, taken from the counters the publishers
+ * already update in {@link PdpoMetrics}. Failures are still logged individually, up to
+ * {@code logging.max-failure-logs-per-interval} per interval; the number of suppressed lines is reported
+ * with the summary.
+ */
+@Slf4j
+@Component
+public class PdpoOutcomeReporter implements DisposableBean {
+
+    private static final PersonalDataProcessingCategory[] CATEGORIES = PersonalDataProcessingCategory.values();
+
+    private final PdpoMetrics metrics;
+    private final PdpoOutcomeLoggingProperties properties;
+    private final AtomicInteger failureLogs = new AtomicInteger();
+    private final Totals[] reported = new Totals[PdpoMetrics.Path.values().length];
+    private final ScheduledExecutorService scheduler;
+
+    public PdpoOutcomeReporter(PdpoMetrics metrics, PdpoOutcomeLoggingProperties properties) {
+        if (properties.aggregateSuccesses()
+            && (properties.summaryInterval().isZero() || properties.summaryInterval().isNegative())) {
+            throw new IllegalArgumentException("logging-service.pdpl.logging.summary-interval must be positive");
+        }
+        this.metrics = metrics;
+        this.properties = properties;
+        for (PdpoMetrics.Path path : PdpoMetrics.Path.values()) {
+            reported[path.ordinal()] = Totals.of(metrics, path);
+        }
+        this.scheduler = startScheduler();
+    }
+
+    /**
+     * A reporter that leaves every outcome to be logged individually, for publishers created outside a
+     * Spring context.
+     */
+    public static PdpoOutcomeReporter perMessage() {
+        return new PdpoOutcomeReporter(PdpoMetrics.noop(),
+            new PdpoOutcomeLoggingProperties(false, Duration.ofMinutes(1), 0));
+    }
+
+    /**
+     * Whether publishers should log each successful publish themselves.
+     */
+    public boolean logsEachSuccess() {
+        return !properties.aggregateSuccesses();
+    }
+
+    /**
+     * Whether a failure may be logged individually. Always {@code true} unless successes are aggregated;
+     * otherwise each call uses up one of the lines allowed in the current interval.
+     */
+    public boolean mayLogFailure() {
+        return !properties.aggregateSuccesses()
+            || failureLogs.incrementAndGet() <= properties.maxFailureLogsPerInterval();
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            report();
+        }
+    }
+
+    /**
+     * Logs the outcomes since the previous summary and starts a new interval.
+     */
+    synchronized void report() {
+        for (PdpoMetrics.Path path : PdpoMetrics.Path.values()) {
+            Totals current = Totals.of(metrics, path);
+            Totals previous = reported[path.ordinal()];
+            reported[path.ordinal()] = current;
+            long[] latency = metrics.drainIntervalLatency(path);
+            long sent = current.successes() - previous.successes();
+            long failed = current.failures() - previous.failures();
+            long attempted = current.attempts() - previous.attempts();
+            if (attempted == 0 && sent == 0 && failed == 0) {
+                continue;
+            }
+            Map<String, Long> failuresByCategory = new LinkedHashMap<>();
+            for (int slot = 0; slot < current.failuresByCategory().length; slot++) {
+                long delta = current.failuresByCategory()[slot] - previous.failuresByCategory()[slot];
+                if (delta > 0) {
+                    failuresByCategory.put(categoryName(slot), delta);
+                }
+            }
+            log.info("PDPO {} publishes in the last {}: attempted={}, sent={}, failed={}, retries={}, "
+                    + "latency p50{} p95{} p99{}, failuresByCategory={}",
+                path.tag(), properties.summaryInterval(), attempted, sent, failed,
+                current.retries() - previous.retries(), percentile(latency, 0.5), percentile(latency, 0.95),
+                percentile(latency, 0.99), failuresByCategory);
+        }
+        int suppressed = failureLogs.getAndSet(0) - properties.maxFailureLogsPerInterval();
+        if (suppressed > 0) {
+            log.warn("Suppressed {} PDPO failure log lines in the last {}", suppressed,
+                properties.summaryInterval());
+        }
+    }
+
+    private ScheduledExecutorService startScheduler() {
+        if (!properties.aggregateSuccesses()) {
+            return null;
+        }
+        long intervalMillis = properties.summaryInterval().toMillis();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("pdpo-outcome-summary").factory());
+        executor.scheduleAtFixedRate(this::reportSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private void reportSafely() {
+        try {
+            report();
+        } catch (RuntimeException ex) {
+            // An exception would cancel the schedule; the next interval reports the outcomes missed here.
+            log.debug("Unable to log PDPO outcome summary", ex);
+        }
+    }
+
+    private static String percentile(long[] latency, double percentile) {
+        long bound = PdpoLatencyHistogram.percentileBound(latency, percentile);
+        if (bound < 0) {
+            return "=n/a";
+        }
+        if (bound == Long.MAX_VALUE) {
+            return ">=" + PdpoLatencyHistogram.BOUNDS_MILLIS[PdpoLatencyHistogram.BOUNDS_MILLIS.length - 1] + "ms";
+        }
+        return "<" + bound + "ms";
+    }
+
+    private static String categoryName(int slot) {
+        return slot < CATEGORIES.length ? CATEGORIES[slot].name().toLowerCase(Locale.ROOT) : "unknown";
+    }
+
+    /**
+     * Cumulative counts of one path at the time of a summary.
+     */
+    private record Totals(long attempts, long successes, long failures, long retries, long[] failuresByCategory) {
+
+        static Totals of(PdpoMetrics metrics, PdpoMetrics.Path path) {
+            long[] failuresByCategory = new long[CATEGORIES.length + 1];
+            for (int slot = 0; slot < CATEGORIES.length; slot++) {
+                failuresByCategory[slot] = metrics.failures(path, CATEGORIES[slot]);
+            }
+            failuresByCategory[CATEGORIES.length] = metrics.failures(path, null);
+            return new Totals(metrics.attempts(path), metrics.successes(path), metrics.failures(path),
+                metrics.retries(path), failuresByCategory);
+        }
+    }
+}
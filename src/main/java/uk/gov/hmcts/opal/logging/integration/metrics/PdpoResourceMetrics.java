@@ -0,0 +1,96 @@
+package uk.gov.hmcts.opal.logging.integration.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncPipelineProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBulkheadProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespace;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespaceSelector;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoPipelinedSender;
+import uk.gov.hmcts.opal.logging.integration.service.PdpoAdaptiveConcurrencyLimiter;
+import uk.gov.hmcts.opal.logging.integration.service.PdpoSyncBulkhead;
+import uk.gov.hmcts.opal.logging.integration.service.PdpoSyncMicroBatcher;
+
+/**
+ * Gauges for the capacity the publishers hold: pipelined sends in flight, bulkhead and concurrency limit
+ * usage, the micro-batch buffer and the health of each Service Bus namespace. Values are read from the
+ * components when the registry is scraped; components missing from the context are skipped.
+ */
+@Component
+public class PdpoResourceMetrics implements MeterBinder {
+
+    private final ObjectProvider<PdpoPipelinedSender> pipelinedSender;
+    private final ObjectProvider<ReloadableProperties<PdpoAsyncPipelineProperties>> pipelineTuning;
+    private final ObjectProvider<PdpoNamespaceSelector> namespaceSelector;
+    private final ObjectProvider<PdpoSyncBulkhead> bulkhead;
+    private final ObjectProvider<PdpoSyncBulkheadProperties> bulkheadProperties;
+    private final ObjectProvider<PdpoAdaptiveConcurrencyLimiter> concurrencyLimiter;
+    private final ObjectProvider<PdpoSyncMicroBatcher> microBatcher;
+
+    public PdpoResourceMetrics(ObjectProvider<PdpoPipelinedSender> pipelinedSender,
+                               ObjectProvider<ReloadableProperties<PdpoAsyncPipelineProperties>> pipelineTuning,
+                               ObjectProvider<PdpoNamespaceSelector> namespaceSelector,
+                               ObjectProvider<PdpoSyncBulkhead> bulkhead,
+                               ObjectProvider<PdpoSyncBulkheadProperties> bulkheadProperties,
+                               ObjectProvider<PdpoAdaptiveConcurrencyLimiter> concurrencyLimiter,
+                               ObjectProvider<PdpoSyncMicroBatcher> microBatcher) {
+        this.pipelinedSender = pipelinedSender;
+        this.pipelineTuning = pipelineTuning;
+        this.namespaceSelector = namespaceSelector;
+        this.bulkhead = bulkhead;
+        this.bulkheadProperties = bulkheadProperties;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.microBatcher = microBatcher;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        pipelinedSender.ifAvailable(sender -> Gauge.builder("pdpo.async.pipeline.active", sender,
+                PdpoPipelinedSender::inFlight)
+            .description("Pipelined sends waiting for a broker acknowledgement")
+            .register(registry));
+        pipelineTuning.ifAvailable(tuning -> Gauge.builder("pdpo.async.pipeline.max", tuning,
+                current -> current.get().maxInFlight())
+            .description("Configured pipelined in-flight window")
+            .register(registry));
+        namespaceSelector.ifAvailable(selector -> selector.namespaces().forEach(namespace -> {
+            Gauge.builder("pdpo.async.namespace.failures", namespace, PdpoNamespace::consecutiveFailures)
+                .description("Consecutive failed sends to the Service Bus namespace")
+                .tag("namespace", namespace.name())
+                .register(registry);
+            Gauge.builder("pdpo.async.namespace.latency", namespace, PdpoNamespace::latencyMillis)
+                .description("Smoothed send latency of the Service Bus namespace")
+                .baseUnit("milliseconds")
+                .tag("namespace", namespace.name())
+                .register(registry);
+            Gauge.builder("pdpo.async.namespace.probe.latency", namespace, PdpoNamespace::probeLatencyMillis)
+                .description("Smoothed probe link-attach latency of the Service Bus namespace")
+                .baseUnit("milliseconds")
+                .tag("namespace", namespace.name())
+                .register(registry);
+        }));
+        bulkhead.ifAvailable(active -> Gauge.builder("pdpo.sync.bulkhead.active", active, PdpoSyncBulkhead::inUse)
+            .description("Callers inside the sync bulkhead")
+            .register(registry));
+        bulkheadProperties.ifAvailable(properties -> Gauge.builder("pdpo.sync.bulkhead.max", properties,
+                PdpoSyncBulkheadProperties::maxConcurrentCalls)
+            .description("Configured sync bulkhead size")
+            .register(registry));
+        concurrencyLimiter.ifAvailable(limiter -> {
+            Gauge.builder("pdpo.sync.concurrency.active", limiter, PdpoAdaptiveConcurrencyLimiter::inFlight)
+                .description("Sync calls holding a concurrency limit permit")
+                .register(registry);
+            Gauge.builder("pdpo.sync.concurrency.limit", limiter, PdpoAdaptiveConcurrencyLimiter::limit)
+                .description("Current adaptive sync concurrency limit")
+                .register(registry);
+        });
+        microBatcher.ifAvailable(batcher -> Gauge.builder("pdpo.sync.batch.pending", batcher,
+                PdpoSyncMicroBatcher::pending)
+            .description("Logs buffered for the next sync batch")
+            .register(registry));
+    }
+}
@@ -0,0 +1,222 @@
+package uk.gov.hmcts.opal.logging.integration.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoStageTimingProperties;
+
+/**
+ * Times the stages of a sampled fraction of PDPO publishes.
+ *
+ * <p>A publisher calls {@link #begin(PdpoMetrics.Path)} for each log. With probability
+ * {@code metrics.stages.sample-rate} this returns a {@link Sample} that is current on the calling thread
+ * until {@link #finish(Sample)}; otherwise it returns {@code null} and every stage recording is a single
+ * thread-local read. Code that runs deeper in the call, such as the message converter or the HTTP client,
+ * records into the current sample through the static {@link #start()} and {@link #record(Stage, long)}.
+ * Stages that complete on another thread record into the sample directly.
+ *
+ * <p>Finished samples are recorded as {@code pdpo.publish.stage} timers, tagged with {@code path} and
+ * {@code stage}, and with {@code metrics.stages.log-breakdown} also logged as one line per call.
+ */
+@Slf4j
+@Component
+public class PdpoStageTimings {
+
+    public static final String STAGE = "pdpo.publish.stage";
+
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+    private static final ThreadLocal<Sample> CURRENT = new ThreadLocal<>();
+    private static final Stage[] STAGES = Stage.values();
+
+    /**
+     * Parts of a publish that are timed separately. A stage that runs more than once for a log, such as
+     * {@code SEND} across retries, is summed.
+     */
+    public enum Stage {
+        /** Mapping the log details to the queue model. */
+        MAPPING,
+        /** Serialising the payload to JSON or a binary format. */
+        SERIALISATION,
+        /** Waiting for a bulkhead or concurrency limit permit. */
+        ADMISSION,
+        /** Obtaining the JMS connection. */
+        CONNECTION,
+        /** Checking a session out of the connection factory's cache. */
+        SESSION,
+        /** Creating the message producer, which attaches a link to the broker. */
+        PRODUCER,
+        /** Broker or logging service round trip. */
+        SEND,
+        /** Waiting between attempts. */
+        RETRY_WAIT;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final PdpoStageTimingProperties properties;
+    private final Timer[][] timers;
+
+    public PdpoStageTimings(PdpoMetrics metrics, PdpoStageTimingProperties properties) {
+        this.properties = properties;
+        this.timers = new Timer[PdpoMetrics.Path.values().length][STAGES.length];
+        for (PdpoMetrics.Path path : PdpoMetrics.Path.values()) {
+            for (Stage stage : STAGES) {
+                timers[path.ordinal()][stage.ordinal()] = Timer.builder(STAGE)
+                    .description("Time a sampled PDPO publish spent in one stage")
+                    .tag("path", path.tag())
+                    .tag("stage", stage.tag())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(metrics.registry());
+            }
+        }
+    }
+
+    /**
+     * Stage timings that never sample, for publishers created outside a Spring context.
+     */
+    public static PdpoStageTimings disabled() {
+        return new PdpoStageTimings(PdpoMetrics.noop(), new PdpoStageTimingProperties(0.0, false));
+    }
+
+    /**
+     * Decides whether this publish is sampled and, if so, makes its sample current on the calling thread.
+     *
+     * @return the sample, or {@code null} when this publish is not sampled.
+     */
+    public Sample begin(PdpoMetrics.Path path) {
+        double sampleRate = properties.sampleRate();
+        if (sampleRate <= 0.0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return null;
+        }
+        Sample sample = new Sample(path);
+        CURRENT.set(sample);
+        return sample;
+    }
+
+    /**
+     * Records the stage timings of a finished publish. Does nothing for {@code null}.
+     */
+    public void finish(Sample sample) {
+        if (sample == null) {
+            return;
+        }
+        detach(sample);
+        StringBuilder breakdown = properties.logBreakdown() ? new StringBuilder() : null;
+        for (Stage stage : STAGES) {
+            long nanos = sample.nanos(stage);
+            if (nanos == 0) {
+                continue;
+            }
+            timers[sample.path().ordinal()][stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+            if (breakdown != null) {
+                breakdown.append(' ').append(stage.tag()).append('=').append(millis(nanos)).append("ms");
+            }
+        }
+        if (breakdown != null) {
+            log.info("PDPO {} publish took {}ms:{}", sample.path().tag(),
+                millis(System.nanoTime() - sample.startedNanos()), breakdown);
+        }
+    }
+
+    /**
+     * Stops the sample from being current on the calling thread, for publishes that continue on another
+     * thread. Does nothing if another sample, or none, is current.
+     */
+    public static void detach(Sample sample) {
+        if (sample != null && CURRENT.get() == sample) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Runs {@code call} with {@code sample} current on the calling thread, for work handed to another
+     * thread. The previously current sample is restored afterwards.
+     */
+    public static <T> T supplyWithin(Sample sample, Supplier<T> call) {
+        Sample previous = CURRENT.get();
+        CURRENT.set(sample);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * The sample current on the calling thread, or {@code null}.
+     */
+    public static Sample current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Start time to pass to {@link #record(Stage, long)}. Reads the clock only when a sample is current.
+     */
+    public static long start() {
+        return CURRENT.get() == null ? NOT_SAMPLED : System.nanoTime();
+    }
+
+    /**
+     * Adds the time since {@code startedNanos} to the stage of the sample current on the calling thread.
+     */
+    public static void record(Stage stage, long startedNanos) {
+        if (startedNanos == NOT_SAMPLED) {
+            return;
+        }
+        Sample sample = CURRENT.get();
+        if (sample != null) {
+            sample.add(stage, System.nanoTime() - startedNanos);
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000d);
+    }
+
+    /**
+     * Stage times of one sampled publish. Safe to update from several threads, as hedged requests do.
+     */
+    public static final class Sample {
+        private final PdpoMetrics.Path path;
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLongArray stageNanos = new AtomicLongArray(STAGES.length);
+
+        Sample(PdpoMetrics.Path path) {
+            this.path = path;
+        }
+
+        public PdpoMetrics.Path path() {
+            return path;
+        }
+
+        public long startedNanos() {
+            return startedNanos;
+        }
+
+        public long nanos(Stage stage) {
+            return stageNanos.get(stage.ordinal());
+        }
+
+        public void add(Stage stage, long nanos) {
+            stageNanos.addAndGet(stage.ordinal(), nanos);
+        }
+
+        /**
+         * Adds the time since {@code startedNanos} to the stage.
+         */
+        public void addSince(Stage stage, long startedNanos) {
+            add(stage, System.nanoTime() - startedNanos);
+        }
+    }
+}
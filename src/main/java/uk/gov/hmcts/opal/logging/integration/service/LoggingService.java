@@ -1,5 +1,8 @@
 package uk.gov.hmcts.opal.logging.integration.service;
 
+import java.util.concurrent.CompletableFuture;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoLogRecord;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
 
 /**
@@ -15,6 +18,29 @@ public interface LoggingService {
      */
     boolean personalDataAccessLogAsync(PersonalDataProcessingLogDetails logDetails);
 
+    /**
+     * Enqueues an immutable Personal Data Processing log record onto the logging service queue. Categories
+     * configured for dual write are expanded to {@link PersonalDataProcessingLogDetails} and written to both
+     * paths.
+     *
+     * @param logRecord payload describing the PDPO interaction.
+     * @return {@code true} if the log was successfully queued, {@code false} otherwise.
+     */
+    boolean personalDataAccessLogAsync(PdpoLogRecord logRecord);
+
+    /**
+     * Enqueues a Personal Data Processing log entry whose individuals are too many to hold in one list.
+     * Individuals are read incrementally and sent as several queue messages of at most
+     * {@code logging-service.pdpl.async.chunking.max-individuals} individuals each, all carrying the other
+     * fields of {@code logDetails}. Pass {@code stream::iterator} to log from a {@code Stream}.
+     *
+     * @param logDetails fields shared by every message; its own individuals are ignored.
+     * @param individuals individuals to log, read once in order.
+     * @return {@code true} if every message was successfully queued, {@code false} otherwise.
+     */
+    boolean personalDataAccessLogAsync(PersonalDataProcessingLogDetails logDetails,
+                                       Iterable<ParticipantIdentifier> individuals);
+
     /**
      * Sends a Personal Data Processing log entry to the logging service synchronously.
      *
@@ -22,4 +48,30 @@ public interface LoggingService {
      * @return {@code true} if the log was successfully stored, {@code false} otherwise.
      */
     boolean personalDataAccessLogSync(PersonalDataProcessingLogDetails logDetails);
+
+    /**
+     * Sends an immutable Personal Data Processing log record to the logging service synchronously. The
+     * record is expanded to the {@link PersonalDataProcessingLogDetails} body the endpoint accepts.
+     *
+     * @param logRecord payload describing the PDPO interaction.
+     * @return {@code true} if the log was successfully stored, {@code false} otherwise.
+     */
+    boolean personalDataAccessLogSync(PdpoLogRecord logRecord);
+
+    /**
+     * Sends a Personal Data Processing log entry to the logging service synchronously and reports how the
+     * call ended, so callers can tell a saturated client apart from a failing logging service.
+     *
+     * @param logDetails payload describing the PDPO interaction.
+     * @return {@link PdpoSyncOutcome#SENT} if the log was successfully stored, otherwise the reason it was not.
+     */
+    PdpoSyncOutcome personalDataAccessLogSyncWithOutcome(PersonalDataProcessingLogDetails logDetails);
+
+    /**
+     * Sends a Personal Data Processing log entry to the logging service without blocking the caller.
+     *
+     * @param logDetails payload describing the PDPO interaction.
+     * @return future completed with {@code true} if the log was successfully stored, {@code false} otherwise.
+     */
+    CompletableFuture<Boolean> personalDataAccessLogSyncAsync(PersonalDataProcessingLogDetails logDetails);
 }
@@ -1,26 +1,133 @@
 package uk.gov.hmcts.opal.logging.integration.service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncChunkingProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoDualWriteProperties;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoLogRecord;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
 
 /**
- * Delegates PDPO logging operations to the async and sync publishers.
+ * Delegates PDPO logging operations to the async and sync publishers. Categories configured under
+ * {@code logging-service.pdpl.dual-write} are written to both paths concurrently, whichever method is
+ * called, so the caller waits for the slower path rather than the sum of both.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class LoggingServiceImpl implements LoggingService {
+public class LoggingServiceImpl implements LoggingService, DisposableBean {
 
     private final PdpoAsyncPublisher pdpoAsyncPublisher;
     private final PdpoSyncPublisher pdpoSyncPublisher;
+    private final PdpoDualWriteProperties dualWriteProperties;
+    private final PdpoAsyncChunkingProperties chunkingProperties;
+    private final ExecutorService dualWriteExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     @Override
     public boolean personalDataAccessLogAsync(PersonalDataProcessingLogDetails logDetails) {
+        if (isDualWrite(logDetails)) {
+            return dualWrite(logDetails);
+        }
         return pdpoAsyncPublisher.publish(logDetails);
     }
 
+    @Override
+    public boolean personalDataAccessLogAsync(PdpoLogRecord logRecord) {
+        if (dualWriteProperties.appliesTo(logRecord.category())) {
+            return dualWrite(logRecord.toLogDetails());
+        }
+        return pdpoAsyncPublisher.publish(logRecord);
+    }
+
+    @Override
+    public boolean personalDataAccessLogAsync(PersonalDataProcessingLogDetails logDetails,
+                                              Iterable<ParticipantIdentifier> individuals) {
+        if (isDualWrite(logDetails)) {
+            return dualWriteChunked(logDetails, individuals);
+        }
+        return pdpoAsyncPublisher.publishChunked(logDetails, individuals);
+    }
+
     @Override
     public boolean personalDataAccessLogSync(PersonalDataProcessingLogDetails logDetails) {
+        if (isDualWrite(logDetails)) {
+            return dualWrite(logDetails);
+        }
         return pdpoSyncPublisher.publish(logDetails);
     }
+
+    @Override
+    public boolean personalDataAccessLogSync(PdpoLogRecord logRecord) {
+        return personalDataAccessLogSync(logRecord.toLogDetails());
+    }
+
+    @Override
+    public PdpoSyncOutcome personalDataAccessLogSyncWithOutcome(PersonalDataProcessingLogDetails logDetails) {
+        if (isDualWrite(logDetails)) {
+            return dualWrite(logDetails) ? PdpoSyncOutcome.SENT : PdpoSyncOutcome.FAILED;
+        }
+        return pdpoSyncPublisher.publishWithOutcome(logDetails);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> personalDataAccessLogSyncAsync(PersonalDataProcessingLogDetails logDetails) {
+        if (isDualWrite(logDetails)) {
+            return CompletableFuture.supplyAsync(() -> dualWrite(logDetails), dualWriteExecutor);
+        }
+        return pdpoSyncPublisher.publishAsync(logDetails);
+    }
+
+    @Override
+    public void destroy() {
+        dualWriteExecutor.shutdown();
+    }
+
+    private boolean isDualWrite(PersonalDataProcessingLogDetails logDetails) {
+        return logDetails != null && dualWriteProperties.appliesTo(logDetails.getCategory());
+    }
+
+    private boolean dualWrite(PersonalDataProcessingLogDetails logDetails) {
+        CompletableFuture<Boolean> queued = runPath(() -> pdpoAsyncPublisher.publish(logDetails));
+        CompletableFuture<Boolean> stored = runPath(() -> pdpoSyncPublisher.publish(logDetails));
+        CompletableFuture<Boolean> both = queued.thenCombine(stored, (wasQueued, wasStored) -> {
+            if (!wasQueued.equals(wasStored)) {
+                log.warn("PDPO dual write for businessIdentifier={} only partially succeeded: queued={}, stored={}",
+                    logDetails.getBusinessIdentifier(), wasQueued, wasStored);
+            }
+            return dualWriteProperties.policy() == PdpoDualWriteProperties.Policy.BOTH_REQUIRED
+                ? wasQueued && wasStored
+                : wasQueued || wasStored;
+        });
+
+        if (dualWriteProperties.policy() == PdpoDualWriteProperties.Policy.BOTH_REQUIRED) {
+            return both.join();
+        }
+        return PdpoFutures.firstSuccess(queued, stored).join();
+    }
+
+    /**
+     * Dual-writes the individuals in chunks of {@code async.chunking.max-individuals}, so the queue path
+     * receives the same messages as {@link PdpoAsyncPublisher#publishChunked} would send. Stops at the first
+     * chunk that fails.
+     */
+    private boolean dualWriteChunked(PersonalDataProcessingLogDetails logDetails,
+                                     Iterable<ParticipantIdentifier> individuals) {
+        return PdpoLogChunks.sendInChunks(logDetails, individuals, chunkingProperties.maxIndividuals(),
+            (chunk, chunkNumber) -> dualWrite(chunk));
+    }
+
+    private CompletableFuture<Boolean> runPath(Supplier<Boolean> path) {
+        return CompletableFuture.supplyAsync(path, dualWriteExecutor)
+            .exceptionally(failure -> {
+                log.error("PDPO dual write path failed", failure);
+                return false;
+            });
+    }
 }
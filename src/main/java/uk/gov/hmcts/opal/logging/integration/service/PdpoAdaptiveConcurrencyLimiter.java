@@ -0,0 +1,172 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncConcurrencyProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+
+/**
+ * AIMD limit on the number of concurrent synchronous PDPO calls.
+ *
+ * <p>Each call that succeeds quickly while the limit is in use raises the limit by {@code 1 / limit},
+ * which adds about one slot per round of calls. A failed call, or one slower than {@code rtt-tolerance}
+ * times the baseline round-trip time, multiplies the limit by {@code backoff-ratio}. The baseline follows
+ * the fastest calls seen and rises slowly, so it adapts when the logging service moves. Calls above the
+ * limit wait up to {@code max-wait} for a slot and are otherwise turned away.
+ */
+@Component
+public class PdpoAdaptiveConcurrencyLimiter {
+
+    private static final int BASELINE_DRIFT = 100;
+
+    private final ReloadableProperties<PdpoSyncConcurrencyProperties> tuning;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private long baselineRttNanos = Long.MAX_VALUE;
+
+    public PdpoAdaptiveConcurrencyLimiter(ReloadableProperties<PdpoSyncConcurrencyProperties> tuning) {
+        this.tuning = tuning;
+        this.limit = tuning.get().initialLimit();
+    }
+
+    public boolean isEnabled() {
+        return tuning.get().enabled();
+    }
+
+    /**
+     * Current limit, within {@code min-limit} and {@code max-limit}.
+     */
+    public int limit() {
+        lock.lock();
+        try {
+            return currentLimit(tuning.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a slot, waiting up to {@code max-wait} for one to free up.
+     *
+     * @return the permit to complete once the call finished, or {@code null} if no slot became free.
+     */
+    public Permit tryAcquire() {
+        PdpoSyncConcurrencyProperties properties = tuning.get();
+        long remainingNanos = properties.maxWait().toNanos();
+        lock.lock();
+        try {
+            while (inFlight >= currentLimit(properties)) {
+                if (remainingNanos <= 0) {
+                    return null;
+                }
+                remainingNanos = released.awaitNanos(remainingNanos);
+            }
+            inFlight++;
+            return new Permit(System.nanoTime());
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int currentLimit(PdpoSyncConcurrencyProperties properties) {
+        limit = Math.clamp(limit, properties.minLimit(), Math.max(properties.minLimit(), properties.maxLimit()));
+        return (int) limit;
+    }
+
+    private void release(long rttNanos, Signal signal) {
+        PdpoSyncConcurrencyProperties properties = tuning.get();
+        lock.lock();
+        try {
+            int previousLimit = currentLimit(properties);
+            boolean saturated = inFlight * 2 >= previousLimit;
+            inFlight--;
+            if (signal == Signal.SUCCESS) {
+                baselineRttNanos = rttNanos < baselineRttNanos
+                    ? rttNanos
+                    : baselineRttNanos + (rttNanos - baselineRttNanos) / BASELINE_DRIFT;
+                if (rttNanos > baselineRttNanos * properties.rttTolerance()) {
+                    limit *= properties.backoffRatio();
+                } else if (saturated) {
+                    limit += 1.0 / limit;
+                }
+            } else if (signal == Signal.DROPPED) {
+                limit *= properties.backoffRatio();
+            }
+            if (currentLimit(properties) > previousLimit) {
+                // Every slot the limit gained is free as well as the one just released.
+                released.signalAll();
+            } else {
+                released.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private enum Signal {
+        SUCCESS, DROPPED, IGNORED
+    }
+
+    /**
+     * A slot held by one call. Exactly one of the completion methods must be called.
+     */
+    public final class Permit {
+        private final long startedNanos;
+        private long lastAttemptStartedNanos;
+
+        private Permit(long startedNanos) {
+            this.startedNanos = startedNanos;
+            this.lastAttemptStartedNanos = startedNanos;
+        }
+
+        /**
+         * Marks when the final attempt of a retried call started, so the waits before it do not count
+         * towards the round-trip time.
+         */
+        public void lastAttemptStarted(long attemptStartedNanos) {
+            if (attemptStartedNanos - startedNanos > 0) {
+                lastAttemptStartedNanos = attemptStartedNanos;
+            }
+        }
+
+        /** The call succeeded; the round-trip time of its final attempt feeds the limit. */
+        public void onSuccess() {
+            release(System.nanoTime() - lastAttemptStartedNanos, Signal.SUCCESS);
+        }
+
+        /** The call failed in a way that points at overload, such as a timeout, 429 or 5xx. */
+        public void onDropped() {
+            release(System.nanoTime() - lastAttemptStartedNanos, Signal.DROPPED);
+        }
+
+        /** The call finished without saying anything about load, such as a 4xx. */
+        public void onIgnored() {
+            release(System.nanoTime() - lastAttemptStartedNanos, Signal.IGNORED);
+        }
+
+        void complete(PdpoSyncOutcome outcome) {
+            switch (outcome) {
+                case SENT -> onSuccess();
+                case FAILED -> onDropped();
+                default -> onIgnored();
+            }
+        }
+    }
+}
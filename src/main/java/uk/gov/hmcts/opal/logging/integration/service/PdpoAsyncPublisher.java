@@ -1,5 +1,8 @@
 package uk.gov.hmcts.opal.logging.integration.service;
 
+import java.util.concurrent.CompletableFuture;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoLogRecord;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
 
 /**
@@ -14,4 +17,36 @@ public interface PdpoAsyncPublisher {
      * @return {@code true} if the payload was enqueued (or queued after retries), {@code false} otherwise.
      */
     boolean publish(PersonalDataProcessingLogDetails logDetails);
+
+    /**
+     * Attempts to enqueue the supplied immutable PDPO log record. Its grouped individuals are placed in the
+     * queue message as they are.
+     *
+     * @param logRecord payload to send to the Logging Service queue.
+     * @return {@code true} if the payload was enqueued (or queued after retries), {@code false} otherwise.
+     */
+    boolean publish(PdpoLogRecord logRecord);
+
+    /**
+     * Enqueues the supplied PDPO log details without blocking the caller on the broker round-trip
+     * when the publisher supports it.
+     *
+     * @param logDetails payload to send to the Logging Service queue.
+     * @return future completed with {@code true} once the payload was enqueued, {@code false} otherwise.
+     */
+    default CompletableFuture<Boolean> publishAsync(PersonalDataProcessingLogDetails logDetails) {
+        return CompletableFuture.completedFuture(publish(logDetails));
+    }
+
+    /**
+     * Enqueues a PDPO log whose individuals are read incrementally, as one message per chunk of at most
+     * {@code logging-service.pdpl.async.chunking.max-individuals} individuals. Only one chunk is held in
+     * memory at a time. Every message carries the other fields of {@code logDetails}; its own individuals
+     * are ignored.
+     *
+     * @param logDetails fields shared by every chunk.
+     * @param individuals individuals to log, read once in order.
+     * @return {@code true} if every chunk was enqueued. Publishing stops at the first chunk that fails.
+     */
+    boolean publishChunked(PersonalDataProcessingLogDetails logDetails, Iterable<ParticipantIdentifier> individuals);
 }
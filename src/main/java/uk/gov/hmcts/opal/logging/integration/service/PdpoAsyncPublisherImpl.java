@@ -3,177 +3,315 @@ package uk.gov.hmcts.opal.logging.integration.service;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import java.time.Duration;
-import java.time.OffsetDateTime;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jms.JmsException;
 import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessagePostProcessor;
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncChunkingProperties;
 import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncSerializationProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
 import uk.gov.hmcts.opal.logging.integration.dto.IdentifierType;
 import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoLogRecord;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
 import uk.gov.hmcts.opal.logging.integration.mapper.PdpoQueueLogDetailsMapper;
 import uk.gov.hmcts.opal.logging.integration.messaging.PdpoLogMessage;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoLogMessagePayload;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespaceSelector;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoPipelinedSender;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoQueueLogDetails;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoOutcomeReporter;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings.Stage;
 
 @Slf4j
 @Component
 public class PdpoAsyncPublisherImpl implements PdpoAsyncPublisher {
 
     private final JmsTemplate jmsTemplate;
-    private final PdpoAsyncProperties properties;
+    private final ReloadableProperties<PdpoAsyncProperties> tuning;
     private final PdpoQueueLogDetailsMapper pdpoQueueLogDetailsMapper;
+    private final PdpoPipelinedSender pipelinedSender;
+    private final PdpoNamespaceSelector namespaceSelector;
+    private final PdpoAsyncSerializationProperties serializationProperties;
+    private final PdpoAsyncChunkingProperties chunkingProperties;
+    private final PdpoMetrics metrics;
+    private final PdpoStageTimings stageTimings;
+    private final PdpoOutcomeReporter outcomeReporter;
 
     public PdpoAsyncPublisherImpl(@Qualifier("pdpoJmsTemplate") JmsTemplate jmsTemplate,
-                                  PdpoAsyncProperties properties,
-                                  PdpoQueueLogDetailsMapper pdpoQueueLogDetailsMapper) {
+                                  ReloadableProperties<PdpoAsyncProperties> tuning,
+                                  PdpoQueueLogDetailsMapper pdpoQueueLogDetailsMapper,
+                                  PdpoPipelinedSender pipelinedSender,
+                                  PdpoNamespaceSelector namespaceSelector,
+                                  PdpoAsyncSerializationProperties serializationProperties,
+                                  PdpoAsyncChunkingProperties chunkingProperties,
+                                  PdpoMetrics metrics,
+                                  PdpoStageTimings stageTimings,
+                                  PdpoOutcomeReporter outcomeReporter) {
         this.jmsTemplate = jmsTemplate;
-        this.properties = properties;
+        this.tuning = tuning;
         this.pdpoQueueLogDetailsMapper = pdpoQueueLogDetailsMapper;
+        this.pipelinedSender = pipelinedSender;
+        this.namespaceSelector = namespaceSelector;
+        this.serializationProperties = serializationProperties;
+        this.chunkingProperties = chunkingProperties;
+        this.metrics = metrics;
+        this.stageTimings = stageTimings;
+        this.outcomeReporter = outcomeReporter;
     }
 
     @Override
     public boolean publish(PersonalDataProcessingLogDetails logDetails) {
+        PdpoStageTimings.Sample sample = stageTimings.begin(PdpoMetrics.Path.ASYNC);
+        try {
+            return publish(outgoing(logDetails));
+        } finally {
+            stageTimings.finish(sample);
+        }
+    }
+
+    @Override
+    public boolean publish(PdpoLogRecord logRecord) {
+        PdpoStageTimings.Sample sample = stageTimings.begin(PdpoMetrics.Path.ASYNC);
+        try {
+            return publish(outgoing(logRecord));
+        } finally {
+            stageTimings.finish(sample);
+        }
+    }
+
+    private boolean publish(Outgoing outgoing) {
+        metrics.attempted(PdpoMetrics.Path.ASYNC, outgoing.category(), outgoing.individualCount());
+        if (pipelinedSender.isEnabled()) {
+            return publishPipelined(outgoing, 1).join();
+        }
+
+        PdpoAsyncProperties properties = tuning.get();
         for (int attempt = 1; attempt <= properties.maxRetries(); attempt++) {
             try {
-                send(logDetails);
-                log.info("Enqueued PDPO log for businessIdentifier={} (attempt {}/{})",
-                    safeValue(logDetails.getBusinessIdentifier()), attempt, properties.maxRetries());
+                send(outgoing);
+                if (outcomeReporter.logsEachSuccess()) {
+                    log.info("Enqueued PDPO log for businessIdentifier={} (attempt {}/{})",
+                        safeValue(outgoing.businessIdentifier()), attempt, properties.maxRetries());
+                }
+                metrics.succeeded(PdpoMetrics.Path.ASYNC, outgoing.category(), outgoing.startedNanos());
                 return true;
             } catch (JmsException ex) {
-                log.warn("Failed to enqueue PDPO log for businessIdentifier={} (attempt {}/{})",
-                    safeValue(logDetails.getBusinessIdentifier()), attempt, properties.maxRetries(), ex);
-                pauseBetweenAttempts();
+                if (outcomeReporter.mayLogFailure()) {
+                    log.warn("Failed to enqueue PDPO log for businessIdentifier={} (attempt {}/{})",
+                        safeValue(outgoing.businessIdentifier()), attempt, properties.maxRetries(), ex);
+                }
+                if (attempt < properties.maxRetries()) {
+                    metrics.retried(PdpoMetrics.Path.ASYNC, properties.retryDelay());
+                }
+                pauseBetweenAttempts(properties);
             }
         }
 
-        String businessIdentifierSummary = safeValue(Optional.ofNullable(logDetails)
-            .map(PersonalDataProcessingLogDetails::getBusinessIdentifier)
-            .orElse(null));
-        Map<String, Object> logDetailsSummary = buildLogDetailsSummary(logDetails);
-
-        log.error("Unable to enqueue PDPO log after {} attempts for businessIdentifier={}, logDetails={}",
-            properties.maxRetries(),
-            businessIdentifierSummary,
-            logDetailsSummary);
+        logFinalFailure(outgoing, properties);
         return false;
     }
 
-    private void send(PersonalDataProcessingLogDetails logDetails) throws JmsException {
-        PdpoLogMessage message = new PdpoLogMessage(properties.logType(),
-            pdpoQueueLogDetailsMapper.toQueueLogDetails(logDetails));
-        jmsTemplate.convertAndSend(
-            properties.queueName(),
-            message,
-            jmsMessage -> {
-                setStringProperty(jmsMessage, "logType", properties.logType());
-                Optional.ofNullable(logDetails.getCreatedBy())
-                    .map(ParticipantIdentifier::getType)
-                    .map(IdentifierType::getType)
-                    .ifPresent(type -> setStringProperty(jmsMessage, "createdByType", type));
-                return jmsMessage;
-            }
-        );
-    }
-
-    private void setStringProperty(Message message, String key, String value) {
+    @Override
+    public CompletableFuture<Boolean> publishAsync(PersonalDataProcessingLogDetails logDetails) {
+        if (!pipelinedSender.isEnabled()) {
+            return PdpoAsyncPublisher.super.publishAsync(logDetails);
+        }
+        PdpoStageTimings.Sample sample = stageTimings.begin(PdpoMetrics.Path.ASYNC);
+        CompletableFuture<Boolean> result;
         try {
-            message.setStringProperty(key, value);
-        } catch (JMSException ex) {
-            throw new JmsException("Unable to set JMS property: " + key, ex) {
-            };
+            result = publishPipelined(outgoing(logDetails), 1);
+        } finally {
+            PdpoStageTimings.detach(sample);
         }
+        return result.whenComplete((sent, failure) -> stageTimings.finish(sample));
     }
 
-    private void pauseBetweenAttempts() {
-        Duration delay = properties.retryDelay();
-        if (delay.isZero() || delay.isNegative()) {
-            return;
+    @Override
+    public boolean publishChunked(PersonalDataProcessingLogDetails logDetails,
+                                  Iterable<ParticipantIdentifier> individuals) {
+        return PdpoLogChunks.sendInChunks(logDetails, individuals, chunkingProperties.maxIndividuals(),
+            this::publishChunk);
+    }
+
+    private boolean publishChunk(PersonalDataProcessingLogDetails chunk, int chunkNumber) {
+        if (publish(chunk)) {
+            return true;
         }
-        try {
-            Thread.sleep(delay.toMillis());
-        } catch (InterruptedException interrupted) {
-            Thread.currentThread().interrupt();
+        if (outcomeReporter.mayLogFailure()) {
+            log.error("Stopped enqueuing chunked PDPO log for businessIdentifier={} at chunk {}",
+                safeValue(chunk.getBusinessIdentifier()), chunkNumber);
         }
+        return false;
     }
 
-    private String safeValue(String value) {
-        return value == null ? "<null>" : value;
+    private CompletableFuture<Boolean> publishPipelined(Outgoing outgoing, int attempt) {
+        PdpoAsyncProperties properties = tuning.get();
+        long attemptStarted = System.nanoTime();
+        CompletableFuture<Void> sent = pipelinedSender.send(outgoing.payload(), messagePostProcessor(outgoing));
+        long handedOver = System.nanoTime();
+        return sent
+            .handle((ignored, failure) -> failure)
+            .<Boolean>thenCompose(failure -> {
+                metrics.attemptCompleted(PdpoMetrics.Path.ASYNC, System.nanoTime() - attemptStarted);
+                recordStage(outgoing, Stage.SEND, handedOver);
+                if (failure == null) {
+                    if (outcomeReporter.logsEachSuccess()) {
+                        log.info("Enqueued PDPO log for businessIdentifier={} (attempt {}/{})",
+                            safeValue(outgoing.businessIdentifier()), attempt, properties.maxRetries());
+                    }
+                    metrics.succeeded(PdpoMetrics.Path.ASYNC, outgoing.category(), outgoing.startedNanos());
+                    return CompletableFuture.completedFuture(true);
+                }
+                if (outcomeReporter.mayLogFailure()) {
+                    log.warn("Failed to enqueue PDPO log for businessIdentifier={} (attempt {}/{})",
+                        safeValue(outgoing.businessIdentifier()), attempt, properties.maxRetries(), failure);
+                }
+                if (attempt >= properties.maxRetries()) {
+                    logFinalFailure(outgoing, properties);
+                    return CompletableFuture.completedFuture(false);
+                }
+                metrics.retried(PdpoMetrics.Path.ASYNC, properties.retryDelay());
+                long waitStarted = System.nanoTime();
+                return CompletableFuture.runAsync(() -> recordStage(outgoing, Stage.RETRY_WAIT, waitStarted),
+                        retryDelayExecutor(properties))
+                    .thenCompose(ignored -> publishPipelined(outgoing, attempt + 1));
+            });
     }
 
-    private Map<String, Object> buildLogDetailsSummary(PersonalDataProcessingLogDetails logDetails) {
-        if (logDetails == null) {
-            return Map.of(
-                "logType", properties.logType(),
-                "details", "<null>"
-            );
+    private void logFinalFailure(Outgoing outgoing, PdpoAsyncProperties properties) {
+        metrics.failed(PdpoMetrics.Path.ASYNC, outgoing.category(), outgoing.startedNanos());
+        if (outcomeReporter.mayLogFailure()) {
+            log.error("Unable to enqueue PDPO log after {} attempts for businessIdentifier={}, logDetails={}",
+                properties.maxRetries(),
+                safeValue(outgoing.businessIdentifier()),
+                outgoing.summary());
         }
+    }
 
-        Map<String, Object> summary = new LinkedHashMap<>();
-        summary.put("logType", properties.logType());
-        summary.put("businessIdentifier", safeValue(logDetails.getBusinessIdentifier()));
-        summary.put("createdByIdentifier", safeParticipantIdentifier(logDetails.getCreatedBy()));
-        summary.put("createdByIdentifierType", safeParticipantType(logDetails.getCreatedBy()));
-        summary.put("category", safeCategory(logDetails.getCategory()));
-        summary.put("createdAt", safeTimestamp(logDetails.getCreatedAt()));
-        summary.put("ipAddress", safeValue(logDetails.getIpAddress()));
+    private void send(Outgoing outgoing) throws JmsException {
+        long started = System.nanoTime();
+        boolean sent = false;
+        try {
+            jmsTemplate.convertAndSend(
+                tuning.get().queueName(),
+                outgoing.payload(),
+                messagePostProcessor(outgoing)
+            );
+            sent = true;
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            namespaceSelector.recordOutcomeOfLastSelection(sent, elapsed);
+            metrics.attemptCompleted(PdpoMetrics.Path.ASYNC, elapsed);
+        }
+    }
 
-        if (shouldIncludeRecipient(logDetails)) {
-            summary.put("recipientIdentifier", safeParticipantIdentifier(logDetails.getRecipient()));
-            summary.put("recipientIdentifierType", safeParticipantType(logDetails.getRecipient()));
+    private Outgoing outgoing(PersonalDataProcessingLogDetails logDetails) {
+        long startedNanos = System.nanoTime();
+        String logType = tuning.get().logType();
+        Object payload;
+        if (serializationProperties.streaming()) {
+            // Mapping happens while writing, so it is timed as part of serialisation.
+            payload = new PdpoLogMessagePayload(logType, logDetails);
+        } else {
+            long mappingStarted = PdpoStageTimings.start();
+            payload = new PdpoLogMessage(logType, pdpoQueueLogDetailsMapper.toQueueLogDetails(logDetails));
+            PdpoStageTimings.record(Stage.MAPPING, mappingStarted);
         }
+        String createdByType = Optional.ofNullable(logDetails.getCreatedBy())
+            .map(ParticipantIdentifier::getType)
+            .map(IdentifierType::getType)
+            .orElse(null);
+        int individualCount = logDetails.getIndividuals() == null ? 0 : logDetails.getIndividuals().size();
+        return new Outgoing(payload, logDetails.getBusinessIdentifier(), createdByType, logDetails.getCategory(),
+            individualCount, startedNanos, PdpoLogDetailsSummary.of(logType, logDetails), PdpoStageTimings.current());
+    }
 
-        summary.put("individuals", buildIndividualsSummary(logDetails.getIndividuals()));
-        return summary;
+    private Outgoing outgoing(PdpoLogRecord logRecord) {
+        long startedNanos = System.nanoTime();
+        String logType = tuning.get().logType();
+        long mappingStarted = PdpoStageTimings.start();
+        PdpoLogMessage payload = new PdpoLogMessage(logType, PdpoQueueLogDetails.from(logRecord));
+        PdpoStageTimings.record(Stage.MAPPING, mappingStarted);
+        String createdByType = logRecord.createdBy() == null ? null : logRecord.createdBy().typeName();
+        return new Outgoing(payload, logRecord.businessIdentifier(), createdByType, logRecord.category(),
+            logRecord.individualCount(), startedNanos, PdpoLogDetailsSummary.of(logType, logRecord),
+            PdpoStageTimings.current());
     }
 
-    private boolean shouldIncludeRecipient(PersonalDataProcessingLogDetails logDetails) {
-        return logDetails.getRecipient() != null
-            && logDetails.getCategory() == PersonalDataProcessingCategory.DISCLOSURE;
+    private MessagePostProcessor messagePostProcessor(Outgoing outgoing) {
+        String logType = tuning.get().logType();
+        return jmsMessage -> {
+            setStringProperty(jmsMessage, "logType", logType);
+            if (outgoing.createdByType() != null) {
+                setStringProperty(jmsMessage, "createdByType", outgoing.createdByType());
+            }
+            return jmsMessage;
+        };
     }
 
-    private String safeParticipantIdentifier(ParticipantIdentifier participant) {
-        if (participant == null) {
-            return "<null>";
+    private void setStringProperty(Message message, String key, String value) {
+        try {
+            message.setStringProperty(key, value);
+        } catch (JMSException ex) {
+            throw new JmsException("Unable to set JMS property: " + key, ex) {
+            };
         }
-        return safeValue(participant.getIdentifier());
     }
 
-    private String safeParticipantType(ParticipantIdentifier participant) {
-        if (participant == null) {
-            return "<null>";
+    private void pauseBetweenAttempts(PdpoAsyncProperties properties) {
+        Duration delay = properties.retryDelay();
+        if (delay.isZero() || delay.isNegative()) {
+            return;
+        }
+        long started = PdpoStageTimings.start();
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        } finally {
+            PdpoStageTimings.record(Stage.RETRY_WAIT, started);
         }
-        IdentifierType type = participant.getType();
-        return type == null ? "<null>" : safeValue(type.getType());
     }
 
-    private List<Map<String, String>> buildIndividualsSummary(List<ParticipantIdentifier> individuals) {
-        if (individuals == null || individuals.isEmpty()) {
-            return List.of();
+    private Executor retryDelayExecutor(PdpoAsyncProperties properties) {
+        Duration delay = properties.retryDelay();
+        if (delay.isZero() || delay.isNegative()) {
+            return Runnable::run;
         }
-
-        return individuals.stream()
-            .map(this::summariseParticipant)
-            .toList();
+        return CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS);
     }
 
-    private Map<String, String> summariseParticipant(ParticipantIdentifier participant) {
-        Map<String, String> participantSummary = new LinkedHashMap<>();
-        participantSummary.put("identifier", safeParticipantIdentifier(participant));
-        participantSummary.put("type", safeParticipantType(participant));
-        return participantSummary;
+    private static void recordStage(Outgoing outgoing, Stage stage, long startedNanos) {
+        if (outgoing.sample() != null) {
+            outgoing.sample().addSince(stage, startedNanos);
+        }
     }
 
-    private String safeTimestamp(OffsetDateTime timestamp) {
-        return timestamp == null ? "<null>" : timestamp.toString();
+    private String safeValue(String value) {
+        return value == null ? "<null>" : value;
     }
 
-    private String safeCategory(PersonalDataProcessingCategory category) {
-        return category == null ? "<null>" : category.getJsonValue();
+    /**
+     * A log converted once into its queue payload and the values needed around each send attempt.
+     */
+    private record Outgoing(Object payload,
+                            String businessIdentifier,
+                            String createdByType,
+                            PersonalDataProcessingCategory category,
+                            int individualCount,
+                            long startedNanos,
+                            PdpoLogDetailsSummary summary,
+                            PdpoStageTimings.Sample sample) {
     }
 }
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Combinators for racing several attempts at the same log.
+ */
+final class PdpoFutures {
+
+    private PdpoFutures() {
+    }
+
+    /**
+     * Completes with {@code true} as soon as either future does, or with {@code false} once both completed
+     * without success.
+     */
+    static CompletableFuture<Boolean> firstSuccess(CompletableFuture<Boolean> first,
+                                                   CompletableFuture<Boolean> second) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        first.thenAccept(success -> completeOnSuccess(result, success));
+        second.thenAccept(success -> completeOnSuccess(result, success));
+        first.thenCombine(second, (firstSuccess, secondSuccess) -> firstSuccess || secondSuccess)
+            .thenAccept(result::complete);
+        return result;
+    }
+
+    private static void completeOnSuccess(CompletableFuture<Boolean> result, boolean success) {
+        if (success) {
+            result.complete(true);
+        }
+    }
+}
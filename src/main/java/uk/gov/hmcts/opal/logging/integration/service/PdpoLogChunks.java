@@ -0,0 +1,69 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+
+/**
+ * Splits a log whose individuals are streamed into copies holding at most {@code max-individuals} each.
+ * Shared by the async publisher and dual write, so both paths send the same chunks.
+ */
+final class PdpoLogChunks {
+
+    private static final int INITIAL_CHUNK_CAPACITY = 1024;
+
+    private PdpoLogChunks() {
+    }
+
+    /**
+     * Hands each chunk to {@code sender} in order, stopping at the first one it does not accept. A log
+     * without individuals is sent once, with an empty list.
+     *
+     * @return {@code true} if every chunk was accepted.
+     */
+    static boolean sendInChunks(PersonalDataProcessingLogDetails logDetails,
+                                Iterable<ParticipantIdentifier> individuals,
+                                int maxIndividuals,
+                                ChunkSender sender) {
+        List<ParticipantIdentifier> chunk = new ArrayList<>(Math.min(maxIndividuals, INITIAL_CHUNK_CAPACITY));
+        int sent = 0;
+        for (ParticipantIdentifier individual : individuals) {
+            chunk.add(individual);
+            if (chunk.size() == maxIndividuals) {
+                if (!sender.send(chunkOf(logDetails, chunk), sent + 1)) {
+                    return false;
+                }
+                sent++;
+                chunk = new ArrayList<>(Math.min(maxIndividuals, INITIAL_CHUNK_CAPACITY));
+            }
+        }
+        return (chunk.isEmpty() && sent > 0) || sender.send(chunkOf(logDetails, chunk), sent + 1);
+    }
+
+    /**
+     * Copy of the log holding only the given individuals.
+     */
+    static PersonalDataProcessingLogDetails chunkOf(PersonalDataProcessingLogDetails logDetails,
+                                                    List<ParticipantIdentifier> chunk) {
+        return PersonalDataProcessingLogDetails.builder()
+            .createdBy(logDetails.getCreatedBy())
+            .businessIdentifier(logDetails.getBusinessIdentifier())
+            .createdAt(logDetails.getCreatedAt())
+            .ipAddress(logDetails.getIpAddress())
+            .category(logDetails.getCategory())
+            .recipient(logDetails.getRecipient())
+            .individuals(chunk)
+            .build();
+    }
+
+    @FunctionalInterface
+    interface ChunkSender {
+
+        /**
+         * @param chunkNumber 1 for the first chunk, 2 for the second, and so on.
+         * @return whether the chunk was accepted.
+         */
+        boolean send(PersonalDataProcessingLogDetails chunk, int chunkNumber);
+    }
+}
@@ -0,0 +1,152 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import java.util.List;
+import uk.gov.hmcts.opal.logging.integration.dto.IdentifierType;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoIndividualGroup;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoLogRecord;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoParticipant;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+
+/**
+ * Describes a PDPO log that could not be enqueued, for the final error message. Nothing is rendered until
+ * the logger formats the message, and then straight into one {@link StringBuilder}. At most
+ * {@link #MAX_INDIVIDUALS} individuals are listed, followed by the total count, so a log with thousands of
+ * individuals does not produce a huge message during a broker outage.
+ */
+final class PdpoLogDetailsSummary {
+
+    static final int MAX_INDIVIDUALS = 10;
+    private static final String NULL = "<null>";
+
+    private final String logType;
+    private final PersonalDataProcessingLogDetails details;
+    private final PdpoLogRecord logRecord;
+
+    private PdpoLogDetailsSummary(String logType, PersonalDataProcessingLogDetails details, PdpoLogRecord logRecord) {
+        this.logType = logType;
+        this.details = details;
+        this.logRecord = logRecord;
+    }
+
+    static PdpoLogDetailsSummary of(String logType, PersonalDataProcessingLogDetails details) {
+        return new PdpoLogDetailsSummary(logType, details, null);
+    }
+
+    static PdpoLogDetailsSummary of(String logType, PdpoLogRecord logRecord) {
+        return new PdpoLogDetailsSummary(logType, null, logRecord);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder(384);
+        appendTo(summary);
+        return summary.toString();
+    }
+
+    void appendTo(StringBuilder summary) {
+        summary.append("{logType=").append(logType);
+        if (details != null) {
+            appendDetails(summary);
+        } else if (logRecord != null) {
+            appendRecord(summary);
+        } else {
+            summary.append(", details=").append(NULL);
+        }
+        summary.append('}');
+    }
+
+    private void appendDetails(StringBuilder summary) {
+        ParticipantIdentifier createdBy = details.getCreatedBy();
+        ParticipantIdentifier recipient = details.getRecipient();
+        appendHeader(summary, details.getBusinessIdentifier(),
+            createdBy == null ? null : createdBy.getIdentifier(), createdBy == null ? null : typeName(createdBy),
+            details.getCategory(), details.getCreatedAt(), details.getIpAddress());
+        if (recipient != null && details.getCategory() == PersonalDataProcessingCategory.DISCLOSURE) {
+            appendParticipant(summary, "recipient", recipient.getIdentifier(), typeName(recipient));
+        }
+
+        List<ParticipantIdentifier> individuals = details.getIndividuals();
+        int count = individuals == null ? 0 : individuals.size();
+        summary.append(", individuals=[");
+        for (int index = 0; index < Math.min(count, MAX_INDIVIDUALS); index++) {
+            ParticipantIdentifier individual = individuals.get(index);
+            appendIndividual(summary, index,
+                individual == null ? null : individual.getIdentifier(),
+                individual == null ? null : typeName(individual));
+        }
+        appendRemainder(summary, count);
+    }
+
+    private void appendRecord(StringBuilder summary) {
+        PdpoParticipant createdBy = logRecord.createdBy();
+        PdpoParticipant recipient = logRecord.recipient();
+        appendHeader(summary, logRecord.businessIdentifier(),
+            createdBy == null ? null : createdBy.identifier(), createdBy == null ? null : createdBy.typeName(),
+            logRecord.category(), logRecord.createdAt(),
+            logRecord.ipAddress());
+        if (recipient != null && logRecord.category() == PersonalDataProcessingCategory.DISCLOSURE) {
+            appendParticipant(summary, "recipient", recipient.identifier(), recipient.typeName());
+        }
+
+        summary.append(", individuals=[");
+        int listed = 0;
+        for (PdpoIndividualGroup group : logRecord.individuals()) {
+            String type = group.type().getType();
+            for (String identifier : group.identifiers()) {
+                if (listed == MAX_INDIVIDUALS) {
+                    break;
+                }
+                appendIndividual(summary, listed++, identifier, type);
+            }
+        }
+        appendRemainder(summary, logRecord.individualCount());
+    }
+
+    private static void appendHeader(StringBuilder summary, String businessIdentifier, String createdByIdentifier,
+                                     String createdByType, PersonalDataProcessingCategory category,
+                                     Object createdAt, String ipAddress) {
+        summary.append(", businessIdentifier=");
+        appendValue(summary, businessIdentifier);
+        appendParticipant(summary, "createdBy", createdByIdentifier, createdByType);
+        summary.append(", category=").append(category == null ? NULL : category.getJsonValue());
+        summary.append(", createdAt=").append(createdAt == null ? NULL : createdAt);
+        summary.append(", ipAddress=");
+        appendValue(summary, ipAddress);
+    }
+
+    private static void appendParticipant(StringBuilder summary, String role, String identifier, String type) {
+        summary.append(", ").append(role).append("Identifier=");
+        appendValue(summary, identifier);
+        summary.append(", ").append(role).append("IdentifierType=");
+        appendValue(summary, type);
+    }
+
+    private static void appendIndividual(StringBuilder summary, int index, String identifier, String type) {
+        if (index > 0) {
+            summary.append(", ");
+        }
+        summary.append("{identifier=");
+        appendValue(summary, identifier);
+        summary.append(", type=");
+        appendValue(summary, type);
+        summary.append('}');
+    }
+
+    private static void appendRemainder(StringBuilder summary, int count) {
+        if (count > MAX_INDIVIDUALS) {
+            summary.append(", ...");
+        }
+        summary.append("], individualCount=").append(count);
+    }
+
+    private static void appendValue(StringBuilder summary, String value) {
+        summary.append(value == null ? NULL : value);
+    }
+
+    private static String typeName(ParticipantIdentifier participant) {
+        IdentifierType type = participant.getType();
+        return type == null ? null : type.getType();
+    }
+}
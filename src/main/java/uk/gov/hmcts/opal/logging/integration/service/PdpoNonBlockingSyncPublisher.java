@@ -0,0 +1,202 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import uk.gov.hmcts.opal.logging.integration.client.config.PdpoRetryBackoff;
+import uk.gov.hmcts.opal.logging.integration.client.config.PdpoSyncStatus;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBackoffProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncLatencyProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoOutcomeReporter;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings.Stage;
+
+/**
+ * Sync PDPO publisher built on {@link HttpClient#sendAsync}. No thread is held while a request is in flight
+ * or while waiting between attempts: retries are scheduled and the outcome is delivered as a future.
+ * Retries honour {@code Retry-After}, back off as configured under {@code backoff.*} and respect
+ * {@code latency.deadline}. Enabled with
+ * {@code logging-service.pdpl.sync.non-blocking.enabled=true} in place of the Feign publisher.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "logging-service.pdpl.sync.non-blocking.enabled", havingValue = "true")
+public class PdpoNonBlockingSyncPublisher implements PdpoSyncPublisher, DisposableBean {
+
+    private final ObjectMapper objectMapper;
+    private final ReloadableProperties<PdpoSyncProperties> tuning;
+    private final ReloadableProperties<PdpoSyncLatencyProperties> latencyTuning;
+    private final ReloadableProperties<PdpoSyncBackoffProperties> backoffTuning;
+    private final PdpoMetrics metrics;
+    private final PdpoStageTimings stageTimings;
+    private final PdpoOutcomeReporter outcomeReporter;
+    private final HttpClient httpClient;
+
+    public PdpoNonBlockingSyncPublisher(ObjectMapper objectMapper,
+                                        ReloadableProperties<PdpoSyncProperties> tuning,
+                                        ReloadableProperties<PdpoSyncLatencyProperties> latencyTuning,
+                                        ReloadableProperties<PdpoSyncBackoffProperties> backoffTuning,
+                                        PdpoMetrics metrics,
+                                        PdpoStageTimings stageTimings,
+                                        PdpoOutcomeReporter outcomeReporter) {
+        this.objectMapper = objectMapper;
+        this.tuning = tuning;
+        this.latencyTuning = latencyTuning;
+        this.backoffTuning = backoffTuning;
+        this.metrics = metrics;
+        this.stageTimings = stageTimings;
+        this.outcomeReporter = outcomeReporter;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(tuning.get().connectTimeout())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+    }
+
+    @Override
+    public boolean publish(PersonalDataProcessingLogDetails logDetails) {
+        return publishAsync(logDetails).join();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> publishAsync(PersonalDataProcessingLogDetails logDetails) {
+        long startedNanos = System.nanoTime();
+        if (logDetails == null) {
+            metrics.attempted(PdpoMetrics.Path.SYNC, null, 0);
+            if (outcomeReporter.mayLogFailure()) {
+                log.error("Unable to send PDPO log, logDetails=<null>");
+            }
+            metrics.failed(PdpoMetrics.Path.SYNC, null, startedNanos);
+            return CompletableFuture.completedFuture(false);
+        }
+        metrics.attempted(PdpoMetrics.Path.SYNC, logDetails.getCategory(),
+            PdpoSyncPublisherImpl.individualCount(logDetails));
+        PdpoSyncProperties properties = tuning.get();
+        PdpoStageTimings.Sample sample = stageTimings.begin(PdpoMetrics.Path.SYNC);
+        HttpRequest request;
+        try {
+            long serialisationStarted = PdpoStageTimings.start();
+            byte[] body = objectMapper.writeValueAsBytes(logDetails);
+            PdpoStageTimings.record(Stage.SERIALISATION, serialisationStarted);
+            metrics.payloadSerialised(PdpoMetrics.Path.SYNC, body.length);
+            request = HttpRequest.newBuilder(URI.create(properties.baseUrl() + properties.endpoint()))
+                .timeout(properties.readTimeout())
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        } catch (JacksonException | IllegalArgumentException ex) {
+            if (outcomeReporter.mayLogFailure()) {
+                log.error("Unable to build PDPO request, lastFailure={}, {}",
+                    ex.getClass().getSimpleName() + ": " + ex.getMessage(), PdpoSyncPublisherImpl.summary(logDetails),
+                    ex);
+            }
+            metrics.failed(PdpoMetrics.Path.SYNC, logDetails.getCategory(), startedNanos);
+            stageTimings.finish(sample);
+            return CompletableFuture.completedFuture(false);
+        } finally {
+            PdpoStageTimings.detach(sample);
+        }
+        return send(request, logDetails, new Attempt(properties, latencyTuning.get(),
+            new PdpoRetryBackoff(properties.retryDelay(), backoffTuning.get()), startedNanos, 1, sample))
+            .whenComplete((sent, failure) -> stageTimings.finish(sample));
+    }
+
+    @Override
+    public void destroy() {
+        httpClient.shutdownNow();
+    }
+
+    private CompletableFuture<Boolean> send(HttpRequest request,
+                                            PersonalDataProcessingLogDetails logDetails,
+                                            Attempt attempt) {
+        PdpoSyncProperties properties = attempt.properties();
+        long attemptStarted = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .handle((response, failure) -> {
+                metrics.attemptCompleted(PdpoMetrics.Path.SYNC, System.nanoTime() - attemptStarted);
+                attempt.record(Stage.SEND, attemptStarted);
+                if (failure == null && response.statusCode() == PdpoSyncStatus.STORED) {
+                    if (outcomeReporter.logsEachSuccess()) {
+                        log.info("Sent PDPO log");
+                    }
+                    metrics.succeeded(PdpoMetrics.Path.SYNC, logDetails.getCategory(), attempt.startedNanos());
+                    return CompletableFuture.completedFuture(true);
+                }
+                if (failure == null && !PdpoSyncStatus.isRetryable(response.statusCode())) {
+                    if (outcomeReporter.mayLogFailure()) {
+                        log.warn("Non-retryable PDPO response status={}, {}", response.statusCode(),
+                            PdpoSyncPublisherImpl.summary(logDetails));
+                    }
+                    metrics.failed(PdpoMetrics.Path.SYNC, logDetails.getCategory(), attempt.startedNanos());
+                    return CompletableFuture.completedFuture(false);
+                }
+                String lastFailure = failure == null
+                    ? "HTTP " + response.statusCode()
+                    : failure.getClass().getSimpleName() + ": " + failure.getMessage();
+                Long retryAfter = failure == null
+                    ? PdpoRetryBackoff.parseRetryAfter(
+                        response.headers().firstValue(HttpHeaders.RETRY_AFTER).orElse(null))
+                    : null;
+                Duration delay = attempt.delayBeforeRetry(retryAfter);
+                if (!attempt.mayRetry(delay)) {
+                    if (outcomeReporter.mayLogFailure()) {
+                        log.error("Unable to send PDPO log after {} attempts, lastFailure={}, {}",
+                            attempt.number(), lastFailure, PdpoSyncPublisherImpl.summary(logDetails), failure);
+                    }
+                    metrics.failed(PdpoMetrics.Path.SYNC, logDetails.getCategory(), attempt.startedNanos());
+                    return CompletableFuture.completedFuture(false);
+                }
+                metrics.retried(PdpoMetrics.Path.SYNC, delay);
+                log.debug("Retrying PDPO log (attempt {}/{}), lastFailure={}", attempt.number(),
+                    properties.maxAttempts(), lastFailure);
+                long waitStarted = System.nanoTime();
+                return CompletableFuture.runAsync(() -> attempt.record(Stage.RETRY_WAIT, waitStarted),
+                        CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS))
+                    .thenCompose(ignored -> send(request, logDetails, attempt.next()));
+            })
+            .thenCompose(outcome -> outcome);
+    }
+
+    private record Attempt(PdpoSyncProperties properties,
+                           PdpoSyncLatencyProperties latency,
+                           PdpoRetryBackoff backoff,
+                           long startedNanos,
+                           int number,
+                           PdpoStageTimings.Sample sample) {
+
+        Duration delayBeforeRetry(Long retryAfterEpochMillis) {
+            return backoff.delay(number, retryAfterEpochMillis);
+        }
+
+        boolean mayRetry(Duration delay) {
+            Duration worstCaseAttempt = delay.plus(properties.connectTimeout()).plus(properties.readTimeout());
+            return number < properties.maxAttempts()
+                && latency.allowsAttempt(System.nanoTime() - startedNanos, worstCaseAttempt);
+        }
+
+        Attempt next() {
+            return new Attempt(properties, latency, backoff, startedNanos, number + 1, sample);
+        }
+
+        void record(Stage stage, long stageStartedNanos) {
+            if (sample != null) {
+                sample.addSince(stage, stageStartedNanos);
+            }
+        }
+    }
+}
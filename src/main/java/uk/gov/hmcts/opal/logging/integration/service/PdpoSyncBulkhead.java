@@ -0,0 +1,53 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBulkheadProperties;
+
+/**
+ * Bounds how many caller threads can be inside a synchronous PDPO call at once. Sync calls run on the
+ * caller's thread, usually a web request worker, so without a bound a slow logging service can hold every
+ * worker of the calling service. Callers beyond {@code bulkhead.max-concurrent-calls} wait at most
+ * {@code bulkhead.max-wait} and are then turned away.
+ */
+@Component
+public class PdpoSyncBulkhead {
+
+    private final PdpoSyncBulkheadProperties properties;
+    private final Semaphore permits;
+
+    public PdpoSyncBulkhead(PdpoSyncBulkheadProperties properties) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.maxConcurrentCalls(), true);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Number of callers currently inside the bulkhead.
+     */
+    public int inUse() {
+        return properties.maxConcurrentCalls() - permits.availablePermits();
+    }
+
+    /**
+     * Enters the bulkhead, waiting up to {@code max-wait} for room.
+     *
+     * @return {@code true} if the caller entered and must call {@link #exit()} afterwards.
+     */
+    public boolean tryEnter() {
+        try {
+            return permits.tryAcquire(properties.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void exit() {
+        permits.release();
+    }
+}
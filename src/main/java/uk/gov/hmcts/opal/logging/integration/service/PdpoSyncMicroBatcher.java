@@ -0,0 +1,205 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import feign.FeignException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.opal.logging.integration.client.PdpoSyncClient;
+import uk.gov.hmcts.opal.logging.integration.client.config.PdpoSyncAttemptClock;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBatchProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoBatchItemResult;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoOutcomeReporter;
+
+/**
+ * Coalesces concurrent synchronous PDPO calls into one request to the bulk endpoint.
+ *
+ * <p>The first log submitted to an empty batch opens a window of {@code batch.window}; every log submitted
+ * before it closes, up to {@code batch.max-batch-size}, is sent in the same request. Each caller's future
+ * is completed from the result at its position in the bulk response.
+ *
+ * <p>Each bulk request takes one slot from the concurrency limiter when it is enabled; a batch that finds
+ * no slot fails every caller in it. Hedging does not apply to bulk requests, and the deadline is measured
+ * from the flush, so a caller can wait up to {@code batch.window} longer than the deadline.
+ */
+@Slf4j
+@Component
+public class PdpoSyncMicroBatcher implements DisposableBean {
+
+    private final PdpoSyncClient pdpoSyncClient;
+    private final ReloadableProperties<PdpoSyncBatchProperties> tuning;
+    private final PdpoAdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final PdpoOutcomeReporter outcomeReporter;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService windowTimer = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().daemon().name("pdpo-sync-batch-window").factory());
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    private List<PendingLog> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public PdpoSyncMicroBatcher(PdpoSyncClient pdpoSyncClient,
+                                ReloadableProperties<PdpoSyncBatchProperties> tuning,
+                                PdpoAdaptiveConcurrencyLimiter concurrencyLimiter,
+                                PdpoOutcomeReporter outcomeReporter) {
+        this.pdpoSyncClient = pdpoSyncClient;
+        this.tuning = tuning;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.outcomeReporter = outcomeReporter;
+    }
+
+    public boolean isEnabled() {
+        return tuning.get().enabled();
+    }
+
+    /**
+     * Number of logs waiting for the current batch to be sent.
+     */
+    public int pending() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the log to the current batch.
+     *
+     * @return future completed with {@code true} once the bulk endpoint accepted this log.
+     */
+    public CompletableFuture<Boolean> submit(PersonalDataProcessingLogDetails logDetails) {
+        PdpoSyncBatchProperties properties = tuning.get();
+        PendingLog pendingLog = new PendingLog(logDetails, new CompletableFuture<>());
+        List<PendingLog> full = null;
+        lock.lock();
+        try {
+            pending.add(pendingLog);
+            if (pending.size() >= properties.maxBatchSize()) {
+                full = drain();
+            } else if (pending.size() == 1) {
+                scheduledFlush = windowTimer.schedule(this::flush, properties.window().toNanos(),
+                    TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return pendingLog.result();
+    }
+
+    @Override
+    public void destroy() {
+        windowTimer.shutdownNow();
+        flush();
+        sender.close();
+    }
+
+    void flush() {
+        List<PendingLog> batch;
+        lock.lock();
+        try {
+            batch = drain();
+        } finally {
+            lock.unlock();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private List<PendingLog> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<PendingLog> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void dispatch(List<PendingLog> batch) {
+        sender.execute(() -> send(batch));
+    }
+
+    private void send(List<PendingLog> batch) {
+        if (!concurrencyLimiter.isEnabled()) {
+            sendWithinLimit(batch);
+            return;
+        }
+        PdpoAdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire();
+        if (permit == null) {
+            if (outcomeReporter.mayLogFailure()) {
+                log.warn("PDPO sync concurrency limit of {} reached; batch of {} logs not sent",
+                    concurrencyLimiter.limit(), batch.size());
+            }
+            batch.forEach(pendingLog -> pendingLog.result().complete(false));
+            return;
+        }
+        PdpoSyncOutcome outcome = PdpoSyncOutcome.FAILED;
+        long callStarted = System.nanoTime();
+        try {
+            outcome = sendWithinLimit(batch);
+        } finally {
+            permit.lastAttemptStarted(PdpoSyncAttemptClock.lastAttemptStarted(callStarted));
+            permit.complete(outcome);
+        }
+    }
+
+    /**
+     * Sends the batch and completes each caller.
+     *
+     * @return how the bulk request itself ended, whatever the results of its entries.
+     */
+    private PdpoSyncOutcome sendWithinLimit(List<PendingLog> batch) {
+        List<PdpoBatchItemResult> results;
+        try {
+            results = pdpoSyncClient.logPdpoBatch(batch.stream().map(PendingLog::logDetails).toList());
+        } catch (Exception ex) {
+            if (outcomeReporter.mayLogFailure()) {
+                log.error("Unable to send PDPO batch of {} logs, lastFailure={}", batch.size(),
+                    ex.getClass().getSimpleName() + ": " + ex.getMessage(), ex);
+            }
+            batch.forEach(pendingLog -> pendingLog.result().complete(false));
+            return ex instanceof FeignException feignException
+                ? PdpoSyncPublisherImpl.classify(feignException.status())
+                : PdpoSyncOutcome.FAILED;
+        }
+
+        int rejected = 0;
+        for (int index = 0; index < batch.size(); index++) {
+            PdpoBatchItemResult result = results != null && index < results.size() ? results.get(index) : null;
+            boolean created = result != null && result.isCreated();
+            if (!created) {
+                rejected++;
+            }
+            if (!created && outcomeReporter.mayLogFailure()) {
+                log.warn("PDPO batch entry rejected for businessIdentifier={} status={} error={}",
+                    batch.get(index).logDetails().getBusinessIdentifier(),
+                    result == null ? "<missing>" : result.status(),
+                    result == null ? "<none>" : result.error());
+            }
+            batch.get(index).result().complete(created);
+        }
+        if (outcomeReporter.logsEachSuccess()) {
+            log.info("Sent PDPO batch of {} logs ({} rejected)", batch.size(), rejected);
+        }
+        return PdpoSyncOutcome.SENT;
+    }
+
+    private record PendingLog(PersonalDataProcessingLogDetails logDetails, CompletableFuture<Boolean> result) {
+    }
+}
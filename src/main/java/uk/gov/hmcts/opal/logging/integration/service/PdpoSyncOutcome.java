@@ -0,0 +1,26 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+/**
+ * Result of one synchronous PDPO call.
+ */
+public enum PdpoSyncOutcome {
+
+    /** The logging service stored the log. */
+    SENT,
+
+    /** The logging service refused the log with a response that retrying cannot fix. */
+    REJECTED,
+
+    /** The logging service could not be reached, or kept failing until the retries ran out. */
+    FAILED,
+
+    /** The call was not made because the concurrency limit was reached. */
+    LIMITED,
+
+    /** The call was not made because the bulkhead was full. */
+    BULKHEAD_FULL;
+
+    public boolean isSent() {
+        return this == SENT;
+    }
+}
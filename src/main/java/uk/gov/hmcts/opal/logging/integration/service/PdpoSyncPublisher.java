@@ -1,5 +1,6 @@
 package uk.gov.hmcts.opal.logging.integration.service;
 
+import java.util.concurrent.CompletableFuture;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
 
 public interface PdpoSyncPublisher {
@@ -11,4 +12,25 @@ public interface PdpoSyncPublisher {
      * @return {@code true} if the log was accepted, {@code false} otherwise.
      */
     boolean publish(PersonalDataProcessingLogDetails logDetails);
+
+    /**
+     * Submits the supplied PDPO log details and reports how the call ended.
+     *
+     * @param logDetails payload describing the PDPO interaction.
+     * @return {@link PdpoSyncOutcome#SENT} if the log was accepted, otherwise the reason it was not.
+     */
+    default PdpoSyncOutcome publishWithOutcome(PersonalDataProcessingLogDetails logDetails) {
+        return publish(logDetails) ? PdpoSyncOutcome.SENT : PdpoSyncOutcome.FAILED;
+    }
+
+    /**
+     * Submits the supplied PDPO log details without holding the caller's thread for the HTTP exchange
+     * when the publisher supports it.
+     *
+     * @param logDetails payload describing the PDPO interaction.
+     * @return future completed with {@code true} if the log was accepted, {@code false} otherwise.
+     */
+    default CompletableFuture<Boolean> publishAsync(PersonalDataProcessingLogDetails logDetails) {
+        return CompletableFuture.completedFuture(publish(logDetails));
+    }
 }
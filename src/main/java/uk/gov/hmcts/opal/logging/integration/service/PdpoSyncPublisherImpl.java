@@ -1,56 +1,416 @@
 package uk.gov.hmcts.opal.logging.integration.service;
 
 import feign.FeignException;
-import feign.RetryableException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.opal.logging.integration.client.PdpoSyncClient;
+import uk.gov.hmcts.opal.logging.integration.client.config.PdpoSyncAttemptClock;
+import uk.gov.hmcts.opal.logging.integration.client.config.PdpoSyncStatus;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncDiagnosticsProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncLatencyProperties;
 import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoOutcomeReporter;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings.Stage;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class PdpoSyncPublisherImpl implements PdpoSyncPublisher {
+@ConditionalOnProperty(name = "logging-service.pdpl.sync.non-blocking.enabled", havingValue = "false",
+    matchIfMissing = true)
+public class PdpoSyncPublisherImpl implements PdpoSyncPublisher, DisposableBean {
 
     private final PdpoSyncClient pdpoSyncClient;
-    private final PdpoSyncProperties properties;
+    private final ReloadableProperties<PdpoSyncProperties> tuning;
+    private final ReloadableProperties<PdpoSyncLatencyProperties> latencyTuning;
+    private final ReloadableProperties<PdpoSyncDiagnosticsProperties> diagnosticsTuning;
+    private final PdpoSyncMicroBatcher microBatcher;
+    private final PdpoAdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final PdpoSyncBulkhead bulkhead;
+    private final PdpoMetrics metrics;
+    private final PdpoStageTimings stageTimings;
+    private final PdpoOutcomeReporter outcomeReporter;
+    private final ExecutorService hedgeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService hedgeTimer = hedgeTimer();
 
     @Override
     public boolean publish(PersonalDataProcessingLogDetails logDetails) {
+        return publishWithOutcome(logDetails).isSent();
+    }
+
+    @Override
+    public PdpoSyncOutcome publishWithOutcome(PersonalDataProcessingLogDetails logDetails) {
+        long startedNanos = System.nanoTime();
+        if (logDetails == null) {
+            metrics.attempted(PdpoMetrics.Path.SYNC, null, 0);
+            if (outcomeReporter.mayLogFailure()) {
+                log.error("Unable to send PDPO log, logDetails=<null>");
+            }
+            metrics.failed(PdpoMetrics.Path.SYNC, null, startedNanos);
+            return PdpoSyncOutcome.REJECTED;
+        }
+        metrics.attempted(PdpoMetrics.Path.SYNC, logDetails.getCategory(), individualCount(logDetails));
+        PdpoStageTimings.Sample sample = stageTimings.begin(PdpoMetrics.Path.SYNC);
+        PdpoSyncOutcome outcome;
+        try {
+            outcome = publishThroughBulkhead(logDetails);
+        } finally {
+            stageTimings.finish(sample);
+        }
+        if (outcome.isSent()) {
+            metrics.succeeded(PdpoMetrics.Path.SYNC, logDetails.getCategory(), startedNanos);
+        } else {
+            metrics.failed(PdpoMetrics.Path.SYNC, logDetails.getCategory(), startedNanos);
+        }
+        return outcome;
+    }
+
+    @Override
+    public void destroy() {
+        hedgeTimer.shutdownNow();
+        hedgeExecutor.shutdown();
+    }
+
+    private static ScheduledExecutorService hedgeTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1,
+            Thread.ofPlatform().daemon().name("pdpo-hedge-timer").factory());
+        // Most calls answer within the hedge delay, so their pending hedges are dropped straight away.
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    private PdpoSyncOutcome publishThroughBulkhead(PersonalDataProcessingLogDetails logDetails) {
+        if (!bulkhead.isEnabled()) {
+            return publishWithinBulkhead(logDetails);
+        }
+        long admissionStarted = PdpoStageTimings.start();
+        boolean entered = bulkhead.tryEnter();
+        PdpoStageTimings.record(Stage.ADMISSION, admissionStarted);
+        if (!entered) {
+            if (outcomeReporter.mayLogFailure()) {
+                log.warn("PDPO sync bulkhead full; log not sent, {}", summary(logDetails));
+            }
+            return PdpoSyncOutcome.BULKHEAD_FULL;
+        }
+        try {
+            return publishWithinBulkhead(logDetails);
+        } finally {
+            bulkhead.exit();
+        }
+    }
+
+    /**
+     * Sends the log on the caller's thread and, if no outcome arrived within {@code latency.hedge-delay},
+     * sends it a second time on a virtual thread with the same idempotency key. The first successful response
+     * wins: when the second request succeeds first, the caller's request is interrupted, which aborts it on
+     * the JDK HTTP client. The second request takes its own bulkhead slot and concurrency permit, and is
+     * skipped if either is unavailable.
+     *
+     * <p>Both requests measure {@code latency.deadline} from the start of this call, and the caller waits for
+     * the second request no longer than what is left of it.
+     */
+    private PdpoSyncOutcome publishHedged(PersonalDataProcessingLogDetails logDetails,
+                                          PdpoSyncLatencyProperties latency) {
+        long callStarted = System.nanoTime();
+        String idempotencyKey = UUID.randomUUID().toString();
+        HedgeRace race = new HedgeRace(Thread.currentThread());
+        PdpoStageTimings.Sample sample = PdpoStageTimings.current();
+        ScheduledFuture<?> hedgeLaunch = hedgeTimer.schedule(() -> hedgeExecutor.execute(() ->
+                PdpoStageTimings.supplyWithin(sample, () -> hedge(logDetails, idempotencyKey, callStarted, race))),
+            latency.hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+        PdpoSyncOutcome outcome = PdpoSyncAttemptClock.callStartedAt(callStarted,
+            () -> send(logDetails, () -> pdpoSyncClient.logPdpo(idempotencyKey, logDetails), race::isSuperseded));
+        hedgeLaunch.cancel(false);
+        CompletableFuture<PdpoSyncOutcome> hedgeOutcome = race.primaryFinished();
+        if (outcome.isSent() || hedgeOutcome == null) {
+            return outcome;
+        }
+        PdpoSyncOutcome hedged = latency.hasDeadline()
+            ? hedgeOutcome.completeOnTimeout(null, remainingNanos(latency, callStarted), TimeUnit.NANOSECONDS).join()
+            : hedgeOutcome.join();
+        // Report how the original request ended unless the hedged one succeeded.
+        return hedged != null && hedged.isSent() ? PdpoSyncOutcome.SENT : outcome;
+    }
+
+    /**
+     * Sends the hedged request once the hedge delay passed, unless the caller's request finished meanwhile.
+     */
+    private PdpoSyncOutcome hedge(PersonalDataProcessingLogDetails logDetails, String idempotencyKey,
+                                  long callStarted, HedgeRace race) {
+        if (!race.startHedge()) {
+            return null;
+        }
+        PdpoSyncOutcome outcome = null;
+        try {
+            HedgeSlot slot = tryAcquireHedgeSlot();
+            if (slot == null) {
+                log.debug("PDPO log slower than hedge delay but no slot is free for a hedged request "
+                    + "idempotencyKey={}", idempotencyKey);
+                return null;
+            }
+            log.debug("PDPO log slower than hedge delay; sending hedged request idempotencyKey={}", idempotencyKey);
+            long hedgeStarted = System.nanoTime();
+            outcome = PdpoSyncOutcome.FAILED;
+            try {
+                outcome = PdpoSyncAttemptClock.callStartedAt(callStarted,
+                    () -> send(logDetails, () -> pdpoSyncClient.logPdpo(idempotencyKey, logDetails)));
+            } finally {
+                release(slot, outcome, PdpoSyncAttemptClock.lastAttemptStarted(hedgeStarted));
+            }
+            return outcome;
+        } finally {
+            race.hedgeFinished(outcome);
+        }
+    }
+
+    private static long remainingNanos(PdpoSyncLatencyProperties latency, long callStarted) {
+        return Math.max(0L, latency.deadline().toNanos() - (System.nanoTime() - callStarted));
+    }
+
+    /**
+     * Takes the bulkhead slot and concurrency permit for a hedged request, where those are enabled.
+     *
+     * @return the slot to release once the hedged request finished, or {@code null} if either was full.
+     */
+    private HedgeSlot tryAcquireHedgeSlot() {
+        boolean inBulkhead = bulkhead.isEnabled();
+        if (inBulkhead && !bulkhead.tryEnter()) {
+            return null;
+        }
+        PdpoAdaptiveConcurrencyLimiter.Permit permit = null;
+        if (concurrencyLimiter.isEnabled()) {
+            permit = concurrencyLimiter.tryAcquire();
+            if (permit == null) {
+                if (inBulkhead) {
+                    bulkhead.exit();
+                }
+                return null;
+            }
+        }
+        return new HedgeSlot(inBulkhead, permit);
+    }
+
+    private void release(HedgeSlot slot, PdpoSyncOutcome outcome, long lastAttemptStarted) {
+        if (slot.permit() != null) {
+            slot.permit().lastAttemptStarted(lastAttemptStarted);
+            slot.permit().complete(outcome);
+        }
+        if (slot.inBulkhead()) {
+            bulkhead.exit();
+        }
+    }
+
+    private record HedgeSlot(boolean inBulkhead, PdpoAdaptiveConcurrencyLimiter.Permit permit) {
+    }
+
+    /**
+     * Which request of a hedged call finished first. When the hedged request succeeds while the caller's is
+     * still running, the caller's thread is interrupted; the caller clears that interrupt once its request
+     * returned, so it never leaks out of the call.
+     */
+    private static final class HedgeRace {
+
+        private static final int WAITING = 0;
+        private static final int HEDGING = 1;
+        private static final int FINISHED = 2;
+        private static final int SUPERSEDED = 3;
+
+        private final Thread caller;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final CompletableFuture<PdpoSyncOutcome> hedge = new CompletableFuture<>();
+        private final ReentrantLock interrupting = new ReentrantLock();
+
+        HedgeRace(Thread caller) {
+            this.caller = caller;
+        }
+
+        boolean startHedge() {
+            return state.compareAndSet(WAITING, HEDGING);
+        }
+
+        /**
+         * @param outcome how the hedged request ended, or {@code null} if it was not sent.
+         */
+        void hedgeFinished(PdpoSyncOutcome outcome) {
+            hedge.complete(outcome);
+            if (outcome == null || !outcome.isSent()) {
+                return;
+            }
+            interrupting.lock();
+            try {
+                if (state.compareAndSet(HEDGING, SUPERSEDED)) {
+                    caller.interrupt();
+                }
+            } finally {
+                interrupting.unlock();
+            }
+        }
+
+        boolean isSuperseded() {
+            return state.get() == SUPERSEDED;
+        }
+
+        /**
+         * Called on the caller's thread once its request returned.
+         *
+         * @return the hedged request's outcome, or {@code null} if no hedged request was started.
+         */
+        CompletableFuture<PdpoSyncOutcome> primaryFinished() {
+            if (state.compareAndSet(WAITING, FINISHED)) {
+                return null;
+            }
+            if (!state.compareAndSet(HEDGING, FINISHED)) {
+                // Superseded: the interrupt is delivered before the lock is released.
+                interrupting.lock();
+                try {
+                    Thread.interrupted();
+                } finally {
+                    interrupting.unlock();
+                }
+            }
+            return hedge;
+        }
+    }
+
+    private PdpoSyncOutcome publishWithinBulkhead(PersonalDataProcessingLogDetails logDetails) {
+        if (microBatcher.isEnabled()) {
+            long batchStarted = PdpoStageTimings.start();
+            boolean sent = microBatcher.submit(logDetails).join();
+            // Includes the wait for the batch window to close.
+            PdpoStageTimings.record(Stage.SEND, batchStarted);
+            return sent ? PdpoSyncOutcome.SENT : PdpoSyncOutcome.FAILED;
+        }
+        if (!concurrencyLimiter.isEnabled()) {
+            return publishWithinLimit(logDetails);
+        }
+        long admissionStarted = PdpoStageTimings.start();
+        PdpoAdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire();
+        PdpoStageTimings.record(Stage.ADMISSION, admissionStarted);
+        if (permit == null) {
+            if (outcomeReporter.mayLogFailure()) {
+                log.warn("PDPO sync concurrency limit of {} reached; log not sent, {}",
+                    concurrencyLimiter.limit(), summary(logDetails));
+            }
+            return PdpoSyncOutcome.LIMITED;
+        }
+        PdpoSyncOutcome outcome = PdpoSyncOutcome.FAILED;
+        long callStarted = System.nanoTime();
+        try {
+            outcome = publishWithinLimit(logDetails);
+            return outcome;
+        } finally {
+            permit.lastAttemptStarted(PdpoSyncAttemptClock.lastAttemptStarted(callStarted));
+            permit.complete(outcome);
+        }
+    }
+
+    private PdpoSyncOutcome publishWithinLimit(PersonalDataProcessingLogDetails logDetails) {
+        PdpoSyncLatencyProperties latency = latencyTuning.get();
+        if (latency.hedgeEnabled()) {
+            return publishHedged(logDetails, latency);
+        }
+        return send(logDetails, () -> pdpoSyncClient.logPdpo(logDetails));
+    }
+
+    private PdpoSyncOutcome send(PersonalDataProcessingLogDetails logDetails, Supplier<ResponseEntity<Void>> call) {
+        return send(logDetails, call, () -> false);
+    }
+
+    /**
+     * @param superseded whether another request already delivered the log, in which case a failure of this
+     *                   one is not logged.
+     */
+    private PdpoSyncOutcome send(PersonalDataProcessingLogDetails logDetails, Supplier<ResponseEntity<Void>> call,
+                                 BooleanSupplier superseded) {
         try {
             log.debug("Sending PDPO log details={}", logDetails);
-            ResponseEntity<Void> response = pdpoSyncClient.logPdpo(logDetails);
-            if (response != null && response.getStatusCode() == HttpStatus.CREATED) {
-                log.info("Sent PDPO log");
-                return true;
-            }
-            String status = response == null ? "<null>" : String.valueOf(response.getStatusCode().value());
-            log.warn("Non-retryable PDPO response status={}, logDetails={}", status, logDetails);
-            return false;
-        } catch (RetryableException ex) {
-            log.error("Unable to send PDPO log after {} attempts, lastFailure={}, logDetails={}",
-                properties.maxAttempts(),
-                "HTTP " + ex.status(),
-                logDetails,
-                ex);
-            return false;
+            ResponseEntity<Void> response = call.get();
+            if (response == null) {
+                if (outcomeReporter.mayLogFailure()) {
+                    log.warn("Non-retryable PDPO response status=<null>, {}", summary(logDetails));
+                }
+                return PdpoSyncOutcome.REJECTED;
+            }
+            PdpoSyncOutcome outcome = classify(response.getStatusCode().value());
+            if (outcome.isSent()) {
+                if (outcomeReporter.logsEachSuccess()) {
+                    log.info("Sent PDPO log");
+                }
+            } else if (!superseded.getAsBoolean()) {
+                logFailure(outcome, "HTTP " + response.getStatusCode().value(), null, logDetails, null);
+            }
+            return outcome;
         } catch (FeignException ex) {
-            log.warn("Non-retryable PDPO response status={} body={} logDetails={}",
-                ex.status(),
-                ex.contentUTF8(),
-                logDetails,
-                ex);
-            return false;
+            PdpoSyncOutcome outcome = classify(ex.status());
+            if (!superseded.getAsBoolean()) {
+                String lastFailure = ex.status() < 0 ? ex.getClass().getSimpleName() + ": " + ex.getMessage()
+                    : "HTTP " + ex.status();
+                logFailure(outcome, lastFailure, ex.contentUTF8(), logDetails, ex);
+            }
+            return outcome;
         } catch (Exception ex) {
-            log.error("Unable to send PDPO log, lastFailure={}, logDetails={}",
-                ex.getClass().getSimpleName() + ": " + ex.getMessage(),
-                logDetails,
-                ex);
-            return false;
+            if (!superseded.getAsBoolean()) {
+                logFailure(PdpoSyncOutcome.FAILED, ex.getClass().getSimpleName() + ": " + ex.getMessage(), null,
+                    logDetails, ex);
+            }
+            return PdpoSyncOutcome.FAILED;
         }
     }
+
+    /**
+     * Classifies a call by status code alone. A negative status means no response was received.
+     */
+    static PdpoSyncOutcome classify(int status) {
+        if (status == PdpoSyncStatus.STORED) {
+            return PdpoSyncOutcome.SENT;
+        }
+        return PdpoSyncStatus.isRetryable(status) ? PdpoSyncOutcome.FAILED : PdpoSyncOutcome.REJECTED;
+    }
+
+    private void logFailure(PdpoSyncOutcome outcome, String lastFailure, String body,
+                            PersonalDataProcessingLogDetails logDetails, Exception ex) {
+        if (!outcomeReporter.mayLogFailure()) {
+            return;
+        }
+        Exception stackTrace = diagnosticsTuning.get().captureStackTraces() ? ex : null;
+        if (outcome == PdpoSyncOutcome.FAILED) {
+            log.error("Unable to send PDPO log after {} attempts, lastFailure={}, {}",
+                tuning.get().maxAttempts(), lastFailure, summary(logDetails), stackTrace);
+        } else {
+            log.warn("Non-retryable PDPO response, lastFailure={}, body={}, {}",
+                lastFailure, body, summary(logDetails), stackTrace);
+        }
+    }
+
+    /**
+     * Bounded description of a log for failure messages; the full details can hold thousands of individuals.
+     */
+    static String summary(PersonalDataProcessingLogDetails logDetails) {
+        return "businessIdentifier=" + logDetails.getBusinessIdentifier()
+            + ", category=" + logDetails.getCategory()
+            + ", individuals=" + individualCount(logDetails);
+    }
+
+    static int individualCount(PersonalDataProcessingLogDetails logDetails) {
+        return logDetails.getIndividuals() == null ? 0 : logDetails.getIndividuals().size();
+    }
 }
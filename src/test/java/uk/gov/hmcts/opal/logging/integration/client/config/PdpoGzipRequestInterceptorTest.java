@@ -0,0 +1,87 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import feign.RequestTemplate;
+import feign.Target;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.opal.logging.integration.client.PdpoSyncClient;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncCompressionProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+
+class PdpoGzipRequestInterceptorTest {
+
+    private static final String LARGE_BODY = "{\"individuals\":[" + "{\"identifier\":\"individual\"},".repeat(200)
+        + "{}]}";
+
+    private final PdpoGzipRequestInterceptor interceptor = new PdpoGzipRequestInterceptor(
+        ReloadableProperties.of(new PdpoSyncCompressionProperties(true, DataSize.ofBytes(1024))));
+
+    @Test
+    void shouldGzipLargePdpoBodies() throws IOException {
+        RequestTemplate template = template(PdpoSyncClient.class, LARGE_BODY);
+
+        interceptor.apply(template);
+
+        assertThat(template.headers().get(HttpHeaders.CONTENT_ENCODING)).containsExactly("gzip");
+        assertThat(template.body().length).isLessThan(LARGE_BODY.length());
+        assertThat(gunzip(template.body())).isEqualTo(LARGE_BODY);
+    }
+
+    @Test
+    void shouldLeaveSmallBodiesUncompressed() {
+        RequestTemplate template = template(PdpoSyncClient.class, "{}");
+
+        interceptor.apply(template);
+
+        assertThat(template.headers()).doesNotContainKey(HttpHeaders.CONTENT_ENCODING);
+        assertThat(new String(template.body(), StandardCharsets.UTF_8)).isEqualTo("{}");
+    }
+
+    @Test
+    void shouldNotCompressTwiceWhenFeignRetriesTheTemplate() throws IOException {
+        RequestTemplate template = template(PdpoSyncClient.class, LARGE_BODY);
+
+        interceptor.apply(template);
+        interceptor.apply(template);
+
+        assertThat(gunzip(template.body())).isEqualTo(LARGE_BODY);
+    }
+
+    @Test
+    void shouldLeaveOtherClientsUntouched() {
+        RequestTemplate template = template(Runnable.class, LARGE_BODY);
+
+        interceptor.apply(template);
+
+        assertThat(template.headers()).doesNotContainKey(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    @Test
+    void shouldProduceIndependentOutputWhenCompressorIsReused() throws IOException {
+        byte[] first = interceptor.compress(LARGE_BODY.getBytes(StandardCharsets.UTF_8));
+        byte[] second = interceptor.compress("{\"other\":true}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(gunzip(first)).isEqualTo(LARGE_BODY);
+        assertThat(gunzip(second)).isEqualTo("{\"other\":true}");
+    }
+
+    private RequestTemplate template(Class<?> client, String body) {
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(client, "http://localhost"));
+        template.body(body);
+        return template;
+    }
+
+    private String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
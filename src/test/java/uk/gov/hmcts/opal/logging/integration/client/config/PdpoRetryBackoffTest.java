@@ -0,0 +1,66 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBackoffProperties;
+
+class PdpoRetryBackoffTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-05T10:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void shouldGrowDelayExponentiallyUpToMaxDelay() {
+        PdpoRetryBackoff backoff = backoff(0.0);
+
+        assertThat(backoff.delay(1, null)).isEqualTo(Duration.ofMillis(100));
+        assertThat(backoff.delay(2, null)).isEqualTo(Duration.ofMillis(200));
+        assertThat(backoff.delay(3, null)).isEqualTo(Duration.ofMillis(400));
+        assertThat(backoff.delay(10, null)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldSubtractJitterFromExponentialDelay() {
+        PdpoRetryBackoff backoff = backoff(0.5);
+
+        for (int sample = 0; sample < 20; sample++) {
+            assertThat(backoff.delay(3, null)).isBetween(Duration.ofMillis(200), Duration.ofMillis(400));
+        }
+    }
+
+    @Test
+    void shouldHonourRetryAfterCappedAtMaxDelay() {
+        PdpoRetryBackoff backoff = backoff(0.5);
+
+        assertThat(backoff.delay(1, NOW.toEpochMilli() + 300)).isEqualTo(Duration.ofMillis(300));
+        assertThat(backoff.delay(1, NOW.toEpochMilli() + 30_000)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(backoff.delay(1, NOW.toEpochMilli() - 300)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void shouldParseRetryAfterSeconds() {
+        assertThat(PdpoRetryBackoff.parseRetryAfter("5", CLOCK)).isEqualTo(NOW.plusSeconds(5).toEpochMilli());
+    }
+
+    @Test
+    void shouldParseRetryAfterHttpDate() {
+        assertThat(PdpoRetryBackoff.parseRetryAfter("Mon, 05 Jan 2026 10:00:30 GMT", CLOCK))
+            .isEqualTo(NOW.plusSeconds(30).toEpochMilli());
+    }
+
+    @Test
+    void shouldIgnoreMissingOrMalformedRetryAfter() {
+        assertThat(PdpoRetryBackoff.parseRetryAfter(null, CLOCK)).isNull();
+        assertThat(PdpoRetryBackoff.parseRetryAfter("soon", CLOCK)).isNull();
+    }
+
+    private PdpoRetryBackoff backoff(double jitter) {
+        return new PdpoRetryBackoff(Duration.ofMillis(100),
+            new PdpoSyncBackoffProperties(2.0, Duration.ofSeconds(1), jitter), CLOCK);
+    }
+}
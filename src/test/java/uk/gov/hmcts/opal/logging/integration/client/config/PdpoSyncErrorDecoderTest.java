@@ -0,0 +1,82 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.ErrorDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncDiagnosticsProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+
+class PdpoSyncErrorDecoderTest {
+
+    private final ErrorDecoder errorDecoder = decoder(false);
+
+    @Test
+    void shouldCarryRetryAfterOfThrottledResponse() {
+        long before = System.currentTimeMillis();
+
+        Exception decoded = errorDecoder.decode("logPdpo", response(429, Map.of("Retry-After", List.of("2"))));
+
+        long after = System.currentTimeMillis();
+        assertThat(decoded).isInstanceOfSatisfying(RetryableException.class,
+            retryable -> assertThat(retryable.retryAfter()).isBetween(before + 2000, after + 2000));
+    }
+
+    @Test
+    void shouldLeaveRetryAfterEmptyWhenServerDoesNotSendIt() {
+        Exception decoded = errorDecoder.decode("logPdpo", response(503, Map.of()));
+
+        assertThat(decoded).isInstanceOfSatisfying(RetryableException.class,
+            retryable -> assertThat(retryable.retryAfter()).isNull());
+    }
+
+    @Test
+    void shouldNotRetryClientErrors() {
+        Exception decoded = errorDecoder.decode("logPdpo", response(400, Map.of()));
+
+        assertThat(decoded).isNotInstanceOf(RetryableException.class);
+    }
+
+    @Test
+    void shouldSkipStackTracesUnlessConfigured() {
+        assertThat(errorDecoder.decode("logPdpo", response(503, Map.of())).getStackTrace()).isEmpty();
+        assertThat(errorDecoder.decode("logPdpo", response(400, Map.of())).getStackTrace()).isEmpty();
+        assertThat(decoder(true).decode("logPdpo", response(503, Map.of())).getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void shouldKeepOnlyTheStartOfRejectedBody() {
+        Response response = response(400, Map.of()).toBuilder()
+            .body("x".repeat(1000), StandardCharsets.UTF_8)
+            .build();
+
+        Exception decoded = errorDecoder.decode("logPdpo", response);
+
+        assertThat(decoded).isInstanceOfSatisfying(FeignException.class,
+            rejected -> assertThat(rejected.contentUTF8()).hasSize(16));
+    }
+
+    private ErrorDecoder decoder(boolean captureStackTraces) {
+        return new PdpoSyncErrorDecoder(
+            ReloadableProperties.of(new PdpoSyncDiagnosticsProperties(captureStackTraces, 16)));
+    }
+
+    private Response response(int status, Map<String, Collection<String>> headers) {
+        Request request = Request.create(Request.HttpMethod.POST, "http://localhost/log/pdpo", Map.of(),
+            new byte[0], StandardCharsets.UTF_8, null);
+        return Response.builder()
+            .status(status)
+            .request(request)
+            .headers(headers)
+            .body(new byte[0])
+            .build();
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncHttpClientProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+
+class PdpoSyncHttpEngineConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(TestConfiguration.class);
+
+    @Test
+    void shouldKeepFeignDefaultEngineByDefault() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(PdpoSyncHttpEngine.class));
+    }
+
+    @Test
+    void shouldBuildPooledEngine() {
+        contextRunner
+            .withPropertyValues("logging-service.pdpl.sync.http-client.engine=POOLED",
+                "logging-service.pdpl.sync.http-client.max-connections-per-route=8")
+            .run(context -> {
+                PdpoSyncHttpEngine engine = context.getBean(PdpoSyncHttpEngine.class);
+                assertThat(engine.name()).isEqualTo("pooled");
+                assertThat(engine.client()).isInstanceOf(ApacheHttp5Client.class);
+            });
+    }
+
+    @Test
+    void shouldBuildHttp2Engine() {
+        contextRunner
+            .withPropertyValues("logging-service.pdpl.sync.http-client.engine=HTTP2")
+            .run(context -> assertThat(context.getBean(PdpoSyncHttpEngine.class).client())
+                .isInstanceOf(Http2Client.class));
+    }
+
+    @Test
+    void shouldBindHttpClientProperties() {
+        contextRunner
+            .withPropertyValues("logging-service.pdpl.sync.http-client.keep-alive=PT10S",
+                "logging-service.pdpl.sync.http-client.prewarm-connections=4")
+            .run(context -> {
+                PdpoSyncHttpClientProperties properties = context.getBean(PdpoSyncHttpClientProperties.class);
+                assertThat(properties.engine()).isEqualTo(PdpoSyncHttpClientProperties.Engine.DEFAULT);
+                assertThat(properties.keepAlive()).hasSeconds(10);
+                assertThat(properties.prewarmConnections()).isEqualTo(4);
+            });
+    }
+
+    @Configuration
+    @EnableConfigurationProperties({PdpoSyncProperties.class, PdpoSyncHttpClientProperties.class})
+    @Import(PdpoSyncHttpEngineConfig.class)
+    static class TestConfiguration {
+
+        @Bean
+        ReloadableProperties<PdpoSyncProperties> pdpoSyncTuning(PdpoSyncProperties properties) {
+            return ReloadableProperties.of(properties);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+
+class PdpoSyncHttpEngineTest {
+
+    private final Client client = mock(Client.class);
+    private final AutoCloseable resources = mock(AutoCloseable.class);
+
+    @Test
+    void shouldPrewarmConfiguredNumberOfConnections() throws IOException {
+        when(client.execute(any(Request.class), any(Request.Options.class)))
+            .thenAnswer(invocation -> Response.builder()
+                .status(200)
+                .headers(Map.of())
+                .request(invocation.getArgument(0))
+                .build());
+
+        int warmed = engine(3).prewarm();
+
+        assertThat(warmed).isEqualTo(3);
+        ArgumentCaptor<Request> requests = ArgumentCaptor.forClass(Request.class);
+        verify(client, times(3)).execute(requests.capture(), any(Request.Options.class));
+        assertThat(requests.getAllValues())
+            .allSatisfy(request -> {
+                assertThat(request.httpMethod()).isEqualTo(Request.HttpMethod.HEAD);
+                assertThat(request.url()).isEqualTo("https://logging-service");
+            });
+    }
+
+    @Test
+    void shouldIgnoreUnreachableServiceWhilePrewarming() throws IOException {
+        when(client.execute(any(Request.class), any(Request.Options.class)))
+            .thenThrow(new ConnectException("refused"));
+
+        assertThat(engine(2).prewarm()).isZero();
+    }
+
+    @Test
+    void shouldCloseResourcesOnDestroy() throws Exception {
+        engine(0).destroy();
+
+        verify(resources).close();
+    }
+
+    private PdpoSyncHttpEngine engine(int prewarmConnections) {
+        return new PdpoSyncHttpEngine("pooled", client, resources, prewarmConnections,
+            ReloadableProperties.of(new PdpoSyncProperties("https://logging-service", "/log/pdpo", 4,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1))));
+    }
+}
@@ -0,0 +1,102 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBackoffProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncLatencyProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+
+class PdpoSyncRetryerTest {
+
+    @Test
+    void shouldStopAfterConfiguredAttempts() {
+        Retryer retryer = retryer(2, Duration.ZERO).clone();
+
+        assertThatCode(() -> retryer.continueOrPropagate(retryable(null))).doesNotThrowAnyException();
+        assertThatThrownBy(() -> retryer.continueOrPropagate(retryable(null)))
+            .isInstanceOf(RetryableException.class);
+    }
+
+    @Test
+    void shouldStartEachCloneWithFreshAttemptCount() {
+        Retryer prototype = retryer(2, Duration.ZERO);
+        Retryer first = prototype.clone();
+        first.continueOrPropagate(retryable(null));
+
+        Retryer second = prototype.clone();
+
+        assertThatCode(() -> second.continueOrPropagate(retryable(null))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldNotRetryWhenNextAttemptCannotFinishWithinDeadline() {
+        // 1 ms delay + 1 s connect + 1 s read does not fit in a 1.5 s deadline.
+        Retryer retryer = retryer(4, Duration.ofMillis(1500)).clone();
+
+        assertThatThrownBy(() -> retryer.continueOrPropagate(retryable(null)))
+            .isInstanceOf(RetryableException.class);
+    }
+
+    @Test
+    void shouldRetryWhileNextAttemptFitsWithinDeadline() {
+        Retryer retryer = retryer(4, Duration.ofSeconds(10)).clone();
+
+        assertThatCode(() -> retryer.continueOrPropagate(retryable(null))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldNotRetryWhenRetryAfterExceedsDeadline() {
+        // The server asks for 5 s; the 10 s max delay allows it but the 6 s deadline does not.
+        Retryer retryer = retryer(4, Duration.ofSeconds(6)).clone();
+
+        assertThatThrownBy(() -> retryer.continueOrPropagate(retryable(System.currentTimeMillis() + 5000)))
+            .isInstanceOf(RetryableException.class);
+    }
+
+    @Test
+    void shouldMeasureDeadlineFromStartOfWholeCall() {
+        // The call started 9 s ago, so a 2 s attempt no longer fits in the 10 s deadline.
+        long callStarted = System.nanoTime() - Duration.ofSeconds(9).toNanos();
+        Retryer retryer = PdpoSyncAttemptClock.callStartedAt(callStarted,
+            () -> retryer(4, Duration.ofSeconds(10)).clone());
+
+        assertThatThrownBy(() -> retryer.continueOrPropagate(retryable(null)))
+            .isInstanceOf(RetryableException.class);
+    }
+
+    @Test
+    void shouldWaitUntilRetryAfter() {
+        Retryer retryer = retryer(4, Duration.ZERO).clone();
+        long started = System.nanoTime();
+
+        retryer.continueOrPropagate(retryable(System.currentTimeMillis() + 200));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+
+    private Retryer retryer(int maxAttempts, Duration deadline) {
+        return new PdpoSyncRetryer(
+            ReloadableProperties.of(new PdpoSyncProperties("http://localhost", "/log/pdpo", maxAttempts,
+                Duration.ofMillis(1), Duration.ofSeconds(1), Duration.ofSeconds(1))),
+            ReloadableProperties.of(new PdpoSyncLatencyProperties(deadline, false, Duration.ofMillis(500))),
+            ReloadableProperties.of(new PdpoSyncBackoffProperties(2.0, Duration.ofSeconds(10), 0.5)),
+            PdpoMetrics.noop());
+    }
+
+    private RetryableException retryable(Long retryAfter) {
+        Request request = Request.create(Request.HttpMethod.POST, "http://localhost/log/pdpo", Map.of(),
+            new byte[0], StandardCharsets.UTF_8, null);
+        return new RetryableException(503, "unavailable", Request.HttpMethod.POST, retryAfter, request);
+    }
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.opal.logging.integration.client.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PdpoSyncStatusTest {
+
+    @Test
+    void shouldRetryThrottlingServerErrorsAndMissingResponses() {
+        assertThat(PdpoSyncStatus.isRetryable(429)).isTrue();
+        assertThat(PdpoSyncStatus.isRetryable(500)).isTrue();
+        assertThat(PdpoSyncStatus.isRetryable(503)).isTrue();
+        assertThat(PdpoSyncStatus.isRetryable(-1)).isTrue();
+    }
+
+    @Test
+    void shouldNotRetryOtherStatuses() {
+        assertThat(PdpoSyncStatus.isRetryable(PdpoSyncStatus.STORED)).isFalse();
+        assertThat(PdpoSyncStatus.isRetryable(200)).isFalse();
+        assertThat(PdpoSyncStatus.isRetryable(400)).isFalse();
+        assertThat(PdpoSyncStatus.isRetryable(422)).isFalse();
+    }
+}
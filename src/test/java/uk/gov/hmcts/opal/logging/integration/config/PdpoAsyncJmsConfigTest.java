@@ -1,9 +1,17 @@
 package uk.gov.hmcts.opal.logging.integration.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import jakarta.jms.BytesMessage;
 import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Session;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
@@ -13,6 +21,14 @@ import org.springframework.jms.connection.CachingConnectionFactory;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.jms.support.converter.MessageConverter;
 import tools.jackson.databind.ObjectMapper;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoFailoverConnectionFactory;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoLogMessage;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoLogMessageReader;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespace;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespaceSelector;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoSupervisedConnectionFactory;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoWireFormat;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
 
 class PdpoAsyncJmsConfigTest {
 
@@ -41,9 +57,73 @@ class PdpoAsyncJmsConfigTest {
         });
     }
 
+    @Test
+    void shouldRouteThroughFailoverFactoryWhenSecondaryNamespacesConfigured() {
+        contextRunner
+            .withPropertyValues("logging-service.pdpl.async.failover.secondary-connection-strings[0]="
+                + "Endpoint=sb://secondary.servicebus.windows.net/;"
+                + "SharedAccessKeyName=OpalPdpo;"
+                + "SharedAccessKey=secret=",
+                "logging-service.pdpl.async.failover.probe-interval=PT0S")
+            .run(context -> {
+                assertThat(context.getBean(ConnectionFactory.class))
+                    .isInstanceOf(PdpoFailoverConnectionFactory.class);
+
+                PdpoNamespaceSelector selector = context.getBean(PdpoNamespaceSelector.class);
+                assertThat(selector.namespaces())
+                    .extracting(PdpoNamespace::name)
+                    .containsExactly("example.servicebus.windows.net", "secondary.servicebus.windows.net");
+            });
+    }
+
+    @Test
+    void shouldSuperviseConnectionWhenBackgroundReconnectEnabled() {
+        contextRunner
+            .withPropertyValues("logging-service.pdpl.async.reconnect.enabled=true",
+                "logging-service.pdpl.async.reconnect.probe-interval=PT0S")
+            .run(context -> {
+                ConnectionFactory factory = context.getBean(ConnectionFactory.class);
+                assertThat(factory).isInstanceOf(PdpoSupervisedConnectionFactory.class);
+                assertThat(((CachingConnectionFactory) factory).isCacheProducers()).isFalse();
+            });
+    }
+
+    @Test
+    void shouldSendBinaryBodyWithContentTypeWhenBinaryFormatConfigured() {
+        contextRunner
+            .withPropertyValues("logging-service.pdpl.async.serialization.format=CBOR",
+                "logging-service.pdpl.async.serialization.compact-uuids=true")
+            .run(context -> {
+                Session session = mock(Session.class);
+                BytesMessage message = mock(BytesMessage.class);
+                when(session.createBytesMessage()).thenReturn(message);
+                PdpoLogMessage logMessage = new PdpoLogMessage("PDPO", null);
+
+                context.getBean(MessageConverter.class).toMessage(logMessage, session);
+
+                ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+                verify(message).writeBytes(body.capture());
+                verify(message).setStringProperty("_pdpoType", PdpoLogMessage.class.getName());
+                verify(message).setStringProperty("contentType", "application/cbor");
+                assertThat(new PdpoLogMessageReader(new ObjectMapper()).read(body.getValue(), PdpoWireFormat.CBOR))
+                    .isEqualTo(logMessage);
+            });
+    }
+
+    @Test
+    void shouldCountPayloadSizeInUtf8Bytes() {
+        for (String text : List.of("", "{\"name\":\"Smith\"}", "Zo\u00eb", "\u20ac100", "\ud83d\ude00",
+            "lone \ud83d surrogate", "trailing \ude00")) {
+            assertThat(PdpoAsyncJmsConfig.utf8Length(text))
+                .as(text)
+                .isEqualTo(text.getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
     @Configuration
-    @EnableConfigurationProperties(PdpoAsyncProperties.class)
-    @Import(PdpoAsyncJmsConfig.class)
+    @EnableConfigurationProperties({PdpoAsyncProperties.class, PdpoAsyncFailoverProperties.class,
+        PdpoAsyncReconnectProperties.class, PdpoAsyncSerializationProperties.class})
+    @Import({PdpoAsyncJmsConfig.class, PdpoMetrics.class})
     static class TestConfig {
         @Bean
         ObjectMapper objectMapper() {
@@ -0,0 +1,139 @@
+package uk.gov.hmcts.opal.logging.integration.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+class PdpoTuningRefresherTest {
+
+    private static final String MAX_ATTEMPTS = "logging-service.pdpl.sync.max-attempts";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(TestConfiguration.class)
+        .withPropertyValues(
+            "logging-service.pdpl.async.connection-string=Endpoint=sb://example/",
+            "logging-service.pdpl.async.queue-name=pdpo-queue",
+            MAX_ATTEMPTS + "=5"
+        );
+
+    @Test
+    void shouldApplyOverrideToLiveSettings() {
+        contextRunner.run(context -> {
+            context.getBean(PdpoTuningRefresher.class).override("logging-service.pdpl.sync.read-timeout", "PT9S");
+
+            PdpoSyncProperties live = liveSync(context);
+            assertThat(live.readTimeout()).isEqualTo(Duration.ofSeconds(9));
+            assertThat(live.maxAttempts()).isEqualTo(5);
+            assertThat(context.getBean(PdpoTuningEndpoint.class).tuning())
+                .containsEntry("logging-service.pdpl.sync.read-timeout", Duration.ofSeconds(9));
+        });
+    }
+
+    @Test
+    void shouldRejectInvalidOverrideAndKeepCurrentSettings() {
+        contextRunner.run(context -> {
+            PdpoTuningRefresher refresher = context.getBean(PdpoTuningRefresher.class);
+
+            assertThatThrownBy(() -> refresher.override(MAX_ATTEMPTS, "0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(MAX_ATTEMPTS);
+
+            assertThat(liveSync(context).maxAttempts()).isEqualTo(5);
+            assertThat(context.getEnvironment().getProperty(MAX_ATTEMPTS)).isEqualTo("5");
+        });
+    }
+
+    @Test
+    void shouldRejectPropertiesOutsideReloadableSettings() {
+        contextRunner.run(context -> assertThatThrownBy(() -> context.getBean(PdpoTuningRefresher.class)
+            .override("spring.application.name", "other"))
+            .isInstanceOf(IllegalArgumentException.class));
+    }
+
+    @Test
+    void shouldRejectOverridesOfConnectionSettings() {
+        contextRunner.run(context -> {
+            PdpoTuningRefresher refresher = context.getBean(PdpoTuningRefresher.class);
+
+            assertThatThrownBy(() -> refresher.override("logging-service.pdpl.async.connection-string",
+                "Endpoint=sb://elsewhere/")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> refresher.override("logging-service.pdpl.async.queue-name", "other"))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> refresher.override("logging-service.pdpl.sync.base-url", "http://elsewhere"))
+                .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    @Test
+    void shouldNotExposeConnectionSettings() {
+        contextRunner.run(context -> assertThat(context.getBean(PdpoTuningEndpoint.class).tuning())
+            .containsKey("logging-service.pdpl.async.max-retries")
+            .doesNotContainKeys("logging-service.pdpl.async.connection-string",
+                "logging-service.pdpl.async.queue-name", "logging-service.pdpl.sync.base-url"));
+    }
+
+    @Test
+    void shouldKeepConnectionSettingsOnEnvironmentChange() {
+        contextRunner.run(context -> {
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("refreshed", Map.of(
+                "logging-service.pdpl.async.queue-name", "other-queue",
+                "logging-service.pdpl.async.max-retries", "6")));
+
+            context.publishEvent(new EnvironmentChangeEvent(Set.of("logging-service.pdpl.async.queue-name",
+                "logging-service.pdpl.async.max-retries")));
+
+            PdpoAsyncProperties live = liveAsync(context);
+            assertThat(live.queueName()).isEqualTo("pdpo-queue");
+            assertThat(live.maxRetries()).isEqualTo(6);
+        });
+    }
+
+    @Test
+    void shouldRebindOnEnvironmentChange() {
+        contextRunner.run(context -> {
+            context.getEnvironment().getPropertySources().addFirst(
+                new MapPropertySource("refreshed", Map.of("logging-service.pdpl.async.max-retries", "6")));
+
+            context.publishEvent(new EnvironmentChangeEvent(Set.of("logging-service.pdpl.async.max-retries")));
+
+            assertThat(liveAsync(context).maxRetries()).isEqualTo(6);
+            assertThat(context.getBean(PdpoTuningEndpoint.class).tuning())
+                .containsEntry("logging-service.pdpl.async.max-retries", 6);
+        });
+    }
+
+    private PdpoSyncProperties liveSync(ApplicationContext context) {
+        return (PdpoSyncProperties) context.getBean("pdpoSyncTuning", ReloadableProperties.class).get();
+    }
+
+    private PdpoAsyncProperties liveAsync(ApplicationContext context) {
+        return (PdpoAsyncProperties) context.getBean("pdpoAsyncTuning", ReloadableProperties.class).get();
+    }
+
+    @Configuration
+    @EnableConfigurationProperties({PdpoAsyncProperties.class, PdpoAsyncPipelineProperties.class,
+        PdpoSyncProperties.class, PdpoSyncBackoffProperties.class, PdpoSyncBatchProperties.class,
+        PdpoSyncCompressionProperties.class, PdpoSyncConcurrencyProperties.class,
+        PdpoSyncDiagnosticsProperties.class, PdpoSyncLatencyProperties.class})
+    @Import({PdpoTuningConfig.class, PdpoTuningRefresher.class, PdpoTuningEndpoint.class})
+    static class TestConfiguration {
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+    }
+}
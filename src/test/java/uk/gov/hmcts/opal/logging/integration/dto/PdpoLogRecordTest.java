@@ -0,0 +1,195 @@
+package uk.gov.hmcts.opal.logging.integration.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import uk.gov.hmcts.opal.logging.integration.mapper.PdpoIndividualGrouping;
+import uk.gov.hmcts.opal.logging.integration.mapper.PdpoQueueLogDetailsMapper;
+import uk.gov.hmcts.opal.logging.integration.mapper.PdpoQueueLogDetailsMapperImpl;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoQueueLogDetails;
+
+class PdpoLogRecordTest {
+
+    private enum TestIdentifierType implements IdentifierType {
+        OPAL_USER_ID,
+        DEFENDANT,
+        WITNESS;
+
+        @Override
+        public String getType() {
+            return name();
+        }
+    }
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Test
+    void shouldGroupIndividualsWhenCreatedFromDetails() {
+        PdpoLogRecord logRecord = PdpoLogRecord.from(details());
+
+        assertThat(logRecord.individuals()).containsExactly(
+            PdpoIndividualGroup.of(TestIdentifierType.DEFENDANT, "individual-1", "individual-3"),
+            PdpoIndividualGroup.of(TestIdentifierType.WITNESS, "individual-2"));
+        assertThat(logRecord.individualCount()).isEqualTo(3);
+        assertThat(logRecord.createdAt()).isEqualTo(OffsetDateTime.parse("2025-01-10T12:34:56.789Z"));
+    }
+
+    @Test
+    void shouldRoundTripNullCreatedAt() {
+        PersonalDataProcessingLogDetails details = details();
+        details.setCreatedAt(null);
+
+        PdpoLogRecord logRecord = PdpoLogRecord.from(details);
+
+        assertThat(logRecord.createdAt()).isNull();
+        assertThat(logRecord.toLogDetails().getCreatedAt()).isNull();
+        assertThat(PdpoQueueLogDetails.from(logRecord).createdAt()).isNull();
+    }
+
+    @Test
+    void shouldRoundTripNonUtcOffset() {
+        OffsetDateTime createdAt = OffsetDateTime.parse("2025-01-10T12:34:56.789+01:00");
+        PersonalDataProcessingLogDetails details = details();
+        details.setCreatedAt(createdAt);
+
+        PdpoLogRecord logRecord = PdpoLogRecord.from(details);
+
+        assertThat(logRecord.createdAt()).isEqualTo(createdAt);
+        assertThat(logRecord.toLogDetails().getCreatedAt()).isEqualTo(createdAt);
+        assertThat(PdpoQueueLogDetails.from(logRecord).createdAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void shouldSendEpochMillisWithUtcOffset() {
+        PdpoLogRecord logRecord = new PdpoLogRecord(null, "BUS-1", 1_736_512_496_789L, null,
+            PersonalDataProcessingCategory.COLLECTION, null, List.of());
+
+        assertThat(logRecord.createdAt()).isEqualTo(OffsetDateTime.parse("2025-01-10T12:34:56.789Z"));
+        assertThat(logRecord.createdAtOffset()).isEqualTo(ZoneOffset.UTC);
+    }
+
+    @Test
+    void shouldStoreCreationTimeAsEpochMillisAndOffset() {
+        PersonalDataProcessingLogDetails details = details();
+        details.setCreatedAt(OffsetDateTime.parse("2025-01-10T13:34:56.789+01:00"));
+
+        PdpoLogRecord logRecord = PdpoLogRecord.from(details);
+
+        assertThat(logRecord.createdAtEpochMillis()).isEqualTo(1_736_512_496_789L);
+        assertThat(logRecord.createdAtOffset()).isEqualTo(ZoneOffset.ofHours(1));
+    }
+
+    @Test
+    void shouldExpandToDetailsAcceptedBySyncEndpoint() {
+        PersonalDataProcessingLogDetails details = details();
+
+        assertThat(PdpoLogRecord.from(details).toLogDetails()).isEqualTo(PersonalDataProcessingLogDetails.builder()
+            .createdBy(details.getCreatedBy())
+            .businessIdentifier(details.getBusinessIdentifier())
+            .createdAt(details.getCreatedAt())
+            .ipAddress(details.getIpAddress())
+            .category(details.getCategory())
+            .individuals(List.of(
+                participant("individual-1", TestIdentifierType.DEFENDANT),
+                participant("individual-3", TestIdentifierType.DEFENDANT),
+                participant("individual-2", TestIdentifierType.WITNESS)))
+            .build());
+    }
+
+    @Test
+    void shouldMapToSameQueuePayloadAsDetails() {
+        PersonalDataProcessingLogDetails details = details();
+        PdpoQueueLogDetailsMapper mapper =
+            new PdpoQueueLogDetailsMapperImpl(PdpoIndividualGrouping.withDefaultThreshold());
+        PdpoQueueLogDetails expected = mapper.toQueueLogDetails(details);
+
+        PdpoQueueLogDetails actual = PdpoQueueLogDetails.from(PdpoLogRecord.from(details));
+
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(actual)))
+            .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(expected)));
+    }
+
+    @Test
+    void shouldShareIdentifierListsWithQueuePayload() {
+        PdpoIndividualGroup defendants = PdpoIndividualGroup.of(TestIdentifierType.DEFENDANT, "individual-1");
+        PdpoLogRecord logRecord = new PdpoLogRecord(null, "BUS-1", 0L, null, PersonalDataProcessingCategory.COLLECTION,
+            null, List.of(defendants, PdpoIndividualGroup.of(TestIdentifierType.WITNESS, "individual-2")));
+
+        assertThat(PdpoQueueLogDetails.from(logRecord).individuals().get("DEFENDANT"))
+            .isSameAs(defendants.identifiers());
+    }
+
+    @Test
+    void shouldMergeGroupsWithSameTypeName() {
+        PdpoLogRecord logRecord = new PdpoLogRecord(null, "BUS-1", 0L, null, PersonalDataProcessingCategory.COLLECTION,
+            null, List.of(
+                PdpoIndividualGroup.of(TestIdentifierType.DEFENDANT, "individual-1"),
+                PdpoIndividualGroup.of(TestIdentifierType.DEFENDANT, "individual-2")));
+
+        assertThat(PdpoQueueLogDetails.from(logRecord).individuals().get("DEFENDANT"))
+            .containsExactly("individual-1", "individual-2");
+    }
+
+    @Test
+    void shouldWrapIdentifiersWithoutCopying() {
+        List<String> identifiers = new ArrayList<>(List.of("individual-1"));
+        PdpoIndividualGroup group = new PdpoIndividualGroup(TestIdentifierType.DEFENDANT, identifiers);
+        identifiers.add("individual-2");
+
+        assertThat(group.identifiers()).containsExactly("individual-1", "individual-2");
+        assertThatThrownBy(() -> group.identifiers().add("individual-3"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldKeepNullIdentifiersAsTheDtoDoes() {
+        PersonalDataProcessingLogDetails details = details();
+        details.setIndividuals(List.of(
+            participant("individual-1", TestIdentifierType.DEFENDANT),
+            participant(null, TestIdentifierType.DEFENDANT)));
+        PdpoQueueLogDetailsMapper mapper =
+            new PdpoQueueLogDetailsMapperImpl(PdpoIndividualGrouping.withDefaultThreshold());
+
+        PdpoLogRecord logRecord = PdpoLogRecord.from(details);
+
+        assertThat(logRecord.individuals()).containsExactly(
+            PdpoIndividualGroup.of(TestIdentifierType.DEFENDANT, "individual-1", null));
+        assertThat(objectMapper.writeValueAsString(PdpoQueueLogDetails.from(logRecord)))
+            .isEqualTo(objectMapper.writeValueAsString(mapper.toQueueLogDetails(details)));
+    }
+
+    @Test
+    void shouldRejectMissingIdentifierList() {
+        assertThatThrownBy(() -> new PdpoIndividualGroup(TestIdentifierType.DEFENDANT, null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("identifiers");
+    }
+
+    private PersonalDataProcessingLogDetails details() {
+        return PersonalDataProcessingLogDetails.builder()
+            .createdBy(participant("creator-1", TestIdentifierType.OPAL_USER_ID))
+            .businessIdentifier("BUS-123")
+            .createdAt(OffsetDateTime.parse("2025-01-10T12:34:56.789Z"))
+            .ipAddress("192.0.2.1")
+            .category(PersonalDataProcessingCategory.COLLECTION)
+            .individuals(List.of(
+                participant("individual-1", TestIdentifierType.DEFENDANT),
+                participant("individual-2", TestIdentifierType.WITNESS),
+                participant("individual-3", TestIdentifierType.DEFENDANT)))
+            .build();
+    }
+
+    private ParticipantIdentifier participant(String identifier, IdentifierType type) {
+        return ParticipantIdentifier.builder()
+            .identifier(identifier)
+            .type(type)
+            .build();
+    }
+}
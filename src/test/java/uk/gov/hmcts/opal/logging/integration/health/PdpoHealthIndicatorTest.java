@@ -0,0 +1,186 @@
+package uk.gov.hmcts.opal.logging.integration.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Session;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.Status;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncFailoverProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoHealthProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespace;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespaceSelector;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+
+class PdpoHealthIndicatorTest {
+
+    private static final PersonalDataProcessingCategory CATEGORY = PersonalDataProcessingCategory.COLLECTION;
+
+    private ConnectionFactory connectionFactory;
+    private PdpoNamespace namespace;
+    private PdpoNamespaceSelector selector;
+    private PdpoMetrics metrics;
+    private PdpoHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connectionFactory = mock(ConnectionFactory.class);
+        Connection connection = mock(Connection.class);
+        Session session = mock(Session.class);
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        namespace = new PdpoNamespace("primary", connectionFactory);
+        selector = new PdpoNamespaceSelector(List.of(namespace),
+            new PdpoAsyncFailoverProperties(List.of(), 2, Duration.ofMinutes(1), Duration.ZERO, 2.0),
+            "pdpo-queue");
+        metrics = PdpoMetrics.noop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (indicator != null) {
+            indicator.destroy();
+        }
+    }
+
+    @Test
+    void shouldReportUnknownPathsAsUpBeforeAnyOutcome() {
+        indicator = indicator("http://localhost:1");
+
+        Health health = indicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(details(health, "async")).containsEntry("status", "UNKNOWN")
+            .containsEntry("namespaces", Map.of("primary", "available"));
+        assertThat(details(health, "sync")).containsEntry("status", "UNKNOWN");
+    }
+
+    @Test
+    void shouldReportDownAfterConsecutiveFailuresAndRecoverOnSuccess() {
+        indicator = indicator("http://localhost:1");
+        metrics.attempted(PdpoMetrics.Path.SYNC, CATEGORY, 1);
+
+        metrics.failed(PdpoMetrics.Path.SYNC, CATEGORY, System.nanoTime());
+        metrics.failed(PdpoMetrics.Path.SYNC, CATEGORY, System.nanoTime());
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+
+        metrics.failed(PdpoMetrics.Path.SYNC, CATEGORY, System.nanoTime());
+        Health down = indicator.health();
+        assertThat(down.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(details(down, "sync")).containsEntry("status", "DOWN").containsEntry("consecutiveFailures", 3)
+            .containsKey("lastFailure");
+
+        metrics.succeeded(PdpoMetrics.Path.SYNC, CATEGORY, System.nanoTime());
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void shouldReportQueuePathDownWhileEveryNamespaceIsCoolingDown() {
+        indicator = indicator("http://localhost:1");
+        metrics.attempted(PdpoMetrics.Path.ASYNC, CATEGORY, 1);
+
+        selector.recordOutcome(namespace, false, 1_000_000L);
+        selector.recordOutcome(namespace, false, 1_000_000L);
+
+        Health health = indicator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(details(health, "async")).containsEntry("status", "DOWN")
+            .containsEntry("namespaces", Map.of("primary", "cooling down"));
+    }
+
+    @Test
+    void shouldIgnoreFailuresOfUnusedPath() {
+        indicator = indicator("http://localhost:1");
+        metrics.attempted(PdpoMetrics.Path.ASYNC, CATEGORY, 1);
+        metrics.succeeded(PdpoMetrics.Path.ASYNC, CATEGORY, System.nanoTime());
+        for (int failure = 0; failure < 3; failure++) {
+            metrics.probed(PdpoMetrics.Path.SYNC, false);
+        }
+
+        Health health = indicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(details(health, "async")).containsEntry("status", "UP");
+        assertThat(details(health, "sync")).containsEntry("status", "UNKNOWN");
+    }
+
+    @Test
+    void shouldNotProbeUnusedPaths() {
+        indicator = indicator("http://localhost:1");
+
+        indicator.probeIdlePaths();
+
+        verifyNoInteractions(connectionFactory);
+        assertThat(metrics.observation(PdpoMetrics.Path.SYNC).lastOutcome()).isNull();
+    }
+
+    @Test
+    void shouldProbeIdlePaths() throws Exception {
+        metrics.attempted(PdpoMetrics.Path.ASYNC, CATEGORY, 1);
+        metrics.attempted(PdpoMetrics.Path.SYNC, CATEGORY, 1);
+        try (ServerSocket server = new ServerSocket(0)) {
+            indicator = indicator("http://localhost:" + server.getLocalPort());
+
+            indicator.probeIdlePaths();
+        }
+
+        assertThat(metrics.observation(PdpoMetrics.Path.ASYNC).lastSuccess()).isNotNull();
+        assertThat(metrics.observation(PdpoMetrics.Path.SYNC).lastSuccess()).isNotNull();
+        assertThat(metrics.attempts(PdpoMetrics.Path.SYNC)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordFailedProbeWhenSyncEndpointIsUnreachable() throws Exception {
+        int closedPort;
+        try (ServerSocket server = new ServerSocket(0)) {
+            closedPort = server.getLocalPort();
+        }
+        indicator = indicator("http://localhost:" + closedPort);
+        metrics.attempted(PdpoMetrics.Path.SYNC, CATEGORY, 1);
+
+        indicator.probeIdlePaths();
+
+        assertThat(metrics.observation(PdpoMetrics.Path.SYNC).consecutiveFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotProbePathsWithRecentTraffic() throws Exception {
+        indicator = indicator("http://localhost:1");
+        metrics.attempted(PdpoMetrics.Path.ASYNC, CATEGORY, 1);
+        metrics.attempted(PdpoMetrics.Path.SYNC, CATEGORY, 1);
+        metrics.succeeded(PdpoMetrics.Path.ASYNC, CATEGORY, System.nanoTime());
+        metrics.succeeded(PdpoMetrics.Path.SYNC, CATEGORY, System.nanoTime());
+
+        indicator.probeIdlePaths();
+
+        verify(connectionFactory, never()).createConnection();
+        assertThat(metrics.observation(PdpoMetrics.Path.SYNC).consecutiveFailures()).isZero();
+    }
+
+    private PdpoHealthIndicator indicator(String baseUrl) {
+        return new PdpoHealthIndicator(metrics, new PdpoHealthProperties(true, 3, Duration.ofHours(1)), selector,
+            ReloadableProperties.of(new PdpoSyncProperties(baseUrl, "/log/pdpo", 1, Duration.ZERO,
+                Duration.ofSeconds(1), Duration.ofSeconds(1))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> details(Health health, String path) {
+        return (Map<String, Object>) health.getDetails().get(path);
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.hmcts.opal.logging.integration.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.opal.logging.integration.dto.IdentifierType;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+
+class PdpoIndividualGroupingTest {
+
+    @Test
+    void shouldGroupInOrderOfFirstAppearance() {
+        List<ParticipantIdentifier> individuals = new ArrayList<>();
+        individuals.add(participant("individual-1", new TestIdentifierType("WITNESS")));
+        individuals.add(null);
+        individuals.add(participant("individual-2", new TestIdentifierType("DEFENDANT")));
+        individuals.add(participant("individual-3", new TestIdentifierType("WITNESS")));
+
+        assertThat(PdpoIndividualGrouping.group(individuals, Integer.MAX_VALUE)).containsExactly(
+            Map.entry("WITNESS", List.of("individual-1", "individual-3")),
+            Map.entry("DEFENDANT", List.of("individual-2")));
+    }
+
+    @Test
+    void shouldGroupLargeListsInParallelWithSameResultAsSequentialPass() {
+        List<IdentifierType> types = List.of(new TestIdentifierType("DEFENDANT"), new TestIdentifierType("WITNESS"),
+            new TestIdentifierType("VICTIM"));
+        List<ParticipantIdentifier> individuals = new ArrayList<>();
+        Map<String, List<String>> expected = new LinkedHashMap<>();
+        for (int index = 0; index < 100_000; index++) {
+            // The third type only appears in the second half, so its position depends on merge order.
+            IdentifierType type = types.get(index < 50_000 ? index % 2 : index % 3);
+            individuals.add(participant("individual-" + index, type));
+            expected.computeIfAbsent(type.getType(), ignored -> new ArrayList<>()).add("individual-" + index);
+        }
+
+        Map<String, List<String>> grouped = PdpoIndividualGrouping.group(individuals, 1);
+
+        assertThat(grouped).containsExactlyEntriesOf(expected);
+    }
+
+    @Test
+    void shouldMergeLaterGroupsAfterEarlierOnes() {
+        Map<String, List<String>> earlier = new LinkedHashMap<>();
+        earlier.put("WITNESS", List.of("individual-1"));
+        Map<String, List<String>> middle = new LinkedHashMap<>();
+        middle.put("DEFENDANT", List.of("individual-2"));
+        middle.put("WITNESS", List.of("individual-3"));
+        Map<String, List<String>> later = new LinkedHashMap<>();
+        later.put("WITNESS", List.of("individual-4"));
+
+        assertThat(PdpoIndividualGrouping.merge(List.of(earlier, middle, later))).containsExactly(
+            Map.entry("WITNESS", List.of("individual-1", "individual-3", "individual-4")),
+            Map.entry("DEFENDANT", List.of("individual-2")));
+    }
+
+    @Test
+    void shouldCallGetTypeOncePerDistinctTypeInstance() {
+        CountingIdentifierType defendant = new CountingIdentifierType("DEFENDANT");
+        CountingIdentifierType witness = new CountingIdentifierType("WITNESS");
+        List<ParticipantIdentifier> individuals = new ArrayList<>();
+        for (int index = 0; index < 1_000; index++) {
+            individuals.add(participant("individual-" + index, index % 2 == 0 ? defendant : witness));
+        }
+
+        PdpoIndividualGrouping.group(individuals, Integer.MAX_VALUE);
+
+        assertThat(defendant.calls).isEqualTo(1);
+        assertThat(witness.calls).isEqualTo(1);
+    }
+
+    private ParticipantIdentifier participant(String identifier, IdentifierType type) {
+        return ParticipantIdentifier.builder()
+            .identifier(identifier)
+            .type(type)
+            .build();
+    }
+
+    private record TestIdentifierType(String type) implements IdentifierType {
+        @Override
+        public String getType() {
+            return type;
+        }
+    }
+
+    private static final class CountingIdentifierType implements IdentifierType {
+        private final String type;
+        private int calls;
+
+        private CountingIdentifierType(String type) {
+            this.type = type;
+        }
+
+        @Override
+        public String getType() {
+            calls++;
+            return type;
+        }
+    }
+}
@@ -8,7 +8,6 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
-import org.mapstruct.factory.Mappers;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.cfg.DateTimeFeature;
@@ -22,7 +21,7 @@ import uk.gov.hmcts.opal.logging.integration.messaging.PdpoQueueLogDetails;
 class PdpoQueueLogDetailsMapperTest {
 
     private final PdpoQueueLogDetailsMapper pdpoQueueLogDetailsMapper =
-        Mappers.getMapper(PdpoQueueLogDetailsMapper.class);
+        new PdpoQueueLogDetailsMapperImpl(PdpoIndividualGrouping.withDefaultThreshold());
 
     private final ObjectMapper objectMapper = JsonMapper.builder()
         .disable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
@@ -0,0 +1,138 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.TextMessage;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.support.converter.MessageConversionException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import uk.gov.hmcts.opal.logging.integration.dto.IdentifierType;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoLogMessageReader.DecodedIdentifierType;
+
+class PdpoLogMessageReaderTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final PdpoLogMessageWriter writer = new PdpoLogMessageWriter(objectMapper);
+    private final PdpoLogMessageReader reader = new PdpoLogMessageReader(objectMapper);
+
+    @Test
+    void shouldDecodeWrittenMessage() throws Exception {
+        TextMessage message = textMessage(writer.writeAsString(new PdpoLogMessagePayload("PDPO", details())));
+
+        PdpoLogMessage decoded = reader.read(message);
+
+        assertThat(decoded.logType()).isEqualTo("PDPO");
+        PdpoQueueLogDetails details = decoded.details();
+        assertThat(details.createdBy())
+            .isEqualTo(new ParticipantIdentifier("creator-1", new DecodedIdentifierType("OPAL_USER_ID")));
+        assertThat(details.businessIdentifier()).isEqualTo("BUS-123");
+        assertThat(details.createdAt()).isEqualTo(OffsetDateTime.parse("2025-01-10T12:34:56.789+01:00"));
+        assertThat(details.ipAddress()).isEqualTo("192.0.2.1");
+        assertThat(details.category()).isEqualTo(PersonalDataProcessingCategory.DISCLOSURE);
+        assertThat(details.recipient()).isNull();
+        assertThat(details.individuals()).containsExactly(
+            Map.entry("DEFENDANT", List.of("individual-1", "individual-3")),
+            Map.entry("WITNESS", List.of("individual-2")));
+    }
+
+    @Test
+    void shouldSkipUnknownFieldsAndAcceptStringIdentifierTypes() {
+        PdpoLogMessage decoded = reader.read("""
+            {"log_type":"PDPO","extra":{"nested":[1,2]},"details":{"created_by":{"id":"c","type":"OPAL_USER_ID"},
+            "unknown":[{"a":1}],"category":"Erasure","individuals":{}}}""");
+
+        assertThat(decoded.details().createdBy().getType()).isEqualTo(new DecodedIdentifierType("OPAL_USER_ID"));
+        assertThat(decoded.details().category()).isEqualTo(PersonalDataProcessingCategory.ERASURE);
+        assertThat(decoded.details().individuals()).isEmpty();
+    }
+
+    @Test
+    void shouldNotReadBodyWhenHeadersAreFilteredOut() throws Exception {
+        TextMessage message = mock(TextMessage.class);
+        when(message.getStringProperty("logType")).thenReturn("OTHER");
+
+        assertThat(reader.readIf(message, headers -> "PDPO".equals(headers.logType()))).isEmpty();
+        verify(message, never()).getText();
+    }
+
+    @Test
+    void shouldDecodeMessageWhenHeadersMatchFilter() throws Exception {
+        TextMessage message = textMessage(writer.writeAsString(new PdpoLogMessagePayload("PDPO", details())));
+        when(message.getStringProperty("createdByType")).thenReturn("OPAL_USER_ID");
+
+        assertThat(reader.readIf(message, headers -> "OPAL_USER_ID".equals(headers.createdByType())))
+            .hasValueSatisfying(decoded -> assertThat(decoded.details().businessIdentifier()).isEqualTo("BUS-123"));
+    }
+
+    @Test
+    void shouldRejectOtherPayloadTypes() throws Exception {
+        TextMessage message = textMessage("{}");
+        when(message.getStringProperty("_pdpoType")).thenReturn(String.class.getName());
+
+        assertThatThrownBy(() -> reader.read(message)).isInstanceOf(MessageConversionException.class);
+        verify(message, never()).getText();
+    }
+
+    @Test
+    void shouldRejectNonTextMessages() {
+        assertThatThrownBy(() -> reader.read(mock(BytesMessage.class))).isInstanceOf(MessageConversionException.class);
+    }
+
+    @Test
+    void shouldRejectMalformedPayloads() {
+        assertThatThrownBy(() -> reader.read("{\"details\":{\"category\":\"Unknown\"}}"))
+            .isInstanceOf(MessageConversionException.class);
+        assertThatThrownBy(() -> reader.read("{\"details\":{\"individuals\":{\"DEFENDANT\":\"x\"}}}"))
+            .isInstanceOf(MessageConversionException.class);
+        assertThatThrownBy(() -> reader.read("{\"details\":"))
+            .isInstanceOf(MessageConversionException.class);
+    }
+
+    private TextMessage textMessage(String json) throws Exception {
+        TextMessage message = mock(TextMessage.class);
+        when(message.getStringProperty("_pdpoType")).thenReturn(PdpoLogMessage.class.getName());
+        when(message.getText()).thenReturn(json);
+        return message;
+    }
+
+    private PersonalDataProcessingLogDetails details() {
+        return PersonalDataProcessingLogDetails.builder()
+            .createdBy(participant("creator-1", "OPAL_USER_ID"))
+            .businessIdentifier("BUS-123")
+            .createdAt(OffsetDateTime.parse("2025-01-10T12:34:56.789+01:00"))
+            .ipAddress("192.0.2.1")
+            .category(PersonalDataProcessingCategory.DISCLOSURE)
+            .individuals(List.of(
+                participant("individual-1", "DEFENDANT"),
+                participant("individual-2", "WITNESS"),
+                participant("individual-3", "DEFENDANT")))
+            .build();
+    }
+
+    private ParticipantIdentifier participant(String identifier, String type) {
+        return ParticipantIdentifier.builder()
+            .identifier(identifier)
+            .type(new TestIdentifierType(type))
+            .build();
+    }
+
+    private record TestIdentifierType(String type) implements IdentifierType {
+        @Override
+        public String getType() {
+            return type;
+        }
+    }
+}
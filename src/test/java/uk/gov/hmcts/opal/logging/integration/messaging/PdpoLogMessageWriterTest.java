@@ -0,0 +1,143 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.json.JsonMapper;
+import uk.gov.hmcts.opal.logging.integration.dto.IdentifierType;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+import uk.gov.hmcts.opal.logging.integration.mapper.PdpoIndividualGrouping;
+import uk.gov.hmcts.opal.logging.integration.mapper.PdpoQueueLogDetailsMapper;
+import uk.gov.hmcts.opal.logging.integration.mapper.PdpoQueueLogDetailsMapperImpl;
+
+class PdpoLogMessageWriterTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final PdpoQueueLogDetailsMapper mapper =
+        new PdpoQueueLogDetailsMapperImpl(PdpoIndividualGrouping.withDefaultThreshold());
+    private final PdpoLogMessageWriter writer = new PdpoLogMessageWriter(objectMapper);
+
+    @Test
+    void shouldWriteSameDocumentAsMappedMessage() {
+        PersonalDataProcessingLogDetails details = details(List.of(
+            participant("individual-1", "DEFENDANT"),
+            participant("individual-2", "WITNESS"),
+            participant("individual-3", "DEFENDANT")));
+
+        assertSameDocument(details);
+    }
+
+    @Test
+    void shouldWriteSameDocumentForManyIdentifierTypes() {
+        List<ParticipantIdentifier> individuals = new ArrayList<>();
+        for (int index = 0; index < 30; index++) {
+            individuals.add(participant("individual-" + index, "TYPE_" + index % 12));
+        }
+
+        assertSameDocument(details(individuals));
+    }
+
+    @Test
+    void shouldWriteSameDocumentForSparseRecord() {
+        PersonalDataProcessingLogDetails details = PersonalDataProcessingLogDetails.builder()
+            .businessIdentifier("BUS-1")
+            .individuals(null)
+            .build();
+
+        assertSameDocument(details);
+    }
+
+    @Test
+    void shouldRejectIndividualWithoutType() {
+        PersonalDataProcessingLogDetails details = details(List.of(
+            ParticipantIdentifier.builder().identifier("individual-1").build()));
+
+        assertThatThrownBy(() -> writer.writeAsString(new PdpoLogMessagePayload("PDPO", details)))
+            .isInstanceOf(JacksonException.class);
+    }
+
+    @Test
+    void shouldWriteSameBytesForNullCreationTime() {
+        PersonalDataProcessingLogDetails details = details(List.of(participant("individual-1", "DEFENDANT")));
+        details.setCreatedAt(null);
+
+        assertSameDocument(details);
+    }
+
+    @Test
+    void shouldShiftCreationTimeToExplicitMapperTimeZone() {
+        ObjectMapper zonedMapper = JsonMapper.builder()
+            .defaultTimeZone(TimeZone.getTimeZone("America/New_York"))
+            .build();
+        PersonalDataProcessingLogDetails details = details(List.of(participant("individual-1", "DEFENDANT")));
+
+        String actual = assertSameDocument(zonedMapper, details);
+
+        assertThat(actual).contains("\"created_at\":\"2025-01-10T06:34:56.789-05:00\"");
+    }
+
+    @Test
+    void shouldKeepOwnOffsetWhenContextTimeZoneIsDisabled() {
+        ObjectMapper zonedMapper = JsonMapper.builder()
+            .defaultTimeZone(TimeZone.getTimeZone("America/New_York"))
+            .disable(DateTimeFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE)
+            .build();
+        PersonalDataProcessingLogDetails details = details(List.of(participant("individual-1", "DEFENDANT")));
+
+        String actual = assertSameDocument(zonedMapper, details);
+
+        assertThat(actual).contains("\"created_at\":\"2025-01-10T12:34:56.789+01:00\"");
+    }
+
+    private void assertSameDocument(PersonalDataProcessingLogDetails details) {
+        assertSameDocument(objectMapper, details);
+    }
+
+    private String assertSameDocument(ObjectMapper jsonMapper, PersonalDataProcessingLogDetails details) {
+        byte[] expected = jsonMapper.writeValueAsBytes(
+            new PdpoLogMessage("PDPO", mapper.toQueueLogDetails(details)));
+
+        String actual = new PdpoLogMessageWriter(jsonMapper)
+            .writeAsString(new PdpoLogMessagePayload("PDPO", details));
+
+        assertThat(actual.getBytes(StandardCharsets.UTF_8)).isEqualTo(expected);
+        return actual;
+    }
+
+    private PersonalDataProcessingLogDetails details(List<ParticipantIdentifier> individuals) {
+        return PersonalDataProcessingLogDetails.builder()
+            .createdBy(participant("creator-1", "OPAL_USER_ID"))
+            .businessIdentifier("BUS-123")
+            .createdAt(OffsetDateTime.parse("2025-01-10T12:34:56.789+01:00"))
+            .ipAddress("192.0.2.1")
+            .category(PersonalDataProcessingCategory.DISCLOSURE)
+            .recipient(participant("recipient-1", "EXTERNAL_SERVICE"))
+            .individuals(individuals)
+            .build();
+    }
+
+    private ParticipantIdentifier participant(String identifier, String type) {
+        return ParticipantIdentifier.builder()
+            .identifier(identifier)
+            .type(new TestIdentifierType(type))
+            .build();
+    }
+
+    private record TestIdentifierType(String type) implements IdentifierType {
+        @Override
+        public String getType() {
+            return type;
+        }
+    }
+}
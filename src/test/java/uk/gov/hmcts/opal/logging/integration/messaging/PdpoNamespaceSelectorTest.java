@@ -0,0 +1,162 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncFailoverProperties;
+
+class PdpoNamespaceSelectorTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private ConnectionFactory primaryFactory;
+    private ConnectionFactory secondaryFactory;
+    private PdpoNamespace primary;
+    private PdpoNamespace secondary;
+
+    @BeforeEach
+    void setUp() {
+        primaryFactory = mock(ConnectionFactory.class);
+        secondaryFactory = mock(ConnectionFactory.class);
+        primary = new PdpoNamespace("primary", primaryFactory);
+        secondary = new PdpoNamespace("secondary", secondaryFactory);
+    }
+
+    @Test
+    void shouldPreferPrimaryWhileHealthy() {
+        PdpoNamespaceSelector selector = selector(Duration.ofMinutes(1));
+
+        assertThat(selector.select()).isSameAs(primary);
+    }
+
+    @Test
+    void shouldFailOverAfterConsecutiveFailures() {
+        PdpoNamespaceSelector selector = selector(Duration.ofMinutes(1));
+
+        selector.recordOutcome(primary, false, MILLIS);
+        assertThat(selector.preferred()).isSameAs(primary);
+        selector.recordOutcome(primary, false, MILLIS);
+
+        assertThat(selector.preferred()).isSameAs(secondary);
+    }
+
+    @Test
+    void shouldFailBackOnceCooldownElapses() {
+        PdpoNamespaceSelector selector = selector(Duration.ZERO);
+
+        selector.recordOutcome(primary, false, MILLIS);
+        selector.recordOutcome(primary, false, MILLIS);
+
+        assertThat(selector.preferred()).isSameAs(primary);
+    }
+
+    @Test
+    void shouldRouteToFasterNamespaceWhenPrimaryIsSlowBeyondTolerance() {
+        PdpoNamespaceSelector selector = selector(Duration.ofMinutes(1));
+
+        selector.recordOutcome(primary, true, 100 * MILLIS);
+        selector.recordOutcome(secondary, true, 10 * MILLIS);
+
+        assertThat(selector.preferred()).isSameAs(secondary);
+
+        for (int sample = 0; sample < 5; sample++) {
+            selector.recordOutcome(secondary, true, 90 * MILLIS);
+        }
+
+        assertThat(selector.preferred()).isSameAs(primary);
+    }
+
+    @Test
+    void shouldAttributeOutcomeToLastSelectedNamespace() {
+        PdpoNamespaceSelector selector = selector(Duration.ofMinutes(1));
+
+        selector.select();
+        selector.recordOutcomeOfLastSelection(false, MILLIS);
+        selector.select();
+        selector.recordOutcomeOfLastSelection(false, MILLIS);
+        selector.recordOutcomeOfLastSelection(false, MILLIS);
+
+        assertThat(primary.consecutiveFailures()).isEqualTo(2);
+        assertThat(secondary.consecutiveFailures()).isZero();
+    }
+
+    @Test
+    void shouldRestoreNamespaceWhenProbeSucceeds() throws Exception {
+        PdpoNamespaceSelector selector = selector(Duration.ofMinutes(1));
+        selector.recordOutcome(primary, false, MILLIS);
+        selector.recordOutcome(primary, false, MILLIS);
+        stubReachable(primaryFactory);
+        stubReachable(secondaryFactory);
+
+        selector.probe();
+
+        assertThat(primary.consecutiveFailures()).isZero();
+        assertThat(primary.probeLatencyMillis()).isNotNaN();
+        assertThat(primary.latencyMillis()).isNaN();
+    }
+
+    @Test
+    void shouldNotCompareProbeLatencyWithSendLatency() {
+        PdpoNamespaceSelector selector = selector(Duration.ofMinutes(1));
+
+        selector.recordOutcome(primary, true, 100 * MILLIS);
+        secondary.recordProbeSuccess(MILLIS);
+
+        assertThat(selector.preferred()).isSameAs(primary);
+    }
+
+    @Test
+    void shouldRouteOnProbeLatencyWhenEveryNamespaceIsProbed() throws Exception {
+        PdpoNamespaceSelector selector = selector(Duration.ofMinutes(1));
+        selector.recordOutcome(primary, true, MILLIS);
+        selector.recordOutcome(secondary, true, 100 * MILLIS);
+        Session primarySession = stubReachable(primaryFactory);
+        stubReachable(secondaryFactory);
+        when(primarySession.createProducer(any())).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return mock(MessageProducer.class);
+        });
+
+        selector.probe();
+
+        assertThat(selector.preferred()).isSameAs(secondary);
+    }
+
+    @Test
+    void shouldMarkNamespaceUnhealthyWhenProbesFail() throws Exception {
+        PdpoNamespaceSelector selector = selector(Duration.ofMinutes(1));
+        when(primaryFactory.createConnection()).thenThrow(new JMSException("unreachable"));
+        stubReachable(secondaryFactory);
+
+        selector.probe();
+        selector.probe();
+
+        assertThat(selector.preferred()).isSameAs(secondary);
+    }
+
+    private Session stubReachable(ConnectionFactory factory) throws JMSException {
+        Connection connection = mock(Connection.class);
+        Session session = mock(Session.class);
+        when(factory.createConnection()).thenReturn(connection);
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        return session;
+    }
+
+    private PdpoNamespaceSelector selector(Duration cooldown) {
+        return new PdpoNamespaceSelector(
+            List.of(primary, secondary),
+            new PdpoAsyncFailoverProperties(List.of(), 2, cooldown, Duration.ZERO, 2.0),
+            "pdpo-queue");
+    }
+}
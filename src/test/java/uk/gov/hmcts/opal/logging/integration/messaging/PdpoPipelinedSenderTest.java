@@ -0,0 +1,183 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jms.JmsException;
+import org.springframework.jms.support.converter.MessageConverter;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncFailoverProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncPipelineProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PdpoPipelinedSenderTest {
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Queue queue;
+
+    @Mock
+    private MessageProducer producer;
+
+    @Mock
+    private MessageConverter messageConverter;
+
+    @Mock
+    private Message message;
+
+    @Captor
+    private ArgumentCaptor<CompletionListener> listenerCaptor;
+
+    private final PdpoAsyncProperties asyncProperties = new PdpoAsyncProperties(
+        "amqps",
+        "Endpoint=sb://example/",
+        "pdpo-queue",
+        "PDPO",
+        3,
+        Duration.ZERO,
+        Duration.ofSeconds(5)
+    );
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        when(session.createQueue("pdpo-queue")).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(producer);
+        when(messageConverter.toMessage(any(), eq(session))).thenReturn(message);
+    }
+
+    @Test
+    void shouldCompleteFutureWhenBrokerAcknowledges() throws Exception {
+        PdpoPipelinedSender sender = sender(4);
+
+        CompletableFuture<Void> result = sender.send("payload", jmsMessage -> jmsMessage);
+
+        verify(producer).send(eq(message), eq(DeliveryMode.PERSISTENT), eq(Message.DEFAULT_PRIORITY),
+            eq(Message.DEFAULT_TIME_TO_LIVE), listenerCaptor.capture());
+        assertThat(result).isNotDone();
+        assertThat(sender.inFlight()).isEqualTo(1);
+
+        listenerCaptor.getValue().onCompletion(message);
+
+        assertThat(result).isCompleted();
+        assertThat(sender.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldKeepSeveralSendsInFlightOnOneProducer() throws Exception {
+        PdpoPipelinedSender sender = sender(4);
+
+        sender.send("first", jmsMessage -> jmsMessage);
+        sender.send("second", jmsMessage -> jmsMessage);
+
+        assertThat(sender.inFlight()).isEqualTo(2);
+        verify(session, times(1)).createProducer(queue);
+    }
+
+    @Test
+    void shouldFailFastWhenInFlightWindowIsFull() {
+        PdpoPipelinedSender sender = sender(1);
+
+        CompletableFuture<Void> first = sender.send("first", jmsMessage -> jmsMessage);
+        CompletableFuture<Void> second = sender.send("second", jmsMessage -> jmsMessage);
+
+        assertThat(first).isNotDone();
+        assertThat(second).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldRecreateProducerAfterAsynchronousFailure() throws Exception {
+        PdpoPipelinedSender sender = sender(4);
+
+        CompletableFuture<Void> first = sender.send("first", jmsMessage -> jmsMessage);
+        verify(producer).send(eq(message), eq(DeliveryMode.PERSISTENT), eq(Message.DEFAULT_PRIORITY),
+            eq(Message.DEFAULT_TIME_TO_LIVE), listenerCaptor.capture());
+        listenerCaptor.getValue().onException(message, new JMSException("link detached"));
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(first.handle((ignored, failure) -> failure).join()).isInstanceOf(JmsException.class);
+
+        sender.send("second", jmsMessage -> jmsMessage);
+
+        verify(producer).close();
+        verify(session, times(2)).createProducer(queue);
+    }
+
+    @Test
+    void shouldReleasePermitWhenSendThrows() throws Exception {
+        PdpoPipelinedSender sender = sender(1);
+        doThrow(new JMSException("boom"))
+            .when(producer)
+            .send(any(Message.class), eq(DeliveryMode.PERSISTENT), eq(Message.DEFAULT_PRIORITY),
+                eq(Message.DEFAULT_TIME_TO_LIVE), any(CompletionListener.class));
+
+        CompletableFuture<Void> result = sender.send("payload", jmsMessage -> jmsMessage);
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(sender.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldResizeInFlightWindowWithoutDroppingInFlightSends() {
+        PdpoPipelinedSender.ResizableSemaphore window = new PdpoPipelinedSender.ResizableSemaphore(2);
+        assertThat(window.tryAcquire()).isTrue();
+        assertThat(window.tryAcquire()).isTrue();
+
+        window.resize(1);
+        window.release();
+
+        assertThat(window.inUse()).isEqualTo(1);
+        assertThat(window.tryAcquire()).isFalse();
+
+        window.resize(3);
+
+        assertThat(window.tryAcquire()).isTrue();
+        assertThat(window.inUse()).isEqualTo(2);
+    }
+
+    private PdpoPipelinedSender sender(int maxInFlight) {
+        PdpoNamespaceSelector selector = new PdpoNamespaceSelector(
+            List.of(new PdpoNamespace("primary", connectionFactory)),
+            new PdpoAsyncFailoverProperties(List.of(), 3, Duration.ofSeconds(30), Duration.ZERO, 2.0),
+            "pdpo-queue");
+        return new PdpoPipelinedSender(messageConverter, ReloadableProperties.of(asyncProperties),
+            ReloadableProperties.of(new PdpoAsyncPipelineProperties(true, maxInFlight, Duration.ZERO)), selector);
+    }
+}
@@ -0,0 +1,142 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncReconnectProperties;
+
+class PdpoSupervisedConnectionFactoryTest {
+
+    private ConnectionFactory target;
+    private Connection first;
+    private Connection second;
+    private PdpoSupervisedConnectionFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        target = mock(ConnectionFactory.class);
+        first = mock(Connection.class);
+        second = mock(Connection.class);
+        factory = new PdpoSupervisedConnectionFactory(target,
+            new PdpoAsyncReconnectProperties(true, Duration.ofMillis(1), Duration.ofMillis(5), Duration.ZERO),
+            "example", "pdpo-queue");
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.destroy();
+    }
+
+    @Test
+    void shouldReconnectInBackgroundAfterConnectionDrops() throws Exception {
+        when(target.createConnection()).thenReturn(first, second);
+        factory.createConnection();
+
+        factory.onException(new JMSException("connection dropped"));
+
+        verify(target, timeout(2000).times(2)).createConnection();
+        awaitReconnected();
+        factory.createConnection();
+
+        verify(target, times(2)).createConnection();
+        verify(first).close();
+    }
+
+    @Test
+    void shouldBackOffAndRetryUntilReconnected() throws Exception {
+        when(target.createConnection())
+            .thenReturn(first)
+            .thenThrow(new JMSException("unreachable"))
+            .thenThrow(new JMSException("unreachable"))
+            .thenReturn(second);
+        factory.createConnection();
+
+        factory.onException(new JMSException("connection dropped"));
+
+        verify(target, timeout(2000).times(4)).createConnection();
+        awaitReconnected();
+    }
+
+    @Test
+    void shouldReconnectWhenIdleProbeFails() throws Exception {
+        when(target.createConnection()).thenReturn(first, second);
+        when(first.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenThrow(new JMSException("idle timeout"));
+        factory.createConnection();
+
+        factory.probe();
+
+        verify(target, timeout(2000).times(2)).createConnection();
+        awaitReconnected();
+    }
+
+    @Test
+    void shouldReconnectWhenIdleProbeCannotAttachSender() throws Exception {
+        Session session = mock(Session.class);
+        when(target.createConnection()).thenReturn(first, second);
+        when(first.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        when(session.createProducer(any())).thenThrow(new JMSException("link detached"));
+        factory.createConnection();
+
+        factory.probe();
+
+        verify(session).close();
+        verify(target, timeout(2000).times(2)).createConnection();
+        awaitReconnected();
+    }
+
+    @Test
+    void shouldHandCallerTheStandbyConnectionWhileHandshakeIsInProgress() throws Exception {
+        CountDownLatch handshakeStarted = new CountDownLatch(1);
+        CountDownLatch handshakeDone = new CountDownLatch(1);
+        when(target.createConnection())
+            .thenReturn(first)
+            .thenAnswer(invocation -> {
+                handshakeStarted.countDown();
+                handshakeDone.await();
+                return second;
+            })
+            .thenReturn(mock(Connection.class));
+        factory.createConnection();
+        factory.onException(new JMSException("connection dropped"));
+        assertThat(handshakeStarted.await(2, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Connection> caller = CompletableFuture.supplyAsync(() -> {
+            try {
+                return factory.createConnection();
+            } catch (JMSException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        Thread.sleep(50);
+        handshakeDone.countDown();
+        caller.get(2, TimeUnit.SECONDS).start();
+
+        verify(second).start();
+        verify(target, times(2)).createConnection();
+        awaitReconnected();
+    }
+
+    private void awaitReconnected() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (factory.isReconnecting() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(factory.isReconnecting()).isFalse();
+    }
+}
@@ -0,0 +1,109 @@
+package uk.gov.hmcts.opal.logging.integration.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.jms.support.converter.MessageConversionException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import uk.gov.hmcts.opal.logging.integration.dto.IdentifierType;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+
+class PdpoWireFormatTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final PdpoLogMessageWriter writer = new PdpoLogMessageWriter(objectMapper);
+    private final PdpoLogMessageReader reader = new PdpoLogMessageReader(objectMapper);
+
+    @ParameterizedTest
+    @EnumSource(value = PdpoWireFormat.class, names = {"CBOR", "SMILE"})
+    void shouldRoundTripBinaryFormats(PdpoWireFormat format) {
+        PdpoLogMessagePayload payload = new PdpoLogMessagePayload("PDPO", details(20));
+        PdpoLogMessage expected = reader.read(writer.writeAsString(payload));
+
+        assertThat(reader.read(writer.writeAsBytes(payload, format, false), format)).isEqualTo(expected);
+        assertThat(reader.read(writer.writeAsBytes(payload, format, true), format)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PdpoWireFormat.class, names = {"CBOR", "SMILE"})
+    void shouldBeSmallerThanJson(PdpoWireFormat format) {
+        PdpoLogMessagePayload payload = new PdpoLogMessagePayload("PDPO", details(500));
+        int json = writer.writeAsString(payload).getBytes(StandardCharsets.UTF_8).length;
+
+        int binary = writer.writeAsBytes(payload, format, false).length;
+        int compact = writer.writeAsBytes(payload, format, true).length;
+
+        assertThat(binary).isLessThan(json);
+        // A 36 character UUID shrinks to 16 raw bytes, or about 19 in Smile's 7-bit binary encoding.
+        assertThat(compact).isLessThan(binary - 500 * 10);
+    }
+
+    @Test
+    void shouldWriteMappedMessagesInBinaryFormats() {
+        PdpoLogMessage message = reader.read(writer.writeAsString(new PdpoLogMessagePayload("PDPO", details(3))));
+
+        byte[] body = writer.writeAsBytes(message, PdpoWireFormat.SMILE, true);
+
+        assertThat(reader.read(body, PdpoWireFormat.SMILE)).isEqualTo(message);
+    }
+
+    @Test
+    void shouldOnlyCompactCanonicalLowerCaseUuids() {
+        String uuid = UUID.randomUUID().toString();
+
+        assertThat(PdpoCompactUuids.decode(PdpoCompactUuids.encode(uuid))).isEqualTo(uuid);
+        assertThat(PdpoCompactUuids.encode(uuid.toUpperCase())).isNull();
+        assertThat(PdpoCompactUuids.encode(uuid.replace('-', '_'))).isNull();
+        assertThat(PdpoCompactUuids.encode("BUS-123")).isNull();
+        assertThat(PdpoCompactUuids.encode(null)).isNull();
+    }
+
+    @Test
+    void shouldResolveFormatFromContentType() {
+        assertThat(PdpoWireFormat.fromContentType(null)).isEqualTo(PdpoWireFormat.JSON);
+        assertThat(PdpoWireFormat.fromContentType("application/cbor")).isEqualTo(PdpoWireFormat.CBOR);
+        assertThat(PdpoWireFormat.fromContentType("application/x-jackson-smile")).isEqualTo(PdpoWireFormat.SMILE);
+        assertThatThrownBy(() -> PdpoWireFormat.fromContentType("text/plain"))
+            .isInstanceOf(MessageConversionException.class);
+    }
+
+    private PersonalDataProcessingLogDetails details(int individualCount) {
+        List<ParticipantIdentifier> individuals = new ArrayList<>();
+        for (int index = 0; index < individualCount; index++) {
+            individuals.add(participant(UUID.randomUUID().toString(), index % 3 == 0 ? "WITNESS" : "DEFENDANT"));
+        }
+        return PersonalDataProcessingLogDetails.builder()
+            .createdBy(participant(UUID.randomUUID().toString(), "OPAL_USER_ID"))
+            .businessIdentifier("BUS-123")
+            .createdAt(OffsetDateTime.parse("2025-01-10T12:34:56.789Z"))
+            .ipAddress("192.0.2.1")
+            .category(PersonalDataProcessingCategory.CONSULTATION)
+            .individuals(individuals)
+            .build();
+    }
+
+    private ParticipantIdentifier participant(String identifier, String type) {
+        return ParticipantIdentifier.builder()
+            .identifier(identifier)
+            .type(new TestIdentifierType(type))
+            .build();
+    }
+
+    private record TestIdentifierType(String type) implements IdentifierType {
+        @Override
+        public String getType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package uk.gov.hmcts.opal.logging.integration.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBulkheadProperties;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+import uk.gov.hmcts.opal.logging.integration.service.PdpoSyncBulkhead;
+
+class PdpoMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PdpoMetrics metrics = new PdpoMetrics(registry);
+
+    @Test
+    void shouldCountOutcomesByPathAndCategory() {
+        long started = System.nanoTime();
+
+        metrics.attempted(PdpoMetrics.Path.SYNC, PersonalDataProcessingCategory.DISCLOSURE, 3);
+        metrics.attempted(PdpoMetrics.Path.SYNC, PersonalDataProcessingCategory.DISCLOSURE, 5);
+        metrics.succeeded(PdpoMetrics.Path.SYNC, PersonalDataProcessingCategory.DISCLOSURE, started);
+        metrics.failed(PdpoMetrics.Path.ASYNC, null, started);
+
+        assertThat(count(PdpoMetrics.ATTEMPTS, "sync", "disclosure")).isEqualTo(2);
+        assertThat(count(PdpoMetrics.SUCCESSES, "sync", "disclosure")).isEqualTo(1);
+        assertThat(count(PdpoMetrics.FAILURES, "async", "unknown")).isEqualTo(1);
+        assertThat(count(PdpoMetrics.ATTEMPTS, "async", "disclosure")).isZero();
+        assertThat(registry.get(PdpoMetrics.LATENCY).tag("path", "sync").timer().count()).isEqualTo(1);
+        assertThat(registry.get(PdpoMetrics.INDIVIDUALS).tag("path", "sync").summary().totalAmount())
+            .isEqualTo(8);
+    }
+
+    @Test
+    void shouldRecordRetriesAndTimeSpentWaiting() {
+        metrics.retried(PdpoMetrics.Path.SYNC, Duration.ofMillis(200));
+        metrics.retried(PdpoMetrics.Path.SYNC, Duration.ofMillis(300));
+
+        assertThat(registry.get(PdpoMetrics.RETRIES).tag("path", "sync").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get(PdpoMetrics.RETRY_DELAY).tag("path", "sync").timer()
+            .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(500);
+    }
+
+    @Test
+    void shouldRecordPayloadSizes() {
+        metrics.payloadSerialised(PdpoMetrics.Path.ASYNC, 512);
+        metrics.payloadSerialised(PdpoMetrics.Path.ASYNC, 1536);
+
+        assertThat(registry.get(PdpoMetrics.PAYLOAD_SIZE).tag("path", "async").summary().mean()).isEqualTo(1024);
+    }
+
+    @Test
+    void shouldAcceptRecordingsWithoutRegistry() {
+        PdpoMetrics noop = PdpoMetrics.noop();
+
+        assertThatCode(() -> {
+            noop.attempted(PdpoMetrics.Path.ASYNC, PersonalDataProcessingCategory.COLLECTION, 1);
+            noop.succeeded(PdpoMetrics.Path.ASYNC, PersonalDataProcessingCategory.COLLECTION, System.nanoTime());
+            noop.retried(PdpoMetrics.Path.ASYNC, Duration.ofMillis(10));
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldExposeGaugesForComponentsInContext() {
+        PdpoSyncBulkheadProperties properties = new PdpoSyncBulkheadProperties(true, 4, Duration.ZERO);
+        PdpoSyncBulkhead bulkhead = new PdpoSyncBulkhead(properties);
+        bulkhead.tryEnter();
+
+        new ApplicationContextRunner()
+            .withBean(PdpoSyncBulkheadProperties.class, () -> properties)
+            .withBean(PdpoSyncBulkhead.class, () -> bulkhead)
+            .withBean(PdpoResourceMetrics.class)
+            .run(context -> {
+                context.getBean(PdpoResourceMetrics.class).bindTo(registry);
+
+                assertThat(registry.get("pdpo.sync.bulkhead.active").gauge().value()).isEqualTo(1);
+                assertThat(registry.get("pdpo.sync.bulkhead.max").gauge().value()).isEqualTo(4);
+                assertThat(registry.find("pdpo.async.pipeline.active").gauge()).isNull();
+            });
+    }
+
+    private double count(String name, String path, String category) {
+        return registry.get(name).tags("path", path, "category", category).functionCounter().count();
+    }
+}
@@ -0,0 +1,94 @@
+package uk.gov.hmcts.opal.logging.integration.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoOutcomeLoggingProperties;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+
+class PdpoOutcomeReporterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final PdpoMetrics metrics = PdpoMetrics.noop();
+    private PdpoOutcomeReporter reporter;
+
+    @AfterEach
+    void tearDown() {
+        if (reporter != null) {
+            reporter.destroy();
+        }
+    }
+
+    @Test
+    void shouldLogEveryOutcomeUnlessAggregating() {
+        reporter = new PdpoOutcomeReporter(metrics, new PdpoOutcomeLoggingProperties(false, Duration.ofMinutes(1), 0));
+
+        assertThat(reporter.logsEachSuccess()).isTrue();
+        assertThat(reporter.mayLogFailure()).isTrue();
+        assertThat(reporter.mayLogFailure()).isTrue();
+    }
+
+    @Test
+    void shouldRateLimitFailureLogsPerInterval() {
+        reporter = reporter(2);
+
+        assertThat(reporter.logsEachSuccess()).isFalse();
+        assertThat(reporter.mayLogFailure()).isTrue();
+        assertThat(reporter.mayLogFailure()).isTrue();
+        assertThat(reporter.mayLogFailure()).isFalse();
+
+        reporter.report();
+
+        assertThat(reporter.mayLogFailure()).isTrue();
+    }
+
+    @Test
+    void shouldStartNewLatencyIntervalOnEachSummary() {
+        reporter = reporter(10);
+        metrics.attempted(PdpoMetrics.Path.SYNC, PersonalDataProcessingCategory.COLLECTION, 1);
+        metrics.succeeded(PdpoMetrics.Path.SYNC, PersonalDataProcessingCategory.COLLECTION, System.nanoTime());
+        metrics.attempted(PdpoMetrics.Path.SYNC, null, 1);
+        metrics.failed(PdpoMetrics.Path.SYNC, null, System.nanoTime());
+
+        reporter.report();
+
+        assertThat(metrics.drainIntervalLatency(PdpoMetrics.Path.SYNC)).containsOnly(0L);
+        assertThat(metrics.failures(PdpoMetrics.Path.SYNC, null)).isEqualTo(1);
+        assertThat(metrics.failures(PdpoMetrics.Path.SYNC, PersonalDataProcessingCategory.COLLECTION)).isZero();
+    }
+
+    @Test
+    void shouldRejectNonPositiveIntervalWhenAggregating() {
+        assertThatThrownBy(() -> new PdpoOutcomeReporter(metrics,
+            new PdpoOutcomeLoggingProperties(true, Duration.ZERO, 10)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReportPercentilesAsBucketUpperBounds() {
+        PdpoLatencyHistogram histogram = new PdpoLatencyHistogram();
+        for (int sample = 0; sample < 90; sample++) {
+            histogram.record(3 * MILLIS);
+        }
+        for (int sample = 0; sample < 9; sample++) {
+            histogram.record(150 * MILLIS);
+        }
+        histogram.record(120_000 * MILLIS);
+
+        long[] counts = histogram.drain();
+
+        assertThat(PdpoLatencyHistogram.percentileBound(counts, 0.5)).isEqualTo(5);
+        assertThat(PdpoLatencyHistogram.percentileBound(counts, 0.95)).isEqualTo(200);
+        assertThat(PdpoLatencyHistogram.percentileBound(counts, 1.0)).isEqualTo(Long.MAX_VALUE);
+        assertThat(PdpoLatencyHistogram.percentileBound(histogram.drain(), 0.5)).isEqualTo(-1);
+    }
+
+    private PdpoOutcomeReporter reporter(int maxFailureLogs) {
+        return new PdpoOutcomeReporter(metrics,
+            new PdpoOutcomeLoggingProperties(true, Duration.ofHours(1), maxFailureLogs));
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.opal.logging.integration.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoStageTimingProperties;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings.Stage;
+
+class PdpoStageTimingsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        PdpoStageTimings.detach(PdpoStageTimings.current());
+    }
+
+    @Test
+    void shouldRecordStagesOfSampledPublish() {
+        PdpoStageTimings timings = timings(1.0, true);
+
+        PdpoStageTimings.Sample sample = timings.begin(PdpoMetrics.Path.ASYNC);
+        long started = PdpoStageTimings.start();
+        PdpoStageTimings.record(Stage.SERIALISATION, started);
+        sample.add(Stage.SEND, 2_000_000L);
+        sample.add(Stage.SEND, 3_000_000L);
+        timings.finish(sample);
+
+        assertThat(sample.nanos(Stage.SEND)).isEqualTo(5_000_000L);
+        assertThat(registry.get(PdpoStageTimings.STAGE).tags("path", "async", "stage", "send").timer().count())
+            .isEqualTo(1);
+        assertThat(registry.get(PdpoStageTimings.STAGE).tags("path", "async", "stage", "serialisation").timer()
+            .count()).isEqualTo(1);
+        assertThat(registry.get(PdpoStageTimings.STAGE).tags("path", "async", "stage", "mapping").timer()
+            .count()).isZero();
+        assertThat(PdpoStageTimings.current()).isNull();
+    }
+
+    @Test
+    void shouldSkipPublishesThatAreNotSampled() {
+        PdpoStageTimings timings = timings(0.0, false);
+
+        PdpoStageTimings.Sample sample = timings.begin(PdpoMetrics.Path.SYNC);
+        PdpoStageTimings.record(Stage.SEND, PdpoStageTimings.start());
+        timings.finish(sample);
+
+        assertThat(sample).isNull();
+        assertThat(PdpoStageTimings.current()).isNull();
+        assertThat(registry.get(PdpoStageTimings.STAGE).tags("path", "sync", "stage", "send").timer().count())
+            .isZero();
+    }
+
+    @Test
+    void shouldRecordIntoSampleFromAnotherThread() {
+        PdpoStageTimings timings = timings(1.0, false);
+        PdpoStageTimings.Sample sample = timings.begin(PdpoMetrics.Path.SYNC);
+
+        CompletableFuture.supplyAsync(() -> PdpoStageTimings.supplyWithin(sample, () -> {
+            long started = PdpoStageTimings.start();
+            LockSupport.parkNanos(1_000_000L);
+            PdpoStageTimings.record(Stage.SEND, started);
+            return PdpoStageTimings.current();
+        })).join();
+
+        assertThat(sample.nanos(Stage.SEND)).isPositive();
+        assertThat(PdpoStageTimings.current()).isSameAs(sample);
+    }
+
+    private PdpoStageTimings timings(double sampleRate, boolean logBreakdown) {
+        return new PdpoStageTimings(new PdpoMetrics(registry), new PdpoStageTimingProperties(sampleRate,
+            logBreakdown));
+    }
+}
@@ -1,15 +1,30 @@
 package uk.gov.hmcts.opal.logging.integration.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncChunkingProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoDualWriteProperties;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoLogRecord;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,11 +36,18 @@ class LoggingServiceImplTest {
     @Mock
     private PdpoSyncPublisher pdpoSyncPublisher;
 
-    @InjectMocks
     private LoggingServiceImpl loggingService;
 
+    @AfterEach
+    void tearDown() {
+        if (loggingService != null) {
+            loggingService.destroy();
+        }
+    }
+
     @Test
     void shouldDelegateToAsyncPublisher() {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.BOTH_REQUIRED);
         PersonalDataProcessingLogDetails details = PersonalDataProcessingLogDetails.builder()
             .businessIdentifier("BUS-789")
             .createdAt(OffsetDateTime.now())
@@ -39,8 +61,74 @@ class LoggingServiceImplTest {
         verify(pdpoAsyncPublisher).publish(details);
     }
 
+    @Test
+    void shouldDelegateChunkedIndividualsToAsyncPublisherOnly() {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.BOTH_REQUIRED);
+        PersonalDataProcessingLogDetails details = PersonalDataProcessingLogDetails.builder()
+            .businessIdentifier("BUS-790")
+            .category(PersonalDataProcessingCategory.CONSULTATION)
+            .createdAt(OffsetDateTime.now())
+            .build();
+        List<ParticipantIdentifier> individuals = List.of();
+
+        when(pdpoAsyncPublisher.publishChunked(details, individuals)).thenReturn(true);
+
+        assertThat(loggingService.personalDataAccessLogAsync(details, individuals)).isTrue();
+        verifyNoInteractions(pdpoSyncPublisher);
+    }
+
+    @Test
+    void shouldDualWriteEachChunkOfIndividualsForDualWriteCategories() {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.BOTH_REQUIRED);
+        PersonalDataProcessingLogDetails details = details(PersonalDataProcessingCategory.DISCLOSURE);
+        List<ParticipantIdentifier> individuals = List.of(individual("A"), individual("B"), individual("C"));
+
+        when(pdpoAsyncPublisher.publish(any(PersonalDataProcessingLogDetails.class))).thenReturn(true);
+        when(pdpoSyncPublisher.publish(any(PersonalDataProcessingLogDetails.class))).thenReturn(true);
+
+        assertThat(loggingService.personalDataAccessLogAsync(details, individuals)).isTrue();
+
+        ArgumentCaptor<PersonalDataProcessingLogDetails> queued =
+            ArgumentCaptor.forClass(PersonalDataProcessingLogDetails.class);
+        ArgumentCaptor<PersonalDataProcessingLogDetails> stored =
+            ArgumentCaptor.forClass(PersonalDataProcessingLogDetails.class);
+        verify(pdpoAsyncPublisher, times(2)).publish(queued.capture());
+        verify(pdpoSyncPublisher, times(2)).publish(stored.capture());
+        verify(pdpoAsyncPublisher, never()).publishChunked(any(), any());
+        assertThat(queued.getAllValues()).extracting(chunk -> chunk.getIndividuals().size()).containsExactly(2, 1);
+        assertThat(stored.getAllValues()).extracting(chunk -> chunk.getIndividuals().size()).containsExactly(2, 1);
+        assertThat(stored.getAllValues()).allSatisfy(chunk -> {
+            assertThat(chunk.getBusinessIdentifier()).isEqualTo("BUS-123");
+            assertThat(chunk.getCategory()).isEqualTo(PersonalDataProcessingCategory.DISCLOSURE);
+        });
+    }
+
+    @Test
+    void shouldPublishLogRecordToAsyncPublisher() {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.BOTH_REQUIRED);
+        PdpoLogRecord logRecord = new PdpoLogRecord(null, "BUS-791", 0L, null,
+            PersonalDataProcessingCategory.COLLECTION, null, List.of());
+
+        when(pdpoAsyncPublisher.publish(logRecord)).thenReturn(true);
+
+        assertThat(loggingService.personalDataAccessLogAsync(logRecord)).isTrue();
+        verifyNoInteractions(pdpoSyncPublisher);
+    }
+
+    @Test
+    void shouldExpandLogRecordForSyncPublisher() {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.BOTH_REQUIRED);
+        PdpoLogRecord logRecord = new PdpoLogRecord(null, "BUS-792", 0L, null,
+            PersonalDataProcessingCategory.COLLECTION, null, List.of());
+
+        when(pdpoSyncPublisher.publish(logRecord.toLogDetails())).thenReturn(true);
+
+        assertThat(loggingService.personalDataAccessLogSync(logRecord)).isTrue();
+    }
+
     @Test
     void shouldDelegateToSyncPublisher() {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.BOTH_REQUIRED);
         PersonalDataProcessingLogDetails details = PersonalDataProcessingLogDetails.builder()
             .businessIdentifier("BUS-456")
             .createdAt(OffsetDateTime.now())
@@ -53,4 +141,117 @@ class LoggingServiceImplTest {
         assertThat(result).isTrue();
         verify(pdpoSyncPublisher).publish(details);
     }
+
+    @Test
+    void shouldDelegateToNonBlockingSyncPublisher() {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.BOTH_REQUIRED);
+        PersonalDataProcessingLogDetails details = details(PersonalDataProcessingCategory.COLLECTION);
+
+        when(pdpoSyncPublisher.publishAsync(details)).thenReturn(CompletableFuture.completedFuture(true));
+
+        assertThat(loggingService.personalDataAccessLogSyncAsync(details)).isCompletedWithValue(true);
+    }
+
+    @Test
+    void shouldReportOutcomeOfSyncPublisher() {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.BOTH_REQUIRED);
+        PersonalDataProcessingLogDetails details = details(PersonalDataProcessingCategory.COLLECTION);
+
+        when(pdpoSyncPublisher.publishWithOutcome(details)).thenReturn(PdpoSyncOutcome.BULKHEAD_FULL);
+
+        assertThat(loggingService.personalDataAccessLogSyncWithOutcome(details))
+            .isEqualTo(PdpoSyncOutcome.BULKHEAD_FULL);
+    }
+
+    @Test
+    void shouldNotDualWriteCategoriesThatAreNotConfigured() {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.BOTH_REQUIRED);
+        PersonalDataProcessingLogDetails details = details(PersonalDataProcessingCategory.CONSULTATION);
+
+        when(pdpoAsyncPublisher.publish(details)).thenReturn(true);
+
+        assertThat(loggingService.personalDataAccessLogAsync(details)).isTrue();
+        verifyNoInteractions(pdpoSyncPublisher);
+    }
+
+    @Test
+    void shouldRunBothPathsConcurrentlyForDualWriteCategories() {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.BOTH_REQUIRED);
+        PersonalDataProcessingLogDetails details = details(PersonalDataProcessingCategory.DISCLOSURE);
+        CountDownLatch queueStarted = new CountDownLatch(1);
+        CountDownLatch syncStarted = new CountDownLatch(1);
+
+        // Each path waits for the other to start, which only succeeds when they run at the same time.
+        when(pdpoAsyncPublisher.publish(details)).thenAnswer(invocation -> {
+            queueStarted.countDown();
+            return syncStarted.await(5, TimeUnit.SECONDS);
+        });
+        when(pdpoSyncPublisher.publish(details)).thenAnswer(invocation -> {
+            syncStarted.countDown();
+            return queueStarted.await(5, TimeUnit.SECONDS);
+        });
+
+        assertThat(loggingService.personalDataAccessLogSync(details)).isTrue();
+    }
+
+    @Test
+    void shouldFailWhenBothAreRequiredAndOnePathFails() {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.BOTH_REQUIRED);
+        PersonalDataProcessingLogDetails details = details(PersonalDataProcessingCategory.ERASURE);
+
+        when(pdpoAsyncPublisher.publish(details)).thenReturn(true);
+        when(pdpoSyncPublisher.publish(details)).thenThrow(new IllegalStateException("boom"));
+
+        assertThat(loggingService.personalDataAccessLogAsync(details)).isFalse();
+    }
+
+    @Test
+    void shouldReturnOnFirstSuccessWithoutWaitingForSlowerPath() throws Exception {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.FIRST_SUCCESS);
+        PersonalDataProcessingLogDetails details = details(PersonalDataProcessingCategory.DISCLOSURE);
+        CountDownLatch releaseSync = new CountDownLatch(1);
+        CountDownLatch syncFinished = new CountDownLatch(1);
+
+        when(pdpoAsyncPublisher.publish(details)).thenReturn(true);
+        when(pdpoSyncPublisher.publish(details)).thenAnswer(invocation -> {
+            releaseSync.await(5, TimeUnit.SECONDS);
+            syncFinished.countDown();
+            return true;
+        });
+
+        assertThat(loggingService.personalDataAccessLogAsync(details)).isTrue();
+        assertThat(syncFinished.getCount()).isEqualTo(1);
+
+        releaseSync.countDown();
+        assertThat(syncFinished.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldFailOnFirstSuccessPolicyWhenBothPathsFail() {
+        loggingService = loggingService(PdpoDualWriteProperties.Policy.FIRST_SUCCESS);
+        PersonalDataProcessingLogDetails details = details(PersonalDataProcessingCategory.DISCLOSURE);
+
+        when(pdpoAsyncPublisher.publish(details)).thenReturn(false);
+        when(pdpoSyncPublisher.publish(details)).thenReturn(false);
+
+        assertThat(loggingService.personalDataAccessLogSync(details)).isFalse();
+    }
+
+    private LoggingServiceImpl loggingService(PdpoDualWriteProperties.Policy policy) {
+        return new LoggingServiceImpl(pdpoAsyncPublisher, pdpoSyncPublisher, new PdpoDualWriteProperties(
+            Set.of(PersonalDataProcessingCategory.DISCLOSURE, PersonalDataProcessingCategory.ERASURE), policy),
+            new PdpoAsyncChunkingProperties(2));
+    }
+
+    private ParticipantIdentifier individual(String identifier) {
+        return ParticipantIdentifier.builder().identifier(identifier).build();
+    }
+
+    private PersonalDataProcessingLogDetails details(PersonalDataProcessingCategory category) {
+        return PersonalDataProcessingLogDetails.builder()
+            .businessIdentifier("BUS-123")
+            .createdAt(OffsetDateTime.now())
+            .category(category)
+            .build();
+    }
 }
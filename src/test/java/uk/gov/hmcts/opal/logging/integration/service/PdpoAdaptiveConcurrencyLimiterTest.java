@@ -0,0 +1,132 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncConcurrencyProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+
+class PdpoAdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void shouldRejectCallsAboveLimit() {
+        PdpoAdaptiveConcurrencyLimiter limiter = limiter(2, Duration.ZERO);
+
+        assertThat(limiter.tryAcquire()).isNotNull();
+        assertThat(limiter.tryAcquire()).isNotNull();
+        assertThat(limiter.tryAcquire()).isNull();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldHandSlotToWaitingCallWhenOneIsReleased() throws Exception {
+        PdpoAdaptiveConcurrencyLimiter limiter = limiter(1, Duration.ofSeconds(5));
+        PdpoAdaptiveConcurrencyLimiter.Permit held = limiter.tryAcquire();
+
+        CompletableFuture<PdpoAdaptiveConcurrencyLimiter.Permit> waiting =
+            CompletableFuture.supplyAsync(limiter::tryAcquire);
+        held.onIgnored();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void shouldCutLimitMultiplicativelyOnDroppedCall() {
+        PdpoAdaptiveConcurrencyLimiter limiter = limiter(20, Duration.ZERO);
+
+        limiter.tryAcquire().onDropped();
+
+        assertThat(limiter.limit()).isEqualTo(18);
+    }
+
+    @Test
+    void shouldRaiseLimitAdditivelyWhileSaturatedCallsSucceed() {
+        PdpoAdaptiveConcurrencyLimiter limiter = limiter(4, Duration.ZERO);
+
+        for (int round = 0; round < 8; round++) {
+            List<PdpoAdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+            PdpoAdaptiveConcurrencyLimiter.Permit permit;
+            while ((permit = limiter.tryAcquire()) != null) {
+                permits.add(permit);
+            }
+            permits.forEach(PdpoAdaptiveConcurrencyLimiter.Permit::onSuccess);
+        }
+
+        assertThat(limiter.limit()).isGreaterThan(4);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotDropBelowMinimumLimit() {
+        PdpoAdaptiveConcurrencyLimiter limiter = limiter(2, Duration.ZERO);
+
+        for (int failure = 0; failure < 50; failure++) {
+            limiter.tryAcquire().onDropped();
+        }
+
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWakeEveryWaitingCallWhenLimitGrowsByMoreThanOne() throws Exception {
+        AtomicReference<PdpoSyncConcurrencyProperties> live = new AtomicReference<>(
+            new PdpoSyncConcurrencyProperties(true, 1, 1, 100, Duration.ofSeconds(10), 0.9, Double.MAX_VALUE));
+        PdpoAdaptiveConcurrencyLimiter limiter = new PdpoAdaptiveConcurrencyLimiter(reloadable(live));
+        PdpoAdaptiveConcurrencyLimiter.Permit held = limiter.tryAcquire();
+        CompletableFuture<PdpoAdaptiveConcurrencyLimiter.Permit> first =
+            CompletableFuture.supplyAsync(limiter::tryAcquire);
+        CompletableFuture<PdpoAdaptiveConcurrencyLimiter.Permit> second =
+            CompletableFuture.supplyAsync(limiter::tryAcquire);
+        Thread.sleep(100);
+
+        live.set(new PdpoSyncConcurrencyProperties(true, 1, 3, 100, Duration.ofSeconds(10), 0.9, Double.MAX_VALUE));
+        held.onIgnored();
+
+        assertThat(first.get(2, TimeUnit.SECONDS)).isNotNull();
+        assertThat(second.get(2, TimeUnit.SECONDS)).isNotNull();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMeasureRoundTripFromLastAttempt() throws Exception {
+        // A call slower than 1000 times the baseline counts as congestion.
+        PdpoAdaptiveConcurrencyLimiter limiter = new PdpoAdaptiveConcurrencyLimiter(ReloadableProperties.of(
+            new PdpoSyncConcurrencyProperties(true, 10, 1, 100, Duration.ZERO, 0.5, 1000.0)));
+        for (int call = 0; call < 100; call++) {
+            limiter.tryAcquire().onSuccess();
+        }
+
+        PdpoAdaptiveConcurrencyLimiter.Permit retried = limiter.tryAcquire();
+        Thread.sleep(100);
+        retried.lastAttemptStarted(System.nanoTime());
+        retried.onSuccess();
+        assertThat(limiter.limit()).isEqualTo(10);
+
+        PdpoAdaptiveConcurrencyLimiter.Permit slow = limiter.tryAcquire();
+        Thread.sleep(100);
+        slow.onSuccess();
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ReloadableProperties<PdpoSyncConcurrencyProperties> reloadable(
+        AtomicReference<PdpoSyncConcurrencyProperties> live) {
+        ReloadableProperties<PdpoSyncConcurrencyProperties> tuning = mock(ReloadableProperties.class);
+        when(tuning.get()).thenAnswer(invocation -> live.get());
+        return tuning;
+    }
+
+    private PdpoAdaptiveConcurrencyLimiter limiter(int initialLimit, Duration maxWait) {
+        // Timings inside a unit test are noise, so latency alone never counts as a drop here.
+        return new PdpoAdaptiveConcurrencyLimiter(ReloadableProperties.of(
+            new PdpoSyncConcurrencyProperties(true, initialLimit, 1, 100, maxWait, 0.9, Double.MAX_VALUE)));
+    }
+}
@@ -5,14 +5,19 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.jms.Message;
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,14 +30,28 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jms.JmsException;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.jms.core.MessagePostProcessor;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncChunkingProperties;
 import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoAsyncSerializationProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoStageTimingProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
 import uk.gov.hmcts.opal.logging.integration.dto.IdentifierType;
 import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoIndividualGroup;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoLogRecord;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoParticipant;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
 import uk.gov.hmcts.opal.logging.integration.mapper.PdpoQueueLogDetailsMapper;
 import uk.gov.hmcts.opal.logging.integration.messaging.PdpoLogMessage;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoLogMessagePayload;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoNamespaceSelector;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoPipelinedSender;
 import uk.gov.hmcts.opal.logging.integration.messaging.PdpoQueueLogDetails;
+import uk.gov.hmcts.opal.logging.integration.messaging.PdpoWireFormat;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoOutcomeReporter;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings;
 
 @ExtendWith(MockitoExtension.class)
 class PdpoAsyncPublisherImplTest {
@@ -43,6 +62,12 @@ class PdpoAsyncPublisherImplTest {
     @Mock
     private PdpoQueueLogDetailsMapper pdpoQueueLogDetailsMapper;
 
+    @Mock
+    private PdpoPipelinedSender pipelinedSender;
+
+    @Mock
+    private PdpoNamespaceSelector namespaceSelector;
+
     @Captor
     private ArgumentCaptor<Object> payloadCaptor;
 
@@ -51,6 +76,8 @@ class PdpoAsyncPublisherImplTest {
 
     private PdpoAsyncProperties properties;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @InjectMocks
     private PdpoAsyncPublisherImpl publisher;
 
@@ -65,7 +92,16 @@ class PdpoAsyncPublisherImplTest {
             Duration.ZERO,
             Duration.ofSeconds(5)
         );
-        publisher = new PdpoAsyncPublisherImpl(jmsTemplate, properties, pdpoQueueLogDetailsMapper);
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new PdpoAsyncPublisherImpl(jmsTemplate, ReloadableProperties.of(properties),
+            pdpoQueueLogDetailsMapper,
+            pipelinedSender,
+            namespaceSelector,
+            new PdpoAsyncSerializationProperties(false, PdpoWireFormat.JSON, false),
+            new PdpoAsyncChunkingProperties(2),
+            new PdpoMetrics(meterRegistry),
+            PdpoStageTimings.disabled(),
+            PdpoOutcomeReporter.perMessage());
     }
 
     @Test
@@ -92,6 +128,47 @@ class PdpoAsyncPublisherImplTest {
         verifyNoMoreInteractions(jmsMessage);
     }
 
+    @Test
+    void shouldHandLogDetailsToStreamingWriterWhenEnabled() {
+        publisher = new PdpoAsyncPublisherImpl(jmsTemplate, ReloadableProperties.of(properties),
+            pdpoQueueLogDetailsMapper, pipelinedSender, namespaceSelector,
+            new PdpoAsyncSerializationProperties(true, PdpoWireFormat.JSON, false),
+            new PdpoAsyncChunkingProperties(2),
+            new PdpoMetrics(meterRegistry),
+            PdpoStageTimings.disabled(),
+            PdpoOutcomeReporter.perMessage());
+        PersonalDataProcessingLogDetails details = sampleDetails();
+
+        assertThat(publisher.publish(details)).isTrue();
+
+        verify(jmsTemplate).convertAndSend(eq("pdpo-queue"), payloadCaptor.capture(), any(MessagePostProcessor.class));
+        assertThat(payloadCaptor.getValue()).isEqualTo(new PdpoLogMessagePayload("PDPO", details));
+        verifyNoMoreInteractions(pdpoQueueLogDetailsMapper);
+    }
+
+    @Test
+    void shouldPublishLogRecordWithoutMapper() throws Exception {
+        PdpoLogRecord logRecord = new PdpoLogRecord(
+            new PdpoParticipant("creator-1", new TestIdentifierType("OPAL_USER_ID")),
+            "BUS-123",
+            0L,
+            "192.0.2.1",
+            PersonalDataProcessingCategory.COLLECTION,
+            null,
+            List.of(PdpoIndividualGroup.of(new TestIdentifierType("DEFENDANT"), "individual-1")));
+
+        assertThat(publisher.publish(logRecord)).isTrue();
+
+        verify(jmsTemplate).convertAndSend(eq("pdpo-queue"), payloadCaptor.capture(), postProcessorCaptor.capture());
+        assertThat(payloadCaptor.getValue()).isEqualTo(new PdpoLogMessage("PDPO", PdpoQueueLogDetails.from(logRecord)));
+        verifyNoMoreInteractions(pdpoQueueLogDetailsMapper);
+
+        Message jmsMessage = mock(Message.class);
+        postProcessorCaptor.getValue().postProcessMessage(jmsMessage);
+        verify(jmsMessage).setStringProperty("logType", "PDPO");
+        verify(jmsMessage).setStringProperty("createdByType", "OPAL_USER_ID");
+    }
+
     @Test
     void shouldRetryAndSucceed() {
         PersonalDataProcessingLogDetails details = sampleDetails();
@@ -105,6 +182,49 @@ class PdpoAsyncPublisherImplTest {
         assertThat(result).isTrue();
         verify(jmsTemplate, Mockito.times(2))
             .convertAndSend(eq("pdpo-queue"), any(), any(MessagePostProcessor.class));
+        verify(namespaceSelector).recordOutcomeOfLastSelection(eq(false), Mockito.anyLong());
+        verify(namespaceSelector).recordOutcomeOfLastSelection(eq(true), Mockito.anyLong());
+    }
+
+    @Test
+    void shouldRecordOutcomeAndRetryMetrics() {
+        doThrow(new JmsException("boom") { })
+            .doNothing()
+            .when(jmsTemplate)
+            .convertAndSend(eq("pdpo-queue"), any(), any(MessagePostProcessor.class));
+
+        publisher.publish(sampleDetails());
+
+        assertThat(meterRegistry.get(PdpoMetrics.ATTEMPTS).tags("path", "async", "category", "collection")
+            .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PdpoMetrics.SUCCESSES).tags("path", "async", "category", "collection")
+            .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PdpoMetrics.RETRIES).tag("path", "async").functionCounter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get(PdpoMetrics.ATTEMPT_LATENCY).tag("path", "async").timer().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get(PdpoMetrics.LATENCY).tag("path", "async").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTimeStagesOfSampledPublish() {
+        PdpoMetrics metrics = new PdpoMetrics(meterRegistry);
+        publisher = new PdpoAsyncPublisherImpl(jmsTemplate, ReloadableProperties.of(properties),
+            pdpoQueueLogDetailsMapper, pipelinedSender, namespaceSelector,
+            new PdpoAsyncSerializationProperties(false, PdpoWireFormat.JSON, false),
+            new PdpoAsyncChunkingProperties(2), metrics,
+            new PdpoStageTimings(metrics, new PdpoStageTimingProperties(1.0, false)),
+            PdpoOutcomeReporter.perMessage());
+        PdpoQueueLogDetails queueLogDetails = mock(PdpoQueueLogDetails.class);
+        when(pdpoQueueLogDetailsMapper.toQueueLogDetails(any())).thenReturn(queueLogDetails);
+
+        publisher.publish(sampleDetails());
+
+        assertThat(meterRegistry.get(PdpoStageTimings.STAGE).tags("path", "async", "stage", "mapping").timer()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PdpoStageTimings.STAGE).tags("path", "async", "stage", "send").timer()
+            .count()).isZero();
+        assertThat(PdpoStageTimings.current()).isNull();
     }
 
     @Test
@@ -121,6 +241,86 @@ class PdpoAsyncPublisherImplTest {
             .convertAndSend(eq("pdpo-queue"), any(), any(MessagePostProcessor.class));
     }
 
+    @Test
+    void shouldPublishThroughPipelineWhenEnabled() {
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        when(pipelinedSender.isEnabled()).thenReturn(true);
+        when(pipelinedSender.send(any(), any(MessagePostProcessor.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        boolean result = publisher.publish(details);
+
+        assertThat(result).isTrue();
+        verify(pipelinedSender).send(payloadCaptor.capture(), any(MessagePostProcessor.class));
+        assertThat(payloadCaptor.getValue()).isInstanceOf(PdpoLogMessage.class);
+        verify(jmsTemplate, never()).convertAndSend(eq("pdpo-queue"), any(), any(MessagePostProcessor.class));
+    }
+
+    @Test
+    void shouldRetryPipelinedSendUntilRetriesExhausted() {
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        when(pipelinedSender.isEnabled()).thenReturn(true);
+        when(pipelinedSender.send(any(), any(MessagePostProcessor.class)))
+            .thenAnswer(invocation -> CompletableFuture.failedFuture(new JmsException("boom") { }));
+
+        CompletableFuture<Boolean> result = publisher.publishAsync(details);
+
+        assertThat(result.join()).isFalse();
+        verify(pipelinedSender, Mockito.times(properties.maxRetries()))
+            .send(any(), any(MessagePostProcessor.class));
+    }
+
+    @Test
+    void shouldPublishIndividualsInChunks() {
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        List<ParticipantIdentifier> individuals = individuals(5);
+        List<List<ParticipantIdentifier>> chunks = new ArrayList<>();
+        when(pdpoQueueLogDetailsMapper.toQueueLogDetails(any())).thenAnswer(invocation -> {
+            PersonalDataProcessingLogDetails chunk = invocation.getArgument(0);
+            assertThat(chunk.getBusinessIdentifier()).isEqualTo("BUS-123");
+            assertThat(chunk.getCreatedBy()).isEqualTo(details.getCreatedBy());
+            chunks.add(List.copyOf(chunk.getIndividuals()));
+            return null;
+        });
+
+        boolean result = publisher.publishChunked(details, individuals.stream()::iterator);
+
+        assertThat(result).isTrue();
+        assertThat(chunks).containsExactly(individuals.subList(0, 2), individuals.subList(2, 4),
+            individuals.subList(4, 5));
+        verify(jmsTemplate, times(3)).convertAndSend(eq("pdpo-queue"), any(), any(MessagePostProcessor.class));
+    }
+
+    @Test
+    void shouldPublishOneMessageWhenChunkedIndividualsAreEmpty() {
+        assertThat(publisher.publishChunked(sampleDetails(), List.of())).isTrue();
+
+        verify(jmsTemplate).convertAndSend(eq("pdpo-queue"), any(), any(MessagePostProcessor.class));
+    }
+
+    @Test
+    void shouldStopPublishingChunksAfterFailure() {
+        doThrow(new JmsException("boom") { })
+            .when(jmsTemplate)
+            .convertAndSend(eq("pdpo-queue"), any(), any(MessagePostProcessor.class));
+
+        boolean result = publisher.publishChunked(sampleDetails(), individuals(5));
+
+        assertThat(result).isFalse();
+        verify(jmsTemplate, times(3)).convertAndSend(eq("pdpo-queue"), any(), any(MessagePostProcessor.class));
+    }
+
+    private List<ParticipantIdentifier> individuals(int count) {
+        List<ParticipantIdentifier> individuals = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            individuals.add(ParticipantIdentifier.builder()
+                .identifier("individual-" + index)
+                .type(new TestIdentifierType("DEFENDANT"))
+                .build());
+        }
+        return individuals;
+    }
+
     private PersonalDataProcessingLogDetails sampleDetails() {
         ParticipantIdentifier createdBy = ParticipantIdentifier.builder()
             .identifier("creator-1")
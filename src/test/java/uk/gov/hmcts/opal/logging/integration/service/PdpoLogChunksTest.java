@@ -0,0 +1,62 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+
+class PdpoLogChunksTest {
+
+    private final PersonalDataProcessingLogDetails logDetails = PersonalDataProcessingLogDetails.builder()
+        .businessIdentifier("BUS-1")
+        .category(PersonalDataProcessingCategory.COLLECTION)
+        .build();
+
+    @Test
+    void shouldSendNumberedChunksOfAtMostMaxIndividuals() {
+        List<String> sent = new ArrayList<>();
+
+        boolean result = PdpoLogChunks.sendInChunks(logDetails, individuals(5), 2, (chunk, chunkNumber) -> {
+            sent.add(chunkNumber + ":" + chunk.getIndividuals().size() + ":" + chunk.getBusinessIdentifier());
+            return true;
+        });
+
+        assertThat(result).isTrue();
+        assertThat(sent).containsExactly("1:2:BUS-1", "2:2:BUS-1", "3:1:BUS-1");
+    }
+
+    @Test
+    void shouldSendLogWithoutIndividualsOnce() {
+        List<Integer> sizes = new ArrayList<>();
+
+        PdpoLogChunks.sendInChunks(logDetails, List.of(), 2, (chunk, chunkNumber) ->
+            sizes.add(chunk.getIndividuals().size()));
+
+        assertThat(sizes).containsExactly(0);
+    }
+
+    @Test
+    void shouldStopAtFirstChunkNotAccepted() {
+        List<Integer> attempted = new ArrayList<>();
+
+        boolean result = PdpoLogChunks.sendInChunks(logDetails, individuals(6), 2, (chunk, chunkNumber) -> {
+            attempted.add(chunkNumber);
+            return chunkNumber < 2;
+        });
+
+        assertThat(result).isFalse();
+        assertThat(attempted).containsExactly(1, 2);
+    }
+
+    private static List<ParticipantIdentifier> individuals(int count) {
+        List<ParticipantIdentifier> individuals = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            individuals.add(ParticipantIdentifier.builder().identifier("individual-" + index).build());
+        }
+        return individuals;
+    }
+}
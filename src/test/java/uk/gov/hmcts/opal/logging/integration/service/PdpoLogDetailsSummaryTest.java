@@ -0,0 +1,92 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.opal.logging.integration.dto.IdentifierType;
+import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoLogRecord;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+
+class PdpoLogDetailsSummaryTest {
+
+    @Test
+    void shouldRenderDetails() {
+        PersonalDataProcessingLogDetails details = details(PersonalDataProcessingCategory.DISCLOSURE, 2);
+
+        assertThat(PdpoLogDetailsSummary.of("PDPO", details)).hasToString(
+            "{logType=PDPO, businessIdentifier=BUS-123, createdByIdentifier=creator-1, "
+                + "createdByIdentifierType=OPAL_USER_ID, category=Disclosure, createdAt=2025-01-10T12:34:56.789Z, "
+                + "ipAddress=192.0.2.1, recipientIdentifier=recipient-1, recipientIdentifierType=EXTERNAL_SERVICE, "
+                + "individuals=[{identifier=individual-0, type=DEFENDANT}, {identifier=individual-1, type=DEFENDANT}],"
+                + " individualCount=2}");
+    }
+
+    @Test
+    void shouldCapListedIndividuals() {
+        PersonalDataProcessingLogDetails details = details(PersonalDataProcessingCategory.COLLECTION, 10_000);
+
+        String summary = PdpoLogDetailsSummary.of("PDPO", details).toString();
+
+        assertThat(summary)
+            .doesNotContain("recipientIdentifier")
+            .contains("{identifier=individual-9, type=DEFENDANT}, ...], individualCount=10000}")
+            .doesNotContain("individual-10,");
+        assertThat(summary.length()).isLessThan(1_000);
+    }
+
+    @Test
+    void shouldRenderLogRecordLikeDetails() {
+        PersonalDataProcessingLogDetails details = details(PersonalDataProcessingCategory.DISCLOSURE, 25);
+
+        assertThat(PdpoLogDetailsSummary.of("PDPO", PdpoLogRecord.from(details)))
+            .hasToString(PdpoLogDetailsSummary.of("PDPO", details).toString());
+    }
+
+    @Test
+    void shouldRenderMissingValues() {
+        PersonalDataProcessingLogDetails details = PersonalDataProcessingLogDetails.builder()
+            .individuals(null)
+            .build();
+
+        assertThat(PdpoLogDetailsSummary.of("PDPO", details)).hasToString(
+            "{logType=PDPO, businessIdentifier=<null>, createdByIdentifier=<null>, createdByIdentifierType=<null>, "
+                + "category=<null>, createdAt=<null>, ipAddress=<null>, individuals=[], individualCount=0}");
+        assertThat(PdpoLogDetailsSummary.of("PDPO", (PersonalDataProcessingLogDetails) null))
+            .hasToString("{logType=PDPO, details=<null>}");
+    }
+
+    private PersonalDataProcessingLogDetails details(PersonalDataProcessingCategory category, int individualCount) {
+        List<ParticipantIdentifier> individuals = new ArrayList<>(individualCount);
+        for (int index = 0; index < individualCount; index++) {
+            individuals.add(participant("individual-" + index, "DEFENDANT"));
+        }
+        return PersonalDataProcessingLogDetails.builder()
+            .createdBy(participant("creator-1", "OPAL_USER_ID"))
+            .businessIdentifier("BUS-123")
+            .createdAt(OffsetDateTime.parse("2025-01-10T12:34:56.789Z"))
+            .ipAddress("192.0.2.1")
+            .category(category)
+            .recipient(participant("recipient-1", "EXTERNAL_SERVICE"))
+            .individuals(individuals)
+            .build();
+    }
+
+    private ParticipantIdentifier participant(String identifier, String type) {
+        return ParticipantIdentifier.builder()
+            .identifier(identifier)
+            .type(new TestIdentifierType(type))
+            .build();
+    }
+
+    private record TestIdentifierType(String type) implements IdentifierType {
+        @Override
+        public String getType() {
+            return type;
+        }
+    }
+}
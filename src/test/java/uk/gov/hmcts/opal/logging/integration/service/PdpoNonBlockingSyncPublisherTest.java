@@ -0,0 +1,146 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import tools.jackson.databind.ObjectMapper;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBackoffProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncLatencyProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoOutcomeReporter;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings;
+
+class PdpoNonBlockingSyncPublisherTest {
+
+    private static final String PDPO_ENDPOINT = "/log/pdpo";
+
+    @RegisterExtension
+    static final WireMockExtension WIREMOCK = WireMockExtension.newInstance()
+        .options(WireMockConfiguration.wireMockConfig().dynamicPort())
+        .build();
+
+    private PdpoNonBlockingSyncPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = publisher(Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.destroy();
+    }
+
+    @Test
+    void shouldCompleteWithTrueWhenLogIsCreated() {
+        WIREMOCK.stubFor(post(urlEqualTo(PDPO_ENDPOINT)).willReturn(aResponse().withStatus(201)));
+
+        CompletableFuture<Boolean> result = publisher.publishAsync(sampleDetails());
+
+        assertThat(result.join()).isTrue();
+        WIREMOCK.verify(1, postRequestedFor(urlEqualTo(PDPO_ENDPOINT))
+            .withHeader("Content-Type", equalTo("application/json"))
+            .withRequestBody(matchingJsonPath("$.business_identifier", equalTo("BUS-123"))));
+    }
+
+    @Test
+    void shouldCompleteWithFalseForNullLogDetails() {
+        assertThat(publisher.publishAsync(null).join()).isFalse();
+        WIREMOCK.verify(0, postRequestedFor(urlEqualTo(PDPO_ENDPOINT)));
+    }
+
+    @Test
+    void shouldScheduleRetryAfterServerError() {
+        WIREMOCK.stubFor(post(urlEqualTo(PDPO_ENDPOINT))
+            .inScenario("retry")
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willReturn(aResponse().withStatus(503))
+            .willSetStateTo("recovered"));
+        WIREMOCK.stubFor(post(urlEqualTo(PDPO_ENDPOINT))
+            .inScenario("retry")
+            .whenScenarioStateIs("recovered")
+            .willReturn(aResponse().withStatus(201)));
+
+        assertThat(publisher.publish(sampleDetails())).isTrue();
+        WIREMOCK.verify(2, postRequestedFor(urlEqualTo(PDPO_ENDPOINT)));
+    }
+
+    @Test
+    void shouldWaitForRetryAfterBeforeRetryingThrottledRequest() {
+        WIREMOCK.stubFor(post(urlEqualTo(PDPO_ENDPOINT))
+            .inScenario("throttled")
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "1"))
+            .willSetStateTo("recovered"));
+        WIREMOCK.stubFor(post(urlEqualTo(PDPO_ENDPOINT))
+            .inScenario("throttled")
+            .whenScenarioStateIs("recovered")
+            .willReturn(aResponse().withStatus(201)));
+
+        long started = System.nanoTime();
+
+        assertThat(publisher.publish(sampleDetails())).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(900));
+        WIREMOCK.verify(2, postRequestedFor(urlEqualTo(PDPO_ENDPOINT)));
+    }
+
+    @Test
+    void shouldNotRetryClientError() {
+        WIREMOCK.stubFor(post(urlEqualTo(PDPO_ENDPOINT)).willReturn(aResponse().withStatus(400)));
+
+        assertThat(publisher.publishAsync(sampleDetails()).join()).isFalse();
+        WIREMOCK.verify(1, postRequestedFor(urlEqualTo(PDPO_ENDPOINT)));
+    }
+
+    @Test
+    void shouldCompleteWithFalseWhenRetriesAreExhausted() {
+        WIREMOCK.stubFor(post(urlEqualTo(PDPO_ENDPOINT)).willReturn(aResponse().withStatus(500)));
+
+        assertThat(publisher.publishAsync(sampleDetails()).join()).isFalse();
+        WIREMOCK.verify(3, postRequestedFor(urlEqualTo(PDPO_ENDPOINT)));
+    }
+
+    @Test
+    void shouldStopRetryingWhenDeadlineWouldBeExceeded() {
+        publisher.destroy();
+        publisher = publisher(Duration.ofSeconds(3));
+        WIREMOCK.stubFor(post(urlEqualTo(PDPO_ENDPOINT)).willReturn(aResponse().withStatus(500)));
+
+        assertThat(publisher.publishAsync(sampleDetails()).join()).isFalse();
+        WIREMOCK.verify(1, postRequestedFor(urlEqualTo(PDPO_ENDPOINT)));
+    }
+
+    private PdpoNonBlockingSyncPublisher publisher(Duration deadline) {
+        return new PdpoNonBlockingSyncPublisher(new ObjectMapper(),
+            ReloadableProperties.of(new PdpoSyncProperties(WIREMOCK.getRuntimeInfo().getHttpBaseUrl(),
+                PDPO_ENDPOINT, 3, Duration.ofMillis(10), Duration.ofSeconds(2), Duration.ofSeconds(2))),
+            ReloadableProperties.of(new PdpoSyncLatencyProperties(deadline, false, Duration.ofMillis(500))),
+            ReloadableProperties.of(new PdpoSyncBackoffProperties(2.0, Duration.ofSeconds(1), 0.5)),
+            PdpoMetrics.noop(), PdpoStageTimings.disabled(), PdpoOutcomeReporter.perMessage());
+    }
+
+    private PersonalDataProcessingLogDetails sampleDetails() {
+        return PersonalDataProcessingLogDetails.builder()
+            .businessIdentifier("BUS-123")
+            .category(PersonalDataProcessingCategory.COLLECTION)
+            .build();
+    }
+}
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBulkheadProperties;
+
+class PdpoSyncBulkheadTest {
+
+    @Test
+    void shouldTurnAwayCallersBeyondCapacity() {
+        PdpoSyncBulkhead bulkhead = new PdpoSyncBulkhead(new PdpoSyncBulkheadProperties(true, 2, Duration.ZERO));
+
+        assertThat(bulkhead.tryEnter()).isTrue();
+        assertThat(bulkhead.tryEnter()).isTrue();
+        assertThat(bulkhead.tryEnter()).isFalse();
+        assertThat(bulkhead.inUse()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLetWaitingCallerInWhenAnotherLeaves() throws Exception {
+        PdpoSyncBulkhead bulkhead = new PdpoSyncBulkhead(
+            new PdpoSyncBulkheadProperties(true, 1, Duration.ofSeconds(5)));
+        bulkhead.tryEnter();
+
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(bulkhead::tryEnter);
+        bulkhead.exit();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
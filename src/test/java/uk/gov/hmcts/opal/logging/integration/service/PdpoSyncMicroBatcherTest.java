@@ -0,0 +1,143 @@
+package uk.gov.hmcts.opal.logging.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.opal.logging.integration.client.PdpoSyncClient;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncBatchProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
+import uk.gov.hmcts.opal.logging.integration.dto.PdpoBatchItemResult;
+import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoOutcomeReporter;
+
+@ExtendWith(MockitoExtension.class)
+class PdpoSyncMicroBatcherTest {
+
+    @Mock
+    private PdpoSyncClient pdpoSyncClient;
+
+    @Mock
+    private PdpoAdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Mock
+    private PdpoAdaptiveConcurrencyLimiter.Permit permit;
+
+    private PdpoSyncMicroBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        batcher.destroy();
+    }
+
+    @Test
+    void shouldSendFullBatchInOneRequestAndCompleteEachCallerFromItsResult() {
+        batcher = batcher(Duration.ofMinutes(1), 3);
+        List<PersonalDataProcessingLogDetails> logs = List.of(details("BUS-1"), details("BUS-2"), details("BUS-3"));
+        when(pdpoSyncClient.logPdpoBatch(logs)).thenReturn(List.of(
+            new PdpoBatchItemResult(201, null),
+            new PdpoBatchItemResult(400, "invalid category"),
+            new PdpoBatchItemResult(201, null)));
+
+        List<CompletableFuture<Boolean>> results = logs.stream().map(batcher::submit).toList();
+
+        assertThat(results).extracting(CompletableFuture::join).containsExactly(true, false, true);
+        verify(pdpoSyncClient).logPdpoBatch(logs);
+    }
+
+    @Test
+    void shouldFlushPartialBatchWhenWindowCloses() {
+        batcher = batcher(Duration.ofMillis(10), 50);
+        List<PersonalDataProcessingLogDetails> logs = List.of(details("BUS-1"), details("BUS-2"));
+        when(pdpoSyncClient.logPdpoBatch(logs)).thenReturn(List.of(
+            new PdpoBatchItemResult(201, null),
+            new PdpoBatchItemResult(201, null)));
+
+        CompletableFuture<Boolean> first = batcher.submit(logs.get(0));
+        CompletableFuture<Boolean> second = batcher.submit(logs.get(1));
+
+        assertThat(first.join()).isTrue();
+        assertThat(second.join()).isTrue();
+        verify(pdpoSyncClient, timeout(1000)).logPdpoBatch(logs);
+    }
+
+    @Test
+    void shouldFailEveryCallerWhenBatchRequestFails() {
+        batcher = batcher(Duration.ofMinutes(1), 2);
+        when(pdpoSyncClient.logPdpoBatch(anyList())).thenThrow(new IllegalStateException("connection reset"));
+
+        CompletableFuture<Boolean> first = batcher.submit(details("BUS-1"));
+        CompletableFuture<Boolean> second = batcher.submit(details("BUS-2"));
+
+        assertThat(first.join()).isFalse();
+        assertThat(second.join()).isFalse();
+    }
+
+    @Test
+    void shouldFailCallersMissingFromBulkResponse() {
+        batcher = batcher(Duration.ofMinutes(1), 2);
+        when(pdpoSyncClient.logPdpoBatch(anyList())).thenReturn(List.of(new PdpoBatchItemResult(201, null)));
+
+        CompletableFuture<Boolean> first = batcher.submit(details("BUS-1"));
+        CompletableFuture<Boolean> second = batcher.submit(details("BUS-2"));
+
+        assertThat(first.join()).isTrue();
+        assertThat(second.join()).isFalse();
+    }
+
+    @Test
+    void shouldTakeOneConcurrencySlotPerBulkRequest() {
+        batcher = batcher(Duration.ofMinutes(1), 2);
+        when(concurrencyLimiter.isEnabled()).thenReturn(true);
+        when(concurrencyLimiter.tryAcquire()).thenReturn(permit);
+        when(pdpoSyncClient.logPdpoBatch(anyList())).thenReturn(List.of(
+            new PdpoBatchItemResult(201, null),
+            new PdpoBatchItemResult(400, "invalid category")));
+
+        CompletableFuture<Boolean> first = batcher.submit(details("BUS-1"));
+        CompletableFuture<Boolean> second = batcher.submit(details("BUS-2"));
+
+        assertThat(first.join()).isTrue();
+        assertThat(second.join()).isFalse();
+        verify(concurrencyLimiter, times(1)).tryAcquire();
+        verify(permit, timeout(1000)).complete(PdpoSyncOutcome.SENT);
+    }
+
+    @Test
+    void shouldFailEveryCallerWhenNoConcurrencySlotIsFree() {
+        batcher = batcher(Duration.ofMinutes(1), 2);
+        when(concurrencyLimiter.isEnabled()).thenReturn(true);
+        when(concurrencyLimiter.tryAcquire()).thenReturn(null);
+
+        CompletableFuture<Boolean> first = batcher.submit(details("BUS-1"));
+        CompletableFuture<Boolean> second = batcher.submit(details("BUS-2"));
+
+        assertThat(first.join()).isFalse();
+        assertThat(second.join()).isFalse();
+        verifyNoInteractions(pdpoSyncClient);
+    }
+
+    private PdpoSyncMicroBatcher batcher(Duration window, int maxBatchSize) {
+        return new PdpoSyncMicroBatcher(pdpoSyncClient,
+            ReloadableProperties.of(new PdpoSyncBatchProperties(true, "/log/pdpo/batch", window, maxBatchSize)),
+            concurrencyLimiter, PdpoOutcomeReporter.perMessage());
+    }
+
+    private PersonalDataProcessingLogDetails details(String businessIdentifier) {
+        return PersonalDataProcessingLogDetails.builder()
+            .businessIdentifier(businessIdentifier)
+            .build();
+    }
+}
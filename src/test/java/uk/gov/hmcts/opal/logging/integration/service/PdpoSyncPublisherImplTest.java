@@ -1,7 +1,12 @@
 package uk.gov.hmcts.opal.logging.integration.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import feign.FeignException;
@@ -13,19 +18,32 @@ import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import uk.gov.hmcts.opal.logging.integration.client.PdpoSyncClient;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncDiagnosticsProperties;
+import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncLatencyProperties;
 import uk.gov.hmcts.opal.logging.integration.config.PdpoSyncProperties;
+import uk.gov.hmcts.opal.logging.integration.config.ReloadableProperties;
 import uk.gov.hmcts.opal.logging.integration.dto.IdentifierType;
 import uk.gov.hmcts.opal.logging.integration.dto.ParticipantIdentifier;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingCategory;
 import uk.gov.hmcts.opal.logging.integration.dto.PersonalDataProcessingLogDetails;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoMetrics;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoOutcomeReporter;
+import uk.gov.hmcts.opal.logging.integration.metrics.PdpoStageTimings;
 
 @ExtendWith(MockitoExtension.class)
 class PdpoSyncPublisherImplTest {
@@ -33,6 +51,21 @@ class PdpoSyncPublisherImplTest {
     @Mock
     private PdpoSyncClient pdpoSyncClient;
 
+    @Mock
+    private PdpoSyncMicroBatcher microBatcher;
+
+    @Mock
+    private PdpoAdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Mock
+    private PdpoAdaptiveConcurrencyLimiter.Permit permit;
+
+    @Mock
+    private PdpoAdaptiveConcurrencyLimiter.Permit hedgePermit;
+
+    @Mock
+    private PdpoSyncBulkhead bulkhead;
+
     private PdpoSyncProperties properties;
 
     private PdpoSyncPublisherImpl publisher;
@@ -47,7 +80,12 @@ class PdpoSyncPublisherImplTest {
             Duration.ofSeconds(2),
             Duration.ofSeconds(5)
         );
-        publisher = new PdpoSyncPublisherImpl(pdpoSyncClient, properties);
+        publisher = publisher(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.destroy();
     }
 
     @Test
@@ -62,6 +100,203 @@ class PdpoSyncPublisherImplTest {
         verify(pdpoSyncClient).logPdpo(details);
     }
 
+    @Test
+    void shouldRejectNullLogDetailsWithoutCallingLoggingService() {
+        assertThat(publisher.publish(null)).isFalse();
+        assertThat(publisher.publishWithOutcome(null)).isEqualTo(PdpoSyncOutcome.REJECTED);
+        verifyNoInteractions(pdpoSyncClient, bulkhead, concurrencyLimiter);
+    }
+
+    @Test
+    void shouldHandOffToMicroBatcherWhenEnabled() {
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        when(microBatcher.isEnabled()).thenReturn(true);
+        when(microBatcher.submit(details)).thenReturn(CompletableFuture.completedFuture(true));
+
+        boolean result = publisher.publish(details);
+
+        assertThat(result).isTrue();
+        verifyNoInteractions(pdpoSyncClient);
+    }
+
+    @Test
+    void shouldSendHedgedRequestWithSameIdempotencyKeyWhenPrimaryIsSlow() throws Exception {
+        publisher.destroy();
+        publisher = publisher(true);
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        CountDownLatch releasePrimary = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(pdpoSyncClient.logPdpo(anyString(), eq(details))).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                releasePrimary.await(5, TimeUnit.SECONDS);
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        });
+
+        boolean result = publisher.publish(details);
+        releasePrimary.countDown();
+
+        assertThat(result).isTrue();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(pdpoSyncClient, times(2)).logPdpo(keys.capture(), eq(details));
+        assertThat(keys.getAllValues().get(0)).isNotBlank().isEqualTo(keys.getAllValues().get(1));
+    }
+
+    @Test
+    void shouldSendFirstHedgedAttemptOnCallingThread() {
+        publisher.destroy();
+        publisher = publisher(true);
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        List<Thread> senders = new CopyOnWriteArrayList<>();
+        when(pdpoSyncClient.logPdpo(anyString(), eq(details))).thenAnswer(invocation -> {
+            senders.add(Thread.currentThread());
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        });
+
+        assertThat(publisher.publish(details)).isTrue();
+        assertThat(senders).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void shouldWaitForHedgedRequestNoLongerThanDeadline() {
+        publisher.destroy();
+        publisher = publisher(true, Duration.ofMillis(300));
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        CountDownLatch releaseHedge = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(pdpoSyncClient.logPdpo(anyString(), eq(details))).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                Thread.sleep(100);
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            releaseHedge.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        });
+        long started = System.nanoTime();
+
+        boolean result = publisher.publish(details);
+        releaseHedge.countDown();
+
+        assertThat(result).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void shouldTakeOwnConcurrencyPermitForHedgedRequest() {
+        publisher.destroy();
+        publisher = publisher(true);
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        when(concurrencyLimiter.isEnabled()).thenReturn(true);
+        when(concurrencyLimiter.tryAcquire()).thenReturn(permit, hedgePermit);
+        CountDownLatch releasePrimary = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(pdpoSyncClient.logPdpo(anyString(), eq(details))).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                releasePrimary.await(5, TimeUnit.SECONDS);
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        });
+
+        boolean result = publisher.publish(details);
+        releasePrimary.countDown();
+
+        assertThat(result).isTrue();
+        verify(hedgePermit, timeout(1000)).complete(PdpoSyncOutcome.SENT);
+        verify(permit, timeout(1000)).complete(PdpoSyncOutcome.SENT);
+        verify(concurrencyLimiter, times(2)).tryAcquire();
+    }
+
+    @Test
+    void shouldSkipHedgeWhenNoConcurrencyPermitIsFree() {
+        publisher.destroy();
+        publisher = publisher(true);
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        when(concurrencyLimiter.isEnabled()).thenReturn(true);
+        when(concurrencyLimiter.tryAcquire()).thenReturn(permit, (PdpoAdaptiveConcurrencyLimiter.Permit) null);
+        when(pdpoSyncClient.logPdpo(anyString(), eq(details))).thenAnswer(invocation -> {
+            Thread.sleep(150);
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        });
+
+        assertThat(publisher.publish(details)).isTrue();
+        verify(pdpoSyncClient, times(1)).logPdpo(anyString(), eq(details));
+        verify(permit).complete(PdpoSyncOutcome.SENT);
+    }
+
+    @Test
+    void shouldSkipHedgeWhenBulkheadIsFull() {
+        publisher.destroy();
+        publisher = publisher(true);
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        when(bulkhead.isEnabled()).thenReturn(true);
+        when(bulkhead.tryEnter()).thenReturn(true, false);
+        when(pdpoSyncClient.logPdpo(anyString(), eq(details))).thenAnswer(invocation -> {
+            Thread.sleep(150);
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        });
+
+        assertThat(publisher.publish(details)).isTrue();
+        verify(pdpoSyncClient, times(1)).logPdpo(anyString(), eq(details));
+        verify(bulkhead, times(1)).exit();
+    }
+
+    @Test
+    void shouldNotHedgeWhenPrimaryAnswersWithinHedgeDelay() {
+        publisher.destroy();
+        publisher = publisher(true);
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        when(pdpoSyncClient.logPdpo(anyString(), eq(details)))
+            .thenReturn(ResponseEntity.status(HttpStatus.CREATED).build());
+
+        assertThat(publisher.publish(details)).isTrue();
+        verify(pdpoSyncClient, times(1)).logPdpo(anyString(), eq(details));
+    }
+
+    @Test
+    void shouldReportOutcomeToConcurrencyLimiter() {
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        when(concurrencyLimiter.isEnabled()).thenReturn(true);
+        when(concurrencyLimiter.tryAcquire()).thenReturn(permit);
+        when(pdpoSyncClient.logPdpo(details)).thenThrow(retryableException());
+
+        assertThat(publisher.publish(details)).isFalse();
+        verify(permit).complete(PdpoSyncOutcome.FAILED);
+    }
+
+    @Test
+    void shouldNotCallLoggingServiceAboveConcurrencyLimit() {
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        when(concurrencyLimiter.isEnabled()).thenReturn(true);
+        when(concurrencyLimiter.tryAcquire()).thenReturn(null);
+
+        assertThat(publisher.publish(details)).isFalse();
+        verifyNoInteractions(pdpoSyncClient);
+    }
+
+    @Test
+    void shouldFailFastWithDistinctOutcomeWhenBulkheadIsFull() {
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        when(bulkhead.isEnabled()).thenReturn(true);
+        when(bulkhead.tryEnter()).thenReturn(false);
+
+        assertThat(publisher.publishWithOutcome(details)).isEqualTo(PdpoSyncOutcome.BULKHEAD_FULL);
+        verifyNoInteractions(pdpoSyncClient);
+    }
+
+    @Test
+    void shouldLeaveBulkheadAfterCall() {
+        PersonalDataProcessingLogDetails details = sampleDetails();
+        when(bulkhead.isEnabled()).thenReturn(true);
+        when(bulkhead.tryEnter()).thenReturn(true);
+        when(pdpoSyncClient.logPdpo(details)).thenThrow(notFoundException());
+
+        assertThat(publisher.publishWithOutcome(details)).isEqualTo(PdpoSyncOutcome.REJECTED);
+        verify(bulkhead).exit();
+    }
+
     @Test
     void shouldReturnFalseForUnexpectedStatus() {
         PersonalDataProcessingLogDetails details = sampleDetails();
@@ -134,6 +369,16 @@ class PdpoSyncPublisherImplTest {
         verify(pdpoSyncClient).logPdpo(details);
     }
 
+    @Test
+    void shouldClassifyOutcomeByStatusCode() {
+        assertThat(PdpoSyncPublisherImpl.classify(201)).isEqualTo(PdpoSyncOutcome.SENT);
+        assertThat(PdpoSyncPublisherImpl.classify(200)).isEqualTo(PdpoSyncOutcome.REJECTED);
+        assertThat(PdpoSyncPublisherImpl.classify(422)).isEqualTo(PdpoSyncOutcome.REJECTED);
+        assertThat(PdpoSyncPublisherImpl.classify(429)).isEqualTo(PdpoSyncOutcome.FAILED);
+        assertThat(PdpoSyncPublisherImpl.classify(503)).isEqualTo(PdpoSyncOutcome.FAILED);
+        assertThat(PdpoSyncPublisherImpl.classify(-1)).isEqualTo(PdpoSyncOutcome.FAILED);
+    }
+
     private FeignException notFoundException() {
         Request request = Request.create(
             Request.HttpMethod.POST,
@@ -208,4 +453,17 @@ class PdpoSyncPublisherImplTest {
             return type;
         }
     }
+
+    private PdpoSyncPublisherImpl publisher(boolean hedgeEnabled) {
+        return publisher(hedgeEnabled, Duration.ZERO);
+    }
+
+    private PdpoSyncPublisherImpl publisher(boolean hedgeEnabled, Duration deadline) {
+        Duration hedgeDelay = hedgeEnabled ? Duration.ofMillis(50) : Duration.ofSeconds(1);
+        return new PdpoSyncPublisherImpl(pdpoSyncClient, ReloadableProperties.of(properties),
+            ReloadableProperties.of(new PdpoSyncLatencyProperties(deadline, hedgeEnabled, hedgeDelay)),
+            ReloadableProperties.of(new PdpoSyncDiagnosticsProperties(false, 256)),
+            microBatcher, concurrencyLimiter, bulkhead, PdpoMetrics.noop(),
+            PdpoStageTimings.disabled(), PdpoOutcomeReporter.perMessage());
+    }
 }